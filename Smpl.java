@@ -0,0 +1,109 @@
+package smpl;
+
+import java.io.*;
+import smpl.semantics.*;
+import smpl.syntax.*;
+import smpl.sys.SmplException;
+import smpl.values.SmplValue;
+import smpl.vm.SmplVM;
+
+/**
+ * Command line entry point: runs each SMPL file named on the command
+ * line, or standard input if none are given, in a fresh global
+ * environment.
+ *
+ * Usage: java smpl.Smpl [-tree | -closure | -vm] [-o output] [file ...]
+ *
+ * The mode chooses the execution engine: <code>-tree</code> (the
+ * default) walks the AST with <code>SmplEvaluator</code>,
+ * <code>-closure</code> has the evaluator build a closure tree of the
+ * program first (see <code>smpl.closure</code>), and <code>-vm</code>
+ * compiles the program for the register machine in <code>smpl.vm</code>.
+ * Printed output goes to standard output, or to the file given with
+ * <code>-o</code>; either way it is buffered (see <code>Output</code>)
+ * and flushed when the programs finish.
+ */
+public class Smpl {
+
+    public enum Mode { TREE, CLOSURE, VM }
+
+    Mode mode;
+    Output output;
+
+    public Smpl(Mode mode) {
+	this(mode, Output.stdout());
+    }
+
+    public Smpl(Mode mode, Output output) {
+	this.mode = mode;
+	this.output = output;
+    }
+
+    public static SmplProgram parse(Reader in) throws Exception {
+	SMPLParser parser = new SMPLParser(new smplLexer(in));
+	return (SmplProgram) parser.parse().value;
+    }
+
+    /**
+     * Run a parsed program in the given global environment with this
+     * launcher's execution engine.
+     */
+    public SmplValue run(SmplProgram p, Environment env) throws SmplException {
+	SmplEvaluator evaluator = new SmplEvaluator(mode == Mode.CLOSURE);
+	evaluator.setOutput(output);
+	if (mode == Mode.VM)
+	    return new SmplVM(evaluator).run(p, env);
+	return p.visit(evaluator, env);
+    }
+
+    public static void main(String[] args) {
+	Mode mode = Mode.TREE;
+	String outFile = null;
+	int i = 0;
+	for (; i < args.length && args[i].startsWith("-"); i++) {
+	    if (args[i].equals("-vm"))
+		mode = Mode.VM;
+	    else if (args[i].equals("-closure"))
+		mode = Mode.CLOSURE;
+	    else if (args[i].equals("-tree"))
+		mode = Mode.TREE;
+	    else if (args[i].equals("-o") && i + 1 < args.length)
+		outFile = args[++i];
+	    else {
+		System.err.println("Unknown option " + args[i]);
+		System.exit(1);
+	    }
+	}
+
+	Output output = Output.stdout();
+	String error = null;
+	try {
+	    if (outFile != null)
+		output = Output.toFile(java.nio.file.Paths.get(outFile));
+	    Smpl smpl = new Smpl(mode, output);
+	    if (i == args.length)
+		smpl.run(parse(new InputStreamReader(System.in)), Environment.makeGlobalEnv());
+	    for (; i < args.length; i++)
+		try (Reader in = new FileReader(args[i])) {
+		    smpl.run(parse(in), Environment.makeGlobalEnv());
+		}
+	} catch (SmplException e) {
+	    error = e.getMessage();
+	} catch (Exception e) {
+	    error = "Error: " + e.getMessage();
+	} finally {
+	    // whatever was printed comes out before any error message, and
+	    // before an Error such as StackOverflowError ends the run
+	    try {
+		output.close();
+	    } catch (IOException e) {
+		if (error == null)
+		    error = "Error: " + e.getMessage();
+	    }
+	}
+	if (error != null) {
+	    System.err.println(error);
+	    System.exit(1);
+	}
+    }
+}
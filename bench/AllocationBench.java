@@ -0,0 +1,70 @@
+package smpl.bench;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.file.*;
+import smpl.semantics.*;
+import smpl.syntax.*;
+
+/**
+ * Measures how many bytes the evaluator allocates per procedure call
+ * while running <code>examples-2017/fib.smpl</code> with an extra call
+ * to <code>fib(N)</code> appended, using the per-thread allocation
+ * counter of the HotSpot <code>ThreadMXBean</code>.
+ *
+ * Usage: java smpl.bench.AllocationBench [path/to/fib.smpl] [N] [runs]
+ */
+public class AllocationBench {
+
+    public static void main(String[] args) throws Exception {
+	String file = args.length > 0 ? args[0] : "examples-2017/fib.smpl";
+	int n = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+	int runs = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+	String src = new String(Files.readAllBytes(Paths.get(file))) + "\nfib(" + n + ");\n";
+	SmplProgram prog = parse(src);
+
+	// fib.smpl calls fib(10) (177 calls) and fibIter(10) (10 calls);
+	// fib(n) itself makes 2 * fib(n) - 1 calls
+	long calls = 177 + 10 + 2 * fib(n) - 1;
+
+	com.sun.management.ThreadMXBean mx =
+	    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	long tid = Thread.currentThread().getId();
+
+	// printed output stays in memory rather than going to stdout
+	Output out = Output.toBuffer();
+
+	// warm up, then measure
+	for (int i = 0; i < runs; i++)
+	    run(prog, out);
+	long before = mx.getThreadAllocatedBytes(tid);
+	for (int i = 0; i < runs; i++)
+	    run(prog, out);
+	long bytes = mx.getThreadAllocatedBytes(tid) - before;
+
+	System.out.printf("%s + fib(%d): %d calls/run, %d bytes/run, %.1f bytes/call%n",
+			  file, n, calls, bytes / runs, (double) bytes / (runs * calls));
+    }
+
+    static SmplProgram parse(String src) throws Exception {
+	SMPLParser parser = new SMPLParser(new smplLexer(new StringReader(src)));
+	return (SmplProgram) parser.parse().value;
+    }
+
+    static void run(SmplProgram prog, Output out) throws Exception {
+	SmplEvaluator ev = new SmplEvaluator();
+	ev.setOutput(out);
+	prog.visit(ev, Environment.makeGlobalEnv());
+    }
+
+    static long fib(int n) {
+	long a = 1, b = 1;
+	for (int i = 1; i < n; i++) {
+	    long t = a + b;
+	    a = b;
+	    b = t;
+	}
+	return b;
+    }
+}
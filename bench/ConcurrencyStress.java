@@ -0,0 +1,146 @@
+package smpl.bench;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import smpl.semantics.*;
+import smpl.syntax.*;
+
+/**
+ * Runs the same parsed programs on many threads at once and checks that
+ * every run gives the result and output it gives when run alone.  Each
+ * program is parsed once, so the threads share its AST and the run-time
+ * state cached in it (lexical addresses, call site caches, compiled
+ * procedure bodies), as well as the builtin prelude; each run has a
+ * global environment of its own.
+ *
+ * Two rounds are run on platform threads and then on virtual threads:
+ * one in which all runs share a single evaluator, checking results and
+ * the total output, and one in which each run has an evaluator forked
+ * from it with an output of its own, checking output exactly.
+ *
+ * Usage: java smpl.bench.ConcurrencyStress [threads] [runs] [file.smpl ...]
+ */
+public class ConcurrencyStress {
+
+    static final String[] PROGRAMS = {
+	// recursion and arithmetic, enough calls to compile fib
+	"def fib proc(n) if n <= 1 then 1 else fib(n - 1) + fib(n - 2);\n" +
+	"println(fib(15));\n" +
+	"fib(18);\n",
+
+	// closures and a non-local helper
+	"def f proc(n) proc(m) m + n;\n" +
+	"def sum proc(g, i, acc) if i = 0 then acc else sum(g, i - 1, acc + g(i));\n" +
+	"println(sum(f(3), 200, 0));\n" +
+	"sum(f(7), 2000, 0);\n",
+
+	// vectors and builtins looked up through the prelude
+	"def v [: 50 : proc(n) n * n :];\n" +
+	"println(v);\n" +
+	"def total proc(i) if i = 0 then 0 else v[i - 1] + total(i - 1);\n" +
+	"total(50);\n",
+    };
+
+    public static void main(String[] args) throws Exception {
+	int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+	int runs = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+	List<String> sources = new ArrayList<>();
+	for (int i = 2; i < args.length; i++)
+	    sources.add(new String(Files.readAllBytes(Paths.get(args[i]))));
+	if (sources.isEmpty())
+	    sources.addAll(Arrays.asList(PROGRAMS));
+
+	for (boolean closures : new boolean[] {false, true}) {
+	    // expected results, each program run alone on its own copy
+	    int n = sources.size();
+	    SmplProgram[] progs = new SmplProgram[n];
+	    String[] results = new String[n];
+	    String[] outputs = new String[n];
+	    for (int i = 0; i < n; i++) {
+		SmplEvaluator ev = new SmplEvaluator(closures);
+		Output out = Output.toBuffer();
+		ev.setOutput(out);
+		results[i] = String.valueOf(parse(sources.get(i)).visit(ev, Environment.makeGlobalEnv()));
+		outputs[i] = out.getText();
+		progs[i] = parse(sources.get(i));
+	    }
+
+	    SmplEvaluator shared = new SmplEvaluator(closures);
+	    String mode = closures ? "closures" : "tree walking";
+	    for (boolean virtual : new boolean[] {false, true}) {
+		ExecutorService pool = virtual
+		    ? Executors.newVirtualThreadPerTaskExecutor()
+		    : Executors.newFixedThreadPool(threads);
+		String kind = virtual ? "virtual" : threads + " platform";
+		try {
+		    check(mode + ", shared evaluator, " + kind + " threads",
+			  pool, progs, results, outputs, runs, shared, true);
+		    check(mode + ", forked evaluators, " + kind + " threads",
+			  pool, progs, results, outputs, runs, shared, false);
+		} finally {
+		    pool.shutdown();
+		}
+	    }
+	}
+    }
+
+    static void check(String name, ExecutorService pool, SmplProgram[] progs,
+		      String[] results, String[] outputs, int runs,
+		      SmplEvaluator shared, boolean share) throws Exception {
+	Output common = Output.toBuffer();
+	shared.setOutput(common);
+	AtomicInteger failures = new AtomicInteger();
+	CountDownLatch start = new CountDownLatch(1);
+	List<Future<?>> done = new ArrayList<>();
+	long expectedLength = 0;
+	long begin = System.nanoTime();
+	for (int r = 0; r < runs; r++) {
+	    int i = r % progs.length;
+	    if (share)
+		expectedLength += outputs[i].length();
+	    done.add(pool.submit(() -> {
+		start.await();
+		SmplEvaluator ev = shared;
+		Output out = null;
+		if (!share) {
+		    ev = shared.fork();
+		    out = Output.toBuffer();
+		    ev.setOutput(out);
+		}
+		String result = String.valueOf(progs[i].visit(ev, Environment.makeGlobalEnv()));
+		if (!result.equals(results[i])) {
+		    failures.incrementAndGet();
+		    System.err.println(name + ": program " + i + " returned " + result +
+				       ", not " + results[i]);
+		} else if (out != null && !out.getText().equals(outputs[i])) {
+		    failures.incrementAndGet();
+		    System.err.println(name + ": program " + i + " printed\n" + out.getText() +
+				       "not\n" + outputs[i]);
+		}
+		return null;
+	    }));
+	}
+	start.countDown();
+	for (Future<?> f : done)
+	    f.get();
+	long millis = (System.nanoTime() - begin) / 1000000;
+
+	if (share && common.getText().length() != expectedLength) {
+	    failures.incrementAndGet();
+	    System.err.println(name + ": printed " + common.getText().length() +
+			       " characters, not " + expectedLength);
+	}
+	System.out.printf("%s: %d runs in %d ms, %d failures%n", name, runs, millis, failures.get());
+	if (failures.get() > 0)
+	    System.exit(1);
+    }
+
+    static SmplProgram parse(String src) throws Exception {
+	SMPLParser parser = new SMPLParser(new smplLexer(new StringReader(src)));
+	return (SmplProgram) parser.parse().value;
+    }
+}
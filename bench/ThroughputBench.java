@@ -0,0 +1,70 @@
+package smpl.bench;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import smpl.Smpl;
+import smpl.semantics.Environment;
+import smpl.semantics.Output;
+import smpl.syntax.SmplProgram;
+
+/**
+ * Compares how fast the tree walking evaluator, the closure compiler and
+ * the register machine run each of the example programs.  Every program
+ * is parsed once and the same AST is run by each engine in turn, since
+ * what one engine caches in it (closure bodies, say) is never used by
+ * another; it is run repeatedly (output is discarded), and the time
+ * reported is the mean over the measured runs, after warming up.
+ *
+ * Usage: java smpl.bench.ThroughputBench [dir] [runs]
+ */
+public class ThroughputBench {
+
+    public static void main(String[] args) throws Exception {
+	String dir = args.length > 0 ? args[0] : "examples-2017";
+	int runs = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+	ArrayList<Path> files = new ArrayList<>();
+	try (DirectoryStream<Path> ds = Files.newDirectoryStream(Paths.get(dir), "*.smpl")) {
+	    for (Path f : ds)
+		files.add(f);
+	}
+	Collections.sort(files);
+
+	System.out.printf("%-24s %12s %12s %12s %8s %8s%n", "program",
+			  "tree (us)", "closure (us)", "vm (us)", "closure", "vm");
+	for (Path f : files) {
+	    SmplProgram prog;
+	    try (Reader in = Files.newBufferedReader(f)) {
+		prog = Smpl.parse(in);
+	    } catch (Exception e) {
+		System.out.printf("%-24s %s%n", f.getFileName(), "does not parse");
+		continue;
+	    }
+	    double tree = time(Smpl.Mode.TREE, prog, runs);
+	    double closure = time(Smpl.Mode.CLOSURE, prog, runs);
+	    double vm = time(Smpl.Mode.VM, prog, runs);
+	    System.out.printf("%-24s %12.1f %12.1f %12.1f %7.2fx %7.2fx%n", f.getFileName(),
+			      tree, closure, vm, tree / closure, tree / vm);
+	}
+    }
+
+    /**
+     * Return the mean time, in microseconds, the given engine takes to
+     * run the program, or NaN if the program raises an error.  What the
+     * program prints is kept in memory and dropped.
+     */
+    static double time(Smpl.Mode mode, SmplProgram prog, int runs) {
+	Smpl engine = new Smpl(mode, Output.toBuffer());
+	try {
+	    for (int i = 0; i < runs; i++)
+		engine.run(prog, Environment.makeGlobalEnv());
+	    long start = System.nanoTime();
+	    for (int i = 0; i < runs; i++)
+		engine.run(prog, Environment.makeGlobalEnv());
+	    return (System.nanoTime() - start) / (runs * 1000.0);
+	} catch (Exception e) {
+	    return Double.NaN;
+	}
+    }
+}
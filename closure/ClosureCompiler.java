@@ -0,0 +1,565 @@
+package smpl.closure;
+
+import smpl.semantics.*;
+import smpl.syntax.*;
+import smpl.sys.SmplException;
+import smpl.sys.SmplTypeException;
+import smpl.values.*;
+import java.util.*;
+
+/**
+ * The <code>ClosureCompiler</code> turns a resolved program into a tree
+ * of <code>Node</code> lambdas, once, before it is run.  Each visit
+ * method returns the node for its AST node, with the node's children
+ * already compiled and its fields (lexical addresses, literals,
+ * operators) captured, so running the tree does no visitor dispatch and
+ * no re-reading of the AST.
+ *
+ * The body of every procedure expression is compiled too, and installed
+ * as the procedure's compiled body, which the evaluator runs whenever
+ * the procedure is applied.  Calls therefore still go through
+ * <code>SmplEvaluator.apply</code>, and tail calls through its
+ * trampoline.  Nodes with no closure form of their own are handed to
+ * <code>SmplEvaluator.eval</code>.
+ */
+public class ClosureCompiler implements Visitor<Void, Node> {
+
+	protected ClosureCompiler() {
+	}
+
+	/**
+	 * Compile the given program, resolving it first if need be.
+	 *
+	 * @return the node that runs the program in a global environment
+	 */
+	public static Node compile(SmplProgram p) throws SmplException {
+		Resolver.resolve(p);
+		return p.getSeq().visit(new ClosureCompiler(), null);
+	}
+
+	// helpers
+
+	protected Node compile(ASTNode node) throws SmplException {
+		return node.visit(this, null);
+	}
+
+	protected Node[] compile(ArrayList<? extends ASTNode> nodes) throws SmplException {
+		Node[] result = new Node[nodes.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = compile(nodes.get(i));
+		return result;
+	}
+
+	/**
+	 * Compile an expression whose value is needed itself, as an operand,
+	 * a condition or the procedure of a call, say: a lazy value is forced.
+	 */
+	protected Node strict(Exp e) throws SmplException {
+		Node n = compile(e);
+		if (e.neverLazy())
+			return n;
+		return (ev, f) -> SmplThunk.demand(n.exec(ev, f));
+	}
+
+	/** Hand the given node to the tree walking evaluator at run time. */
+	protected Node fallback(ASTNode node) {
+		return (ev, f) -> ev.eval(node, f);
+	}
+
+	/**
+	 * Hand a node that may be in tail position to the evaluator, leaving
+	 * any tail call it makes for the trampoline, as compiled tail calls
+	 * do.
+	 */
+	protected Node fallbackTail(ASTNode node) {
+		return (ev, f) -> ev.evalTail(node, f);
+	}
+
+	protected static SmplValue unbound(String id) throws SmplException {
+		throw new SmplException("Unbound variable " + id);
+	}
+
+	protected static boolean test(SmplValue cond) throws SmplException {
+		try {
+			return cond.boolValue();
+		} catch (Exception e) {
+			throw new SmplException("Condition must evaluate to a boolean.");
+		}
+	}
+
+	protected static SmplValue pairPart(SmplValue v, boolean first) throws SmplException {
+		SmplTypes type = v.getType();
+		if (type == SmplTypes.EMPTYLIST)
+			throw new SmplException((first ? "car" : "cdr") + " of the empty list");
+		if (type != SmplTypes.PAIR && type != SmplTypes.LIST)
+			throw new SmplTypeException(SmplTypes.PAIR, type);
+		return first ? ((SmplPair) v).getFirstValue() : ((SmplPair) v).getSecondValue();
+	}
+
+	protected Node sequence(Node[] nodes) {
+		if (nodes.length == 0) {
+			SmplValue zero = SmplValue.make(0);
+			return (ev, f) -> zero;
+		}
+		if (nodes.length == 1)
+			return nodes[0];
+		return (ev, f) -> {
+			SmplValue val = null;
+			for (Node n : nodes)
+				val = n.exec(ev, f);
+			return val;
+		};
+	}
+
+	protected Node load(String id, int depth, int index) {
+		if (index < 0)
+			return (ev, f) -> SmplThunk.demand(f.get(id));
+		switch (depth) {
+		case 0:
+			return (ev, f) -> {
+				SmplValue v = f.getLocal(index);
+				return v != null ? SmplThunk.demand(v) : unbound(id);
+			};
+		case 1:
+			return (ev, f) -> {
+				SmplValue v = f.getParent().getLocal(index);
+				return v != null ? SmplThunk.demand(v) : unbound(id);
+			};
+		default:
+			return (ev, f) -> {
+				SmplValue v = f.get(depth, index);
+				return v != null ? SmplThunk.demand(v) : unbound(id);
+			};
+		}
+	}
+
+	/** A compiled condition, which yields a boolean without boxing it. */
+	interface Test {
+		boolean test(SmplEvaluator ev, Environment frame) throws SmplException;
+	}
+
+	protected Test compileTest(Exp con) throws SmplException {
+		if (con instanceof ExpCompare) {
+			ExpCompare cmp = (ExpCompare) con;
+			Node l = compile(cmp.getExpL()), r = compile(cmp.getExpR());
+			return (ev, f) -> {
+				SmplValue lv = l.exec(ev, f);
+				return cmp.test(lv, r.exec(ev, f));
+			};
+		}
+		Node c = strict(con);
+		return (ev, f) -> test(c.exec(ev, f));
+	}
+
+	protected Node compileIf(Exp con, Exp ifArg, Exp elseArg) throws SmplException {
+		Node t = compile(ifArg);
+		if (elseArg == null) {
+			// the value of a one armed if with a false condition is the condition
+			if (con instanceof ExpCompare) {
+				Test c = compileTest(con);
+				return (ev, f) -> c.test(ev, f) ? t.exec(ev, f) : SmplValue.make(false);
+			}
+			Node c = strict(con);
+			return (ev, f) -> {
+				SmplValue v = c.exec(ev, f);
+				return test(v) ? t.exec(ev, f) : v;
+			};
+		}
+		Test c = compileTest(con);
+		Node e = compile(elseArg);
+		return (ev, f) -> c.test(ev, f) ? t.exec(ev, f) : e.exec(ev, f);
+	}
+
+	// program
+
+	@Override
+	public Node visitSmplProgram(SmplProgram p, Void arg) throws SmplException {
+		return compile(p.getSeq());
+	}
+
+	// statements
+
+	@Override
+	public Node visitBinding(Binding b, Void arg) throws SmplException {
+		return compile(b.getValExp());
+	}
+
+	@Override
+	public Node visitStmtSequence(StmtSequence sseq, Void arg) throws SmplException {
+		return sequence(compile(sseq.getSeq()));
+	}
+
+	@Override
+	public Node visitStatement(Statement s, Void arg) throws SmplException {
+		return fallback(s);
+	}
+
+	@Override
+	public Node visitStmtDefinition(StmtDefinition sd, Void arg) throws SmplException {
+		int[] slots = sd.getSlots();
+		if (sd.getVectorRef() != null || slots == null || sd.getExps().size() != slots.length)
+			return fallback(sd);
+
+		Node[] exps = compile(sd.getExps());
+		SmplValue done = SmplValue.make(true);
+		return (ev, f) -> {
+			for (int i = 0; i < slots.length; i++)
+				f.putLocal(slots[i], exps[i].exec(ev, f));
+			return done;
+		};
+	}
+
+	@Override
+	public Node visitStmtLet(StmtLet let, Void arg) throws SmplException {
+		ArrayList<Binding> bindings = let.getBindings();
+		Node[] vals = new Node[bindings.size()];
+		for (int i = 0; i < vals.length; i++)
+			vals[i] = compile(bindings.get(i).getValExp());
+		Node body = compile(let.getBody());
+		int size = let.getFrameSize();
+		return (ev, f) -> {
+			Environment frame = Frame.make(size, f);
+			for (int i = 0; i < vals.length; i++)
+				frame.putLocal(i, vals[i].exec(ev, f));
+			return body.exec(ev, frame);
+		};
+	}
+
+	@Override
+	public Node visitPrintStmt(StmtPrint sp, Void arg) throws SmplException {
+		Node e = compile(sp.getExp());
+		return (ev, f) -> {
+			SmplValue v = e.exec(ev, f);
+			ev.print(v, false);
+			return v;
+		};
+	}
+
+	@Override
+	public Node visitPrintLnStmt(StmtPrintLn sp, Void arg) throws SmplException {
+		Node e = compile(sp.getExp());
+		return (ev, f) -> {
+			SmplValue v = e.exec(ev, f);
+			ev.print(v, true);
+			return v;
+		};
+	}
+
+	// expressions
+
+	@Override
+	public Node visitExp(Exp exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpAdd(ExpAdd exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpSub(ExpSub exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpMul(ExpMul exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpDiv(ExpDiv exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpMod(ExpMod exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpPow(ExpPow exp, Void arg) throws SmplException {
+		Node l = strict(exp.getExpL()), r = strict(exp.getExpR());
+		return (ev, f) -> l.exec(ev, f).pow(r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpLit(ExpLit exp, Void arg) throws SmplException {
+		SmplValue v = exp.getVal();
+		return (ev, f) -> v;
+	}
+
+	@Override
+	public Node visitExpVar(ExpVar exp, Void arg) throws SmplException {
+		return load(exp.getVar(), exp.getDepth(), exp.getIndex());
+	}
+
+	@Override
+	public Node visitExpProcedure(ExpProc proc, Void arg) throws SmplException {
+		Node body = proc.getBody() != null ? compile(proc.getBody())
+						   : sequence(compile(proc.getExpressions()));
+		proc.setClosure(body::exec);
+		return (ev, f) -> new SmplProcedure(proc, f);
+	}
+
+	@Override
+	public Node visitExpProcedureCall(ExpProcedureCall exp, Void arg) throws SmplException {
+		Node callee = strict(exp.getProcExp());
+		Node[] args = compile(exp.getArgs());
+		boolean tail = exp.isTail();
+		CallCache cache = exp.getCache();
+		return (ev, f) -> {
+			SmplValue p = callee.exec(ev, f);
+			if (p.getType() != SmplTypes.PROCEDURE)
+				throw new SmplTypeException(SmplTypes.PROCEDURE, p.getType());
+			SmplProcedure proc = (SmplProcedure) p;
+			SmplValue[] vals = new SmplValue[args.length];
+			for (int i = 0; i < vals.length; i++)
+				vals[i] = args[i].exec(ev, f);
+			if (proc instanceof SmplBuiltin)
+				return ((SmplBuiltin) proc).call(ev, vals);
+			BindingPlan plan = cache.lookup(proc.getProcExp());
+			return ev.call(proc, plan.bind(vals, proc.getClosingEnv()), tail);
+		};
+	}
+
+	@Override
+	public Node visitExpPair(ExpPair exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> {
+			SmplValue v1 = l.exec(ev, f), v2 = r.exec(ev, f);
+			if (v2.getType() == SmplTypes.LIST || v2.getType() == SmplTypes.EMPTYLIST)
+				return SmplValue.makeList(v1, (SmplList) v2);
+			return SmplValue.makePair(v1, v2);
+		};
+	}
+
+	@Override
+	public Node visitExpList(ExpList exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpVector(ExpVector exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpSubVector(ExpSubVector exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpSize(ExpSize exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpVectorRef(ExpVectorRef exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpPairCheck(ExpPairCheck exp, Void arg) throws SmplException {
+		Node e = strict(exp.getExp());
+		return (ev, f) -> {
+			SmplTypes type = e.exec(ev, f).getType();
+			return SmplValue.make(type == SmplTypes.PAIR || type == SmplTypes.LIST
+					      || type == SmplTypes.EMPTYLIST);
+		};
+	}
+
+	@Override
+	public Node visitExpCar(ExpCar exp, Void arg) throws SmplException {
+		Node e = strict(exp.getExp());
+		return (ev, f) -> pairPart(e.exec(ev, f), true);
+	}
+
+	@Override
+	public Node visitExpCdr(ExpCdr exp, Void arg) throws SmplException {
+		Node e = strict(exp.getExp());
+		return (ev, f) -> pairPart(e.exec(ev, f), false);
+	}
+
+	@Override
+	public Node visitExpEqual(ExpEqual exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpGreater(ExpGreater exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpLess(ExpLess exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpLessEq(ExpLessEq exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpGreatEqe(ExpGreatEq exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpNotEqual(ExpNotEqual exp, Void arg) throws SmplException {
+		Node l = compile(exp.getExpL()), r = compile(exp.getExpR());
+		return (ev, f) -> exp.apply(l.exec(ev, f), r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpLogicNot(ExpLogicNot exp, Void arg) throws SmplException {
+		Node e = strict(exp.getExp());
+		return (ev, f) -> e.exec(ev, f).not();
+	}
+
+	@Override
+	public Node visitExpLogicAnd(ExpLogicAnd exp, Void arg) throws SmplException {
+		Node l = strict(exp.getExpL()), r = strict(exp.getExpR());
+		return (ev, f) -> l.exec(ev, f).and(r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpLogicOr(ExpLogicOr exp, Void arg) throws SmplException {
+		Node l = strict(exp.getExpL()), r = strict(exp.getExpR());
+		return (ev, f) -> l.exec(ev, f).or(r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpBitNot(ExpBitNot exp, Void arg) throws SmplException {
+		Node e = strict(exp.getExp());
+		return (ev, f) -> e.exec(ev, f).bitnot();
+	}
+
+	@Override
+	public Node visitExpBitAnd(ExpBitAnd exp, Void arg) throws SmplException {
+		Node l = strict(exp.getExpL()), r = strict(exp.getExpR());
+		return (ev, f) -> l.exec(ev, f).bitand(r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpBitOr(ExpBitOr exp, Void arg) throws SmplException {
+		Node l = strict(exp.getExpL()), r = strict(exp.getExpR());
+		return (ev, f) -> l.exec(ev, f).bitor(r.exec(ev, f));
+	}
+
+	@Override
+	public Node visitExpSubStr(ExpSubStr exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpConcat(ExpConcat exp, Void arg) throws SmplException {
+		Node l = strict(exp.getExpL()), r = strict(exp.getExpR());
+		return (ev, f) -> {
+			SmplValue lv = l.exec(ev, f);
+			return lv.concat(r.exec(ev, f));
+		};
+	}
+
+	@Override
+	public Node visitExpEqv(ExpEqv exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpAssign(ExpAssign exp, Void arg) throws SmplException {
+		if (!(exp.getExpL() instanceof ExpVar))
+			return fallback(exp);
+
+		ExpVar var = (ExpVar) exp.getExpL();
+		Node e = compile(exp.getExpR());
+		String id = var.getVar();
+		int depth = var.getDepth(), index = var.getIndex();
+		if (!var.isResolved())
+			return (ev, f) -> {
+				SmplValue v = e.exec(ev, f);
+				f.put(id, v);
+				return v;
+			};
+		return (ev, f) -> {
+			SmplValue v = e.exec(ev, f);
+			f.set(depth, index, v);
+			return v;
+		};
+	}
+
+	@Override
+	public Node visitExpCall(ExpCall exp, Void arg) throws SmplException {
+		return exp.isTail() ? fallbackTail(exp) : fallback(exp);
+	}
+
+	@Override
+	public Node visitExpLazy(ExpLazy exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpFuture(ExpFuture exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpPCall(ExpPCall exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpDef(ExpDef exp, Void arg) throws SmplException {
+		Node e = compile(exp.getExp());
+		String id = exp.getVar();
+		int slot = exp.getSlot();
+		if (slot < 0)
+			return (ev, f) -> {
+				SmplValue v = e.exec(ev, f);
+				f.put(id, v);
+				return v;
+			};
+		return (ev, f) -> {
+			SmplValue v = e.exec(ev, f);
+			f.putLocal(slot, v);
+			return v;
+		};
+	}
+
+	@Override
+	public Node visitExpRead(ExpRead exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitExpReadInt(ExpReadInt exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Node visitSmplIf(SmplIf exp, Void arg) throws SmplException {
+		return compileIf(exp.getCondition(), exp.getIfArg(), exp.getElse() ? exp.getElseArg() : null);
+	}
+
+	@Override
+	public Node visitExpIf(ExpIf exp, Void arg) throws SmplException {
+		return compileIf(exp.getCondition(), exp.getIfArg(), exp.getElse() ? exp.getElseArg() : null);
+	}
+
+	@Override
+	public Node visitExpCase(ExpCase exp, Void arg) throws SmplException {
+		// an arm makes a tail call only if the case is in tail position
+		return fallbackTail(exp);
+	}
+}
@@ -0,0 +1,18 @@
+package smpl.closure;
+
+import smpl.semantics.Environment;
+import smpl.semantics.SmplEvaluator;
+import smpl.sys.SmplException;
+import smpl.values.SmplValue;
+
+/**
+ * One node of a closure tree built by the <code>ClosureCompiler</code>.
+ * Executing it in a frame has the same effect as evaluating the AST
+ * node it was built from, in that frame, with the given evaluator; the
+ * evaluator is passed along for procedure calls and the trampoline.
+ */
+@FunctionalInterface
+public interface Node {
+
+    public SmplValue exec(SmplEvaluator ev, Environment frame) throws SmplException;
+}
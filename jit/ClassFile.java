@@ -0,0 +1,337 @@
+package smpl.jit;
+
+import java.util.*;
+
+/**
+ * Just enough of a JVM class file writer for the code the
+ * <code>JvmCompiler</code> generates: a constant pool, fields, and
+ * methods with a Code attribute.  Classes are written as version 49
+ * (Java 5) class files, which the JVM verifies by type inference, so no
+ * StackMapTable has to be computed for branches.
+ */
+class ClassFile {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    // the opcodes the compiler uses
+    static final int ACONST_NULL = 0x01;
+    static final int ICONST_0 = 0x03;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC_W = 0x13;
+    static final int ALOAD = 0x19;
+    static final int AALOAD = 0x32;
+    static final int ASTORE = 0x3a;
+    static final int AASTORE = 0x53;
+    static final int POP = 0x57;
+    static final int DUP = 0x59;
+    static final int IFEQ = 0x99;
+    static final int GOTO = 0xa7;
+    static final int ARETURN = 0xb0;
+    static final int RETURN = 0xb1;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int ANEWARRAY = 0xbd;
+    static final int CHECKCAST = 0xc0;
+
+    /** A growable array of big-endian bytes. */
+    static class Bytes {
+	byte[] buf = new byte[256];
+	int size;
+
+	void u1(int b) {
+	    if (size == buf.length)
+		buf = Arrays.copyOf(buf, size * 2);
+	    buf[size++] = (byte) b;
+	}
+
+	void u2(int s) {
+	    u1(s >> 8);
+	    u1(s);
+	}
+
+	void u4(int i) {
+	    u2(i >>> 16);
+	    u2(i);
+	}
+
+	void put(Bytes b) {
+	    for (int i = 0; i < b.size; i++)
+		u1(b.buf[i]);
+	}
+
+	/** Write a string in the JVM's modified UTF-8, without a length. */
+	void utf(String s) {
+	    for (int i = 0; i < s.length(); i++) {
+		char c = s.charAt(i);
+		if (c != 0 && c < 0x80) {
+		    u1(c);
+		} else if (c < 0x800) {
+		    u1(0xc0 | (c >> 6));
+		    u1(0x80 | (c & 0x3f));
+		} else {
+		    u1(0xe0 | (c >> 12));
+		    u1(0x80 | ((c >> 6) & 0x3f));
+		    u1(0x80 | (c & 0x3f));
+		}
+	    }
+	}
+
+	static int utfLength(String s) {
+	    int n = 0;
+	    for (int i = 0; i < s.length(); i++) {
+		char c = s.charAt(i);
+		n += (c != 0 && c < 0x80) ? 1 : (c < 0x800 ? 2 : 3);
+	    }
+	    return n;
+	}
+    }
+
+    /**
+     * The body of one method: its instructions and the stack and local
+     * variable sizes they need.  Callers state how each instruction
+     * changes the operand stack, and reset the depth at branch targets.
+     */
+    class Code {
+	Bytes code = new Bytes();
+	int stack, maxStack, maxLocals;
+
+	Code(int maxLocals) {
+	    this.maxLocals = maxLocals;
+	}
+
+	void adjust(int delta) {
+	    stack += delta;
+	    if (stack > maxStack)
+		maxStack = stack;
+	}
+
+	void op(int opcode, int delta) {
+	    code.u1(opcode);
+	    adjust(delta);
+	}
+
+	void aload(int n) {
+	    op(ALOAD, 1);
+	    code.u1(n);
+	}
+
+	void astore(int n) {
+	    op(ASTORE, -1);
+	    code.u1(n);
+	    if (n >= maxLocals)
+		maxLocals = n + 1;
+	}
+
+	void iconst(int i) {
+	    if (i >= -1 && i <= 5) {
+		op(ICONST_0 + i, 1);
+	    } else if (i >= Byte.MIN_VALUE && i <= Byte.MAX_VALUE) {
+		op(BIPUSH, 1);
+		code.u1(i);
+	    } else if (i >= Short.MIN_VALUE && i <= Short.MAX_VALUE) {
+		op(SIPUSH, 1);
+		code.u2(i);
+	    } else {
+		op(LDC_W, 1);
+		code.u2(integer(i));
+	    }
+	}
+
+	void ldc(String s) {
+	    op(LDC_W, 1);
+	    code.u2(string(s));
+	}
+
+	void type(int opcode, String cls) {
+	    op(opcode, opcode == ANEWARRAY || opcode == CHECKCAST ? 0 : 1);
+	    code.u2(cls(cls));
+	}
+
+	void field(int opcode, String owner, String name, String desc) {
+	    op(opcode, opcode == GETFIELD ? 0 : -2);
+	    code.u2(fieldref(owner, name, desc));
+	}
+
+	/**
+	 * Emit a method call; <code>args</code> counts the arguments,
+	 * including the receiver of an instance method.
+	 */
+	void invoke(int opcode, String owner, String name, String desc, int args) {
+	    op(opcode, (desc.endsWith(")V") ? 0 : 1) - args);
+	    code.u2(methodref(owner, name, desc));
+	}
+
+	/** Emit a branch to a target not yet known; return where to patch. */
+	int jump(int opcode) {
+	    int at = code.size;
+	    op(opcode, opcode == IFEQ ? -1 : 0);
+	    code.u2(0);
+	    return at;
+	}
+
+	/** Make the branch at the given offset jump to the current position. */
+	void patch(int at) {
+	    int offset = code.size - at;
+	    code.buf[at + 1] = (byte) (offset >> 8);
+	    code.buf[at + 2] = (byte) offset;
+	}
+    }
+
+    String name;
+    String superName;
+    String[] interfaces;
+
+    Bytes pool = new Bytes();
+    int poolCount = 1;
+    HashMap<String, Integer> poolIndex = new HashMap<>();
+
+    Bytes fields = new Bytes();
+    int fieldCount;
+    Bytes methods = new Bytes();
+    int methodCount;
+
+    ClassFile(String name, String superName, String... interfaces) {
+	this.name = name;
+	this.superName = superName;
+	this.interfaces = interfaces;
+    }
+
+    // constant pool
+
+    private Integer known(String key) {
+	return poolIndex.get(key);
+    }
+
+    private int add(String key) {
+	poolIndex.put(key, poolCount);
+	return poolCount++;
+    }
+
+    int utf8(String s) {
+	Integer i = known("U" + s);
+	if (i != null)
+	    return i;
+	pool.u1(1);
+	pool.u2(Bytes.utfLength(s));
+	pool.utf(s);
+	return add("U" + s);
+    }
+
+    int integer(int v) {
+	Integer i = known("I" + v);
+	if (i != null)
+	    return i;
+	pool.u1(3);
+	pool.u4(v);
+	return add("I" + v);
+    }
+
+    int cls(String internalName) {
+	Integer i = known("C" + internalName);
+	if (i != null)
+	    return i;
+	int n = utf8(internalName);
+	pool.u1(7);
+	pool.u2(n);
+	return add("C" + internalName);
+    }
+
+    int string(String s) {
+	Integer i = known("S" + s);
+	if (i != null)
+	    return i;
+	int n = utf8(s);
+	pool.u1(8);
+	pool.u2(n);
+	return add("S" + s);
+    }
+
+    int nameAndType(String name, String desc) {
+	Integer i = known("N" + name + " " + desc);
+	if (i != null)
+	    return i;
+	int n = utf8(name), d = utf8(desc);
+	pool.u1(12);
+	pool.u2(n);
+	pool.u2(d);
+	return add("N" + name + " " + desc);
+    }
+
+    private int ref(int tag, String owner, String name, String desc) {
+	String key = "R" + tag + owner + "." + name + desc;
+	Integer i = known(key);
+	if (i != null)
+	    return i;
+	int c = cls(owner), nt = nameAndType(name, desc);
+	pool.u1(tag);
+	pool.u2(c);
+	pool.u2(nt);
+	return add(key);
+    }
+
+    int fieldref(String owner, String name, String desc) {
+	return ref(9, owner, name, desc);
+    }
+
+    int methodref(String owner, String name, String desc) {
+	return ref(10, owner, name, desc);
+    }
+
+    // members
+
+    void field(int access, String name, String desc) {
+	fields.u2(access);
+	fields.u2(utf8(name));
+	fields.u2(utf8(desc));
+	fields.u2(0);
+	fieldCount++;
+    }
+
+    void method(int access, String name, String desc, Code code) {
+	methods.u2(access);
+	methods.u2(utf8(name));
+	methods.u2(utf8(desc));
+	methods.u2(1);
+	methods.u2(utf8("Code"));
+	methods.u4(12 + code.code.size);
+	methods.u2(code.maxStack);
+	methods.u2(code.maxLocals);
+	methods.u4(code.code.size);
+	methods.put(code.code);
+	methods.u2(0);          // exception table
+	methods.u2(0);          // attributes
+	methodCount++;
+    }
+
+    byte[] toByteArray() {
+	int thisIndex = cls(name), superIndex = cls(superName);
+	int[] ifaces = new int[interfaces.length];
+	for (int i = 0; i < interfaces.length; i++)
+	    ifaces[i] = cls(interfaces[i]);
+
+	Bytes out = new Bytes();
+	out.u4(0xcafebabe);
+	out.u2(0);
+	out.u2(49);
+	out.u2(poolCount);
+	out.put(pool);
+	out.u2(ACC_FINAL | ACC_SUPER);
+	out.u2(thisIndex);
+	out.u2(superIndex);
+	out.u2(ifaces.length);
+	for (int i : ifaces)
+	    out.u2(i);
+	out.u2(fieldCount);
+	out.put(fields);
+	out.u2(methodCount);
+	out.put(methods);
+	out.u2(0);
+	return Arrays.copyOf(out.buf, out.size);
+    }
+}
@@ -0,0 +1,19 @@
+package smpl.jit;
+
+import smpl.semantics.Environment;
+import smpl.semantics.SmplEvaluator;
+import smpl.sys.SmplException;
+import smpl.values.SmplValue;
+
+/**
+ * The body of a procedure compiled to a JVM class by the
+ * <code>JvmCompiler</code>.  Running it has the same effect as
+ * evaluating the body with the given evaluator in the given frame; in
+ * particular a call in tail position is left for the evaluator's
+ * trampoline, by returning what <code>SmplEvaluator.applyTail</code>
+ * returns.
+ */
+public interface CompiledBody {
+
+    public SmplValue run(SmplEvaluator ev, Environment frame) throws SmplException;
+}
@@ -0,0 +1,556 @@
+package smpl.jit;
+
+import smpl.semantics.*;
+import smpl.syntax.*;
+import smpl.sys.SmplException;
+import smpl.values.*;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+
+/**
+ * The <code>JvmCompiler</code> translates the body of a hot procedure
+ * into a JVM class implementing <code>CompiledBody</code>, and loads it
+ * as a hidden class so that the JIT of the JVM can inline and optimise
+ * it like any other Java code.  Each visit method generates code that
+ * leaves the value of its node on the operand stack.
+ *
+ * Arithmetic, comparisons, logic, variables, if and procedure calls are
+ * compiled to calls of the corresponding <code>SmplValue</code> and
+ * <code>Environment</code> methods; every other node is compiled to a
+ * call of <code>SmplEvaluator.eval</code> on the node itself (of
+ * <code>evalTail</code> in tail position), so any procedure body can be
+ * compiled.  Frames are the same
+ * <code>Environment</code>s the evaluator uses, so closures and
+ * fallbacks share bindings with compiled code.
+ *
+ * The evaluator compiles a procedure once it has been called
+ * <code>THRESHOLD</code> times; the threshold is read from the system
+ * property <code>smpl.jit.threshold</code>, and 0 turns compilation off.
+ * A procedure that fails to compile stays interpreted; setting
+ * <code>smpl.jit.debug</code> to true reports such failures on stderr.
+ */
+public class JvmCompiler implements Visitor<Void, Void> {
+
+	public static final int THRESHOLD = Integer.getInteger("smpl.jit.threshold", 1000);
+	public static final boolean DEBUG = Boolean.getBoolean("smpl.jit.debug");
+
+	static final String OBJECT = "java/lang/Object";
+	static final String VALUE = "smpl/values/SmplValue";
+	static final String PROC = "smpl/values/SmplProcedure";
+	static final String ENV = "smpl/semantics/Environment";
+	static final String EVAL = "smpl/semantics/SmplEvaluator";
+	static final String NODE = "smpl/syntax/ASTNode";
+	static final String RT = "smpl/jit/Rt";
+	static final String BODY = "smpl/jit/Body";
+
+	static final String V = "L" + VALUE + ";";
+	static final String BINARY = "(" + V + ")" + V;
+
+	// locals of the generated run method
+	static final int THIS = 0, EV = 1, FRAME = 2;
+
+	static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	static final MethodType CONSTRUCTOR = MethodType.methodType(void.class, Object[].class);
+
+	ClassFile cf = new ClassFile(BODY, OBJECT, "smpl/jit/CompiledBody");
+	ClassFile.Code code = cf.new Code(3);
+	ArrayList<Object> constants = new ArrayList<>();
+
+	protected JvmCompiler() {
+	}
+
+	/**
+	 * Compile the body of a resolved procedure, and record the result in
+	 * the procedure.
+	 *
+	 * @return the compiled body, or null if it could not be compiled, in
+	 * which case the procedure simply stays interpreted
+	 */
+	public static CompiledBody compile(ExpProc proc) {
+		try {
+			JvmCompiler c = new JvmCompiler();
+			byte[] bytes = c.generate(proc);
+			MethodHandles.Lookup body = LOOKUP.defineHiddenClass(bytes, true);
+			CompiledBody compiled = (CompiledBody) body.findConstructor(body.lookupClass(), CONSTRUCTOR)
+				.invoke(c.constants.toArray());
+			proc.setCompiled(compiled);
+			return compiled;
+		} catch (VirtualMachineError e) {
+			// running out of memory or stack is not a failure to compile
+			throw e;
+		} catch (Throwable e) {
+			// a failure to compile is never an error in the program
+			if (DEBUG) {
+				System.err.println("smpl.jit: could not compile " + proc + ": " + e);
+				e.printStackTrace();
+			}
+			return null;
+		}
+	}
+
+	protected byte[] generate(ExpProc proc) throws SmplException {
+		cf.field(ClassFile.ACC_FINAL, "k", "[Ljava/lang/Object;");
+
+		ClassFile.Code init = cf.new Code(2);
+		init.aload(THIS);
+		init.invoke(ClassFile.INVOKESPECIAL, OBJECT, "<init>", "()V", 1);
+		init.aload(THIS);
+		init.aload(1);
+		init.field(ClassFile.PUTFIELD, BODY, "k", "[Ljava/lang/Object;");
+		init.op(ClassFile.RETURN, 0);
+		cf.method(ClassFile.ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", init);
+
+		if (proc.getBody() != null) {
+			compileBody(proc.getBody());
+		} else {
+			ArrayList<Exp> exps = proc.getExpressions();
+			for (int i = 0; i < exps.size() - 1; i++) {
+				exps.get(i).visit(this, null);
+				code.op(ClassFile.POP, -1);
+			}
+			compileBody(exps.get(exps.size() - 1));
+		}
+		code.op(ClassFile.ARETURN, -1);
+		cf.method(ClassFile.ACC_PUBLIC, "run", "(L" + EVAL + ";L" + ENV + ";)" + V, code);
+		return cf.toByteArray();
+	}
+
+	// code generation helpers
+
+	protected int constant(Object o) {
+		for (int i = 0; i < constants.size(); i++)
+			if (constants.get(i) == o)
+				return i;
+		constants.add(o);
+		return constants.size() - 1;
+	}
+
+	/** Push entry i of the constant array, cast to the given class. */
+	protected void loadConstant(Object o, String cls) {
+		code.aload(THIS);
+		code.field(ClassFile.GETFIELD, BODY, "k", "[Ljava/lang/Object;");
+		code.iconst(constant(o));
+		code.op(ClassFile.AALOAD, -1);
+		code.type(ClassFile.CHECKCAST, cls);
+	}
+
+	/**
+	 * Compile an expression whose value is needed itself, as an operand,
+	 * say: unless it can never be lazy, its value is forced.
+	 */
+	protected void strict(Exp e) throws SmplException {
+		e.visit(this, null);
+		if (!e.neverLazy())
+			code.invoke(ClassFile.INVOKESTATIC, RT, "force", "(" + V + ")" + V, 1);
+	}
+
+	protected Void binary(String method, Exp l, Exp r) throws SmplException {
+		strict(l);
+		strict(r);
+		code.invoke(ClassFile.INVOKEVIRTUAL, VALUE, method, BINARY, 2);
+		return null;
+	}
+
+	protected Void unary(String method, Exp e) throws SmplException {
+		strict(e);
+		code.invoke(ClassFile.INVOKEVIRTUAL, VALUE, method, "()" + V, 1);
+		return null;
+	}
+
+	/** Hand the given node to the tree walking evaluator at run time. */
+	protected Void fallback(ASTNode node) {
+		code.aload(EV);
+		loadConstant(node, NODE);
+		code.aload(FRAME);
+		code.invoke(ClassFile.INVOKEVIRTUAL, EVAL, "eval", "(L" + NODE + ";L" + ENV + ";)" + V, 3);
+		return null;
+	}
+
+	/**
+	 * Hand a node in tail position to the evaluator at run time, leaving
+	 * any tail call it makes for the trampoline rather than running it
+	 * on a deeper Java stack.
+	 */
+	protected void fallbackTail(ASTNode node) {
+		code.aload(EV);
+		loadConstant(node, NODE);
+		code.aload(FRAME);
+		code.invoke(ClassFile.INVOKEVIRTUAL, EVAL, "evalTail", "(L" + NODE + ";L" + ENV + ";)" + V, 3);
+	}
+
+	/**
+	 * Compile an expression in tail position of a procedure body: calls
+	 * marked by the Resolver are left for the evaluator's trampoline.
+	 */
+	protected void compileBody(ASTNode body) throws SmplException {
+		if (body instanceof ExpProcedureCall && ((ExpProcedureCall) body).isTail()) {
+			compileCall((ExpProcedureCall) body, "applyTail");
+		} else if (body instanceof ExpIf) {
+			ExpIf e = (ExpIf) body;
+			compileIf(e.getCondition(), e.getIfArg(), e.getElse() ? e.getElseArg() : null, true);
+		} else if (body instanceof SmplIf) {
+			SmplIf e = (SmplIf) body;
+			compileIf(e.getCondition(), e.getIfArg(), e.getElse() ? e.getElseArg() : null, true);
+		} else if (body instanceof StmtLet || body instanceof ExpCall || body instanceof ExpCase) {
+			// not compiled, but their tail calls must still reach the trampoline
+			fallbackTail(body);
+		} else if (body instanceof StmtSequence && !((StmtSequence) body).getSeq().isEmpty()) {
+			ArrayList<Statement> seq = ((StmtSequence) body).getSeq();
+			for (int i = 0; i < seq.size() - 1; i++) {
+				seq.get(i).visit(this, null);
+				code.op(ClassFile.POP, -1);
+			}
+			compileBody(seq.get(seq.size() - 1));
+		} else {
+			body.visit(this, null);
+		}
+	}
+
+	protected void compileCall(ExpProcedureCall exp, String method) throws SmplException {
+		ArrayList<Exp> args = exp.getArgs();
+		code.aload(EV);
+		exp.getProcExp().visit(this, null);
+		code.invoke(ClassFile.INVOKESTATIC, RT, "proc", "(" + V + ")L" + PROC + ";", 1);
+		code.iconst(args.size());
+		code.type(ClassFile.ANEWARRAY, VALUE);
+		for (int i = 0; i < args.size(); i++) {
+			code.op(ClassFile.DUP, 1);
+			code.iconst(i);
+			args.get(i).visit(this, null);
+			code.op(ClassFile.AASTORE, -3);
+		}
+		code.invoke(ClassFile.INVOKEVIRTUAL, EVAL, method, "(L" + PROC + ";[" + V + ")" + V, 3);
+	}
+
+	protected void compileIf(Exp con, Exp ifArg, Exp elseArg, boolean tail) throws SmplException {
+		con.visit(this, null);
+		code.invoke(ClassFile.INVOKESTATIC, RT, "test", "(" + V + ")Z", 1);
+		int toElse = code.jump(ClassFile.IFEQ);
+		int depth = code.stack;
+		if (tail)
+			compileBody(ifArg);
+		else
+			ifArg.visit(this, null);
+		int toEnd = code.jump(ClassFile.GOTO);
+		code.patch(toElse);
+		code.stack = depth;
+		if (elseArg == null)
+			// the value of a one armed if with a false condition is the condition
+			loadConstant(SmplValue.make(false), VALUE);
+		else if (tail)
+			compileBody(elseArg);
+		else
+			elseArg.visit(this, null);
+		code.patch(toEnd);
+	}
+
+	// program
+
+	@Override
+	public Void visitSmplProgram(SmplProgram p, Void arg) throws SmplException {
+		return fallback(p);
+	}
+
+	// statements
+
+	@Override
+	public Void visitBinding(Binding b, Void arg) throws SmplException {
+		return b.getValExp().visit(this, null);
+	}
+
+	@Override
+	public Void visitStmtSequence(StmtSequence sseq, Void arg) throws SmplException {
+		ArrayList<Statement> seq = sseq.getSeq();
+		if (seq.isEmpty()) {
+			loadConstant(SmplValue.make(0), VALUE);
+			return null;
+		}
+		for (int i = 0; i < seq.size(); i++) {
+			if (i > 0)
+				code.op(ClassFile.POP, -1);
+			seq.get(i).visit(this, null);
+		}
+		return null;
+	}
+
+	@Override
+	public Void visitStatement(Statement s, Void arg) throws SmplException {
+		return fallback(s);
+	}
+
+	@Override
+	public Void visitStmtDefinition(StmtDefinition sd, Void arg) throws SmplException {
+		return fallback(sd);
+	}
+
+	@Override
+	public Void visitStmtLet(StmtLet let, Void arg) throws SmplException {
+		return fallback(let);
+	}
+
+	@Override
+	public Void visitPrintStmt(StmtPrint sp, Void arg) throws SmplException {
+		return fallback(sp);
+	}
+
+	@Override
+	public Void visitPrintLnStmt(StmtPrintLn sp, Void arg) throws SmplException {
+		return fallback(sp);
+	}
+
+	// expressions
+
+	@Override
+	public Void visitExp(Exp exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpAdd(ExpAdd exp, Void arg) throws SmplException {
+		return binary("add", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpSub(ExpSub exp, Void arg) throws SmplException {
+		return binary("sub", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpMul(ExpMul exp, Void arg) throws SmplException {
+		return binary("mul", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpDiv(ExpDiv exp, Void arg) throws SmplException {
+		return binary("div", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpMod(ExpMod exp, Void arg) throws SmplException {
+		return binary("mod", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpPow(ExpPow exp, Void arg) throws SmplException {
+		return binary("pow", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpLit(ExpLit exp, Void arg) throws SmplException {
+		loadConstant(exp.getVal(), VALUE);
+		return null;
+	}
+
+	@Override
+	public Void visitExpVar(ExpVar exp, Void arg) throws SmplException {
+		code.aload(FRAME);
+		if (exp.isResolved()) {
+			code.iconst(exp.getDepth());
+			code.iconst(exp.getIndex());
+			code.ldc(exp.getVar());
+			code.invoke(ClassFile.INVOKESTATIC, RT, "var", "(L" + ENV + ";IILjava/lang/String;)" + V, 4);
+		} else {
+			code.ldc(exp.getVar());
+			code.invoke(ClassFile.INVOKESTATIC, RT, "name", "(L" + ENV + ";Ljava/lang/String;)" + V, 2);
+		}
+		return null;
+	}
+
+	@Override
+	public Void visitExpProcedure(ExpProc proc, Void arg) throws SmplException {
+		return fallback(proc);
+	}
+
+	@Override
+	public Void visitExpProcedureCall(ExpProcedureCall exp, Void arg) throws SmplException {
+		compileCall(exp, "apply");
+		return null;
+	}
+
+	@Override
+	public Void visitExpPair(ExpPair exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpList(ExpList exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpVector(ExpVector exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpSubVector(ExpSubVector exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpSize(ExpSize exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpVectorRef(ExpVectorRef exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpPairCheck(ExpPairCheck exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpCar(ExpCar exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpCdr(ExpCdr exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpEqual(ExpEqual exp, Void arg) throws SmplException {
+		return binary("eq", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpGreater(ExpGreater exp, Void arg) throws SmplException {
+		return binary("gt", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpLess(ExpLess exp, Void arg) throws SmplException {
+		return binary("lt", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpLessEq(ExpLessEq exp, Void arg) throws SmplException {
+		return binary("le", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpGreatEqe(ExpGreatEq exp, Void arg) throws SmplException {
+		return binary("ge", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpNotEqual(ExpNotEqual exp, Void arg) throws SmplException {
+		return binary("neq", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpLogicNot(ExpLogicNot exp, Void arg) throws SmplException {
+		return unary("not", exp.getExp());
+	}
+
+	@Override
+	public Void visitExpLogicAnd(ExpLogicAnd exp, Void arg) throws SmplException {
+		return binary("and", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpLogicOr(ExpLogicOr exp, Void arg) throws SmplException {
+		return binary("or", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpBitNot(ExpBitNot exp, Void arg) throws SmplException {
+		return unary("bitnot", exp.getExp());
+	}
+
+	@Override
+	public Void visitExpBitAnd(ExpBitAnd exp, Void arg) throws SmplException {
+		return binary("bitand", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpBitOr(ExpBitOr exp, Void arg) throws SmplException {
+		return binary("bitor", exp.getExpL(), exp.getExpR());
+	}
+
+	@Override
+	public Void visitExpSubStr(ExpSubStr exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpConcat(ExpConcat exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpEqv(ExpEqv exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpAssign(ExpAssign exp, Void arg) throws SmplException {
+		if (!(exp.getExpL() instanceof ExpVar) || !((ExpVar) exp.getExpL()).isResolved())
+			return fallback(exp);
+
+		ExpVar var = (ExpVar) exp.getExpL();
+		code.aload(FRAME);
+		code.iconst(var.getDepth());
+		code.iconst(var.getIndex());
+		exp.getExpR().visit(this, null);
+		code.invoke(ClassFile.INVOKESTATIC, RT, "assign", "(L" + ENV + ";II" + V + ")" + V, 4);
+		return null;
+	}
+
+	@Override
+	public Void visitExpCall(ExpCall exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpLazy(ExpLazy exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpFuture(ExpFuture exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpPCall(ExpPCall exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpDef(ExpDef exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpRead(ExpRead exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitExpReadInt(ExpReadInt exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+
+	@Override
+	public Void visitSmplIf(SmplIf exp, Void arg) throws SmplException {
+		compileIf(exp.getCondition(), exp.getIfArg(), exp.getElse() ? exp.getElseArg() : null, false);
+		return null;
+	}
+
+	@Override
+	public Void visitExpIf(ExpIf exp, Void arg) throws SmplException {
+		compileIf(exp.getCondition(), exp.getIfArg(), exp.getElse() ? exp.getElseArg() : null, false);
+		return null;
+	}
+
+	@Override
+	public Void visitExpCase(ExpCase exp, Void arg) throws SmplException {
+		return fallback(exp);
+	}
+}
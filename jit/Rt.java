@@ -0,0 +1,51 @@
+package smpl.jit;
+
+import smpl.semantics.Environment;
+import smpl.sys.SmplException;
+import smpl.sys.SmplTypeException;
+import smpl.values.*;
+
+/**
+ * Run time support called from compiled procedure bodies, for the steps
+ * that are too long to generate inline.
+ */
+final class Rt {
+
+    private Rt() {
+    }
+
+    static SmplValue var(Environment env, int depth, int index, String id) throws SmplException {
+	SmplValue val = env.get(depth, index);
+	if (val == null)
+	    throw new SmplException("Unbound variable " + id);
+	return SmplThunk.demand(val);
+    }
+
+    static SmplValue name(Environment env, String id) throws SmplException {
+	return SmplThunk.demand(env.get(id));
+    }
+
+    static SmplValue assign(Environment env, int depth, int index, SmplValue val) {
+	env.set(depth, index, val);
+	return val;
+    }
+
+    static SmplValue force(SmplValue val) throws SmplException {
+	return SmplThunk.demand(val);
+    }
+
+    static boolean test(SmplValue cond) throws SmplException {
+	try {
+	    return SmplThunk.demand(cond).boolValue();
+	} catch (Exception e) {
+	    throw new SmplException("Condition must evaluate to a boolean.");
+	}
+    }
+
+    static SmplProcedure proc(SmplValue f) throws SmplException {
+	f = SmplThunk.demand(f);
+	if (f.getType() != SmplTypes.PROCEDURE)
+	    throw new SmplTypeException(SmplTypes.PROCEDURE, f.getType());
+	return (SmplProcedure) f;
+    }
+}
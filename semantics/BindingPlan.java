@@ -0,0 +1,65 @@
+package smpl.semantics;
+
+import smpl.syntax.ExpProc;
+import smpl.values.SmplValue;
+import java.util.*;
+
+/**
+ * What a call needs to know about a procedure expression to bind its
+ * arguments: how many parameters it has, whether it has a list
+ * variable, and how big a frame its body needs.  Plans are computed
+ * once per procedure expression and call site and kept in the site's
+ * <code>CallCache</code>.
+ */
+public final class BindingPlan {
+
+    final ExpProc proc;
+    final int params;           // parameters, bound to slots 0 .. params-1
+    final boolean listVar;      // extra arguments are collected into slot params
+    final int frameSize;
+
+    public BindingPlan(ExpProc proc) {
+	this.proc = proc;
+	this.params = proc.getParameters().size();
+	this.listVar = proc.getListVar() != null;
+	this.frameSize = proc.getFrameSize();
+    }
+
+    public ExpProc getProc() {
+	return proc;
+    }
+
+    public int getParams() {
+	return params;
+    }
+
+    public boolean hasListVar() {
+	return listVar;
+    }
+
+    /**
+     * Create an empty frame for a call of the procedure.
+     *
+     * @param closingEnv the environment the procedure closes over
+     */
+    public Environment newFrame(Environment closingEnv) {
+	return Frame.make(frameSize, closingEnv);
+    }
+
+    /**
+     * Create a frame for a call of the procedure and bind the given
+     * arguments in it.
+     */
+    public Environment bind(SmplValue[] args, Environment closingEnv) {
+	Environment frame = Frame.make(frameSize, closingEnv);
+	int n = Math.min(params, args.length);
+	for (int i = 0; i < n; i++)
+	    frame.putLocal(i, args[i]);
+	if (listVar) {
+	    SmplValue[] extras = args.length > params ? Arrays.copyOfRange(args, params, args.length)
+						      : new SmplValue[0];
+	    frame.putLocal(params, SmplValue.makeList(extras));
+	}
+	return frame;
+    }
+}
@@ -0,0 +1,153 @@
+package smpl.semantics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import smpl.sys.SmplException;
+import smpl.sys.SmplTypeException;
+import smpl.values.*;
+
+/**
+ * The builtin procedures bound in every global environment.  Their names
+ * are ordinary identifiers, so a program may redefine them.
+ */
+public class Builtins {
+
+	private Builtins() {
+	}
+
+	/**
+	 * Bind every builtin procedure in the given environment.
+	 */
+	public static void install(Environment env) {
+		define(env, "freeVector", 1, (ev, args) -> {
+			vector(args[0]).free();
+			return SmplValue.make(true);
+		});
+
+		// file-backed vectors (see MappedVectorStorage)
+		define(env, "makeMappedVector", 3, (ev, args) -> {
+			String type = string(args[1]);
+			int code;
+			if (type.equals("int"))
+				code = MappedVectorStorage.INTS;
+			else if (type.equals("real"))
+				code = MappedVectorStorage.REALS;
+			else
+				throw new SmplException("Element type must be \"int\" or \"real\", not " + type);
+			return new SmplVector(MappedVectorStorage.create(Paths.get(string(args[0])), code, integer(args[2])));
+		});
+		define(env, "openMappedVector", 1, (ev, args) ->
+		       new SmplVector(MappedVectorStorage.open(Paths.get(string(args[0])))));
+		define(env, "syncVector", 1, (ev, args) -> {
+			VectorStorage s = vector(args[0]).getStorage();
+			if (s instanceof MappedVectorStorage)
+				((MappedVectorStorage) s).sync();
+			return SmplValue.make(true);
+		});
+
+		// immutable vectors (see SmplPersistentVector); a mutable vector
+		// given to set, push or slice is copied first
+		define(env, "persistent", 1, (ev, args) -> SmplPersistentVector.copyOf(vector(args[0])));
+		define(env, "set", 3, (ev, args) ->
+		       persistent(args[0]).with(integer(args[1]), args[2]));
+		define(env, "push", 2, (ev, args) -> persistent(args[0]).push(args[1]));
+		define(env, "slice", 3, (ev, args) ->
+		       persistent(args[0]).slice(integer(args[1]), integer(args[2])));
+
+		// files read lazily, as streams (see FileSource)
+		define(env, "openLines", 1, (ev, args) ->
+		       FileSource.lines(Paths.get(string(args[0])), StandardCharsets.UTF_8));
+		define(env, "openRecords", 2, (ev, args) ->
+		       FileSource.records(Paths.get(string(args[0])), StandardCharsets.UTF_8, integer(args[1])));
+
+		// streams: lists produced on demand (see Streams)
+		define(env, "stream", 1, (ev, args) -> Streams.stream(args[0]));
+		define(env, "streamIterate", 2, (ev, args) ->
+		       Streams.iterate(ev, procedure(args[0]), args[1]));
+		define(env, "streamMap", 2, (ev, args) ->
+		       Streams.map(ev, procedure(args[0]), args[1]));
+		define(env, "streamFilter", 2, (ev, args) ->
+		       Streams.filter(ev, procedure(args[0]), args[1]));
+		define(env, "streamTake", 2, (ev, args) -> Streams.take(args[0], integer(args[1])));
+		define(env, "streamFold", 3, (ev, args) ->
+		       Streams.fold(ev, procedure(args[0]), args[1], args[2]));
+
+		// generators: procedures run on virtual threads that yield the
+		// elements of a stream one at a time (see Generator)
+		define(env, "generator", 1, (ev, args) -> Generator.stream(ev, procedure(args[0])));
+		define(env, "yield", 1, (ev, args) -> Generator.yield(args[0]));
+
+		// futures (see Parallel): wait for the value of one
+		define(env, "touch", 1, (ev, args) -> SmplFuture.touch(SmplThunk.demand(args[0])));
+
+		// the rest of the input at once (see Input)
+		define(env, "readLines", 0, (ev, args) -> {
+			ev.beforeRead();
+			Input in = ev.getInput();
+			ArrayList<SmplValue> lines = new ArrayList<>();
+			try {
+				String line;
+				while ((line = in.readLine()) != null)
+					lines.add(SmplValue.makeStr(line));
+			} catch (IOException e) {
+				throw new SmplException("Error reading input: " + e.getMessage());
+			}
+			return SmplValue.makeList(lines);
+		});
+		define(env, "readInts", 0, (ev, args) -> {
+			ev.beforeRead();
+			Input in = ev.getInput();
+			SmplVector result = new SmplVector();
+			try {
+				while (!in.atEnd())
+					result.append(SmplValue.make(in.readInt()));
+			} catch (NumberFormatException e) {
+				throw new SmplTypeException("Type Error: Input must be of type " + SmplTypes.INTEGER);
+			} catch (IOException e) {
+				throw new SmplException("Error reading input: " + e.getMessage());
+			}
+			return result;
+		});
+	}
+
+	protected static void define(Environment env, String name, int arity, SmplBuiltin.Body body) {
+		env.put(name, new SmplBuiltin(name, arity, body));
+	}
+
+	// argument checks; an argument checked here is needed itself, so a
+	// lazy one is forced
+
+	protected static SmplVector vector(SmplValue v) throws SmplException {
+		v = SmplThunk.demand(v);
+		if (v.getType() != SmplTypes.VECTOR)
+			throw new SmplTypeException(SmplTypes.VECTOR, v.getType());
+		return (SmplVector) v;
+	}
+
+	protected static SmplPersistentVector persistent(SmplValue v) throws SmplException {
+		return SmplPersistentVector.copyOf(vector(v));
+	}
+
+	protected static String string(SmplValue v) throws SmplException {
+		v = SmplThunk.demand(v);
+		if (v.getType() != SmplTypes.STRING)
+			throw new SmplTypeException(SmplTypes.STRING, v.getType());
+		return v.stringValue();
+	}
+
+	protected static SmplProcedure procedure(SmplValue v) throws SmplException {
+		v = SmplThunk.demand(v);
+		if (v.getType() != SmplTypes.PROCEDURE)
+			throw new SmplTypeException(SmplTypes.PROCEDURE, v.getType());
+		return (SmplProcedure) v;
+	}
+
+	protected static int integer(SmplValue v) throws SmplException {
+		v = SmplThunk.demand(v);
+		if (v.getType() != SmplTypes.INTEGER)
+			throw new SmplTypeException(SmplTypes.INTEGER, v.getType());
+		return v.intValue();
+	}
+}
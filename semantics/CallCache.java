@@ -0,0 +1,51 @@
+package smpl.semantics;
+
+import java.util.Arrays;
+import smpl.syntax.ExpProc;
+
+/**
+ * An inline cache for one call site.  It remembers the procedure
+ * expressions the site has called, with their binding plans, so that a
+ * call of a procedure seen before does not recompute its plan.  Up to
+ * <code>MAX_ENTRIES</code> procedures are remembered, most sites
+ * needing just the first; once the cache is full the site is
+ * megamorphic and further procedures get a fresh plan on every call.
+ *
+ * A program may be run by several threads at once, so the entries are
+ * an array that is replaced, never changed, when a plan is added.  Two
+ * threads missing at once may each add a plan, or one's may be lost;
+ * either way every plan returned is right for its procedure.
+ */
+public class CallCache {
+
+    public static final int MAX_ENTRIES = 4;
+
+    static final BindingPlan[] EMPTY = new BindingPlan[0];
+
+    volatile BindingPlan[] entries = EMPTY;
+
+    /**
+     * Return the binding plan for the given procedure expression.
+     */
+    public BindingPlan lookup(ExpProc proc) {
+	BindingPlan[] e = entries;
+	for (int i = 0; i < e.length; i++)
+	    if (e[i].proc == proc)
+		return e[i];
+	return miss(proc, e);
+    }
+
+    protected BindingPlan miss(ExpProc proc, BindingPlan[] e) {
+	BindingPlan plan = new BindingPlan(proc);
+	if (e.length < MAX_ENTRIES) {
+	    BindingPlan[] grown = Arrays.copyOf(e, e.length + 1);
+	    grown[e.length] = plan;
+	    entries = grown;
+	}
+	return plan;
+    }
+
+    public boolean isMegamorphic() {
+	return entries.length == MAX_ENTRIES;
+    }
+}
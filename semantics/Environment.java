@@ -2,6 +2,7 @@ package smpl.semantics;
 
 import smpl.sys.SmplException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import smpl.values.*;
 
 /**
@@ -10,14 +11,21 @@ import smpl.values.*;
  * It supports storing and retrieving bindings, just as would
  * be expected in any frame.
  *
- * 
+ * Named bindings are kept in a <code>ConcurrentHashMap</code>, so a
+ * global environment may be read and defined in by several threads at
+ * once.  The builtins live in one prelude environment, made once and
+ * shared as the parent of every global environment.
  */
 
 public class Environment {
 
-    HashMap<String, SmplValue> dictionary;       //current environment  
+    Map<String, SmplValue> dictionary;       //current environment  
+    SmplValue[] slots;                // lexically addressed bindings (see Resolver)
     Environment parent = null;        // parent envornment
 
+    // the builtins, shared by every global environment
+    private static final Environment PRELUDE = makePrelude();
+
     
 
      /**
@@ -25,7 +33,7 @@ public class Environment {
      *
      */
     public Environment(){
-        dictionary = new HashMap<>();
+        dictionary = new ConcurrentHashMap<>();
         parent = null;
     }
 
@@ -37,7 +45,7 @@ public class Environment {
      * @param p The parent environment of the new environment
      */
     public Environment(Environment p) {
-	dictionary = new HashMap<>();
+	dictionary = new ConcurrentHashMap<>();
 	parent = p;
     }
 
@@ -45,7 +53,7 @@ public class Environment {
 
     /* This does not extend the new environment. It adds to the current environment*/
     public Environment(String[] ids, SmplValue[] values){
-        dictionary = new HashMap<>();
+        dictionary = new ConcurrentHashMap<>();
         for(int i=0; i<ids.length; i++){
             put(ids[i], values[i]);
         }
@@ -63,10 +71,10 @@ public class Environment {
      * @param parent The parent of this environment 
      */
     public Environment(String[] ids, SmplValue[] values, Environment parent) {
-    dictionary = new HashMap<>();
-    parent = parent;
+    dictionary = new ConcurrentHashMap<>();
+    this.parent = parent;
     for (int i = 0; i < ids.length; i++) {
-        dictionary.put(ids[i], values[i]);
+        put(ids[i], values[i]);
     }
 
     }
@@ -75,7 +83,7 @@ public class Environment {
 
     /*The environment is not extended*/
     public Environment(ArrayList<String> ids, ArrayList<SmplValue> values){
-        dictionary = new HashMap<>();
+        dictionary = new ConcurrentHashMap<>();
         for(int i=0; i<ids.size(); i++){
             put(ids.get(i), values.get(i));
         }
@@ -91,8 +99,8 @@ public class Environment {
      * @param parent The environment being extended.
      */
     public Environment(ArrayList<String> ids, ArrayList<SmplValue> values, Environment parent) {
-        dictionary = new HashMap<>();
-        parent = parent;
+        dictionary = new ConcurrentHashMap<>();
+        this.parent = parent;
         for (int i = 0; i < ids.size(); i++) {
             put(ids.get(i), values.get(i));
         }
@@ -101,14 +109,50 @@ public class Environment {
 
 
 
+    /**
+     * Create a new frame with the given number of (unbound) slots that
+     * extends the given environment.  Bindings in the frame are
+     * addressed by slot, as worked out by the <code>Resolver</code>,
+     * rather than by name.
+     *
+     * @param size The number of slots in the new frame
+     * @param parent The environment being extended.
+     */
+    public Environment(int size, Environment parent) {
+        this(parent, new SmplValue[size]);
+    }
+
+
+
+    /**
+     * Create a new environment that extends the given one, with the given
+     * slots and no name table.
+     *
+     * @param parent The environment being extended.
+     * @param slots The slots of the new environment (may be null)
+     */
+    protected Environment(Environment parent, SmplValue[] slots) {
+        this.parent = parent;
+        this.slots = slots;
+    }
+
+
+
     /**
      * Create an instance of a global environment suitable for
-     * evaluating a program.
+     * evaluating a program.  The builtin procedures are inherited from
+     * the shared prelude, so a program may redefine them without
+     * affecting any other.
      *
      * @return the <code>Environment</code> created.
      */
     public static Environment makeGlobalEnv() {
+    return new Environment(PRELUDE);
+    }
+
+    private static Environment makePrelude() {
     Environment result =  new Environment();
+    Builtins.install(result);
     return result;
     }
 
@@ -120,10 +164,114 @@ public class Environment {
      * int within this environment.
      *
      * @param id the name to be bound
-     * @param value the value to which the name is bound.
+     * @param value the value to which the name is bound; null leaves
+     * it unbound here.
      */
     public void put(String id, SmplValue value) {
-    dictionary.put(id, value);
+    if (dictionary == null)
+        dictionary = new ConcurrentHashMap<>();
+    if (value == null)
+        dictionary.remove(id);
+    else
+        dictionary.put(id, value);
+    }
+
+
+
+    /**
+     * Make sure this environment has at least the given number of
+     * slots, keeping any bindings already in them.
+     *
+     * @param size the number of slots required
+     */
+    public void ensureSlots(int size) {
+    if (slots == null)
+        slots = new SmplValue[size];
+    else if (slots.length < size)
+        slots = Arrays.copyOf(slots, size);
+    }
+
+
+
+    /**
+     * Store a binding in the given slot of this environment.
+     *
+     * @param index the slot assigned to the name by the Resolver
+     * @param value the value to which the name is bound.
+     */
+    public void putLocal(int index, SmplValue value) {
+    slots[index] = value;
+    }
+
+
+
+    /**
+     * Return the value in the given slot of this environment.
+     *
+     * @param index the slot assigned to the name by the Resolver
+     * @return the value stored there, or <code>null</code> if the slot
+     * has not yet been bound.
+     */
+    public SmplValue getLocal(int index) {
+    return slots[index];
+    }
+
+
+
+    /**
+     * Return the number of slots in this environment.
+     *
+     * @return the number of lexically addressed bindings this
+     * environment can hold
+     */
+    public int slotCount() {
+    return slots == null ? 0 : slots.length;
+    }
+
+
+
+    /**
+     * Return the environment this one inherits bindings from.
+     *
+     * @return the parent environment, or <code>null</code> at top level
+     */
+    public Environment getParent() {
+    return parent;
+    }
+
+
+
+    /**
+     * Return the value in the given slot of the frame that is
+     * <code>depth</code> frames out from this one.
+     *
+     * @param depth the number of frames to walk out
+     * @param index the slot within that frame
+     * @return the value stored there, or <code>null</code> if the slot
+     * has not yet been bound.
+     */
+    public SmplValue get(int depth, int index) {
+    Environment env = this;
+    while (depth-- > 0)
+        env = env.parent;
+    return env.getLocal(index);
+    }
+
+
+
+    /**
+     * Replace the value in the given slot of the frame that is
+     * <code>depth</code> frames out from this one.
+     *
+     * @param depth the number of frames to walk out
+     * @param index the slot within that frame
+     * @param value the new value
+     */
+    public void set(int depth, int index, SmplValue value) {
+    Environment env = this;
+    while (depth-- > 0)
+        env = env.parent;
+    env.putLocal(index, value);
     }
 
 
@@ -137,7 +285,7 @@ public class Environment {
      * @exception SmplException if <code>id</code> is unbound
      */
     public SmplValue get(String id) throws SmplException {
-    SmplValue result = dictionary.get(id);
+    SmplValue result = dictionary == null ? null : dictionary.get(id);
     if (result == null)
         if (parent == null)
             throw new SmplException("Unbound variable " + id);
@@ -155,14 +303,27 @@ public class Environment {
     /**
      * Create a string representation of this environment.
      *
-     * @return a string of all the names bound in this environment.
+     * @return a string of all the names bound in this environment,
+     * followed by the values in its slots.
      */
     @Override
     public String toString() {
 	StringBuffer result = new StringBuffer();
-    Iterator<String> i = dictionary.keySet().Iterator();
-    while(i.hasNext()) {
-        result = result.append(i.next());
+    if (dictionary != null) {
+        Iterator<String> i = dictionary.keySet().iterator();
+        while(i.hasNext()) {
+            result = result.append(i.next());
+        }
+    }
+    int n = slotCount();
+    if (n > 0) {
+        result.append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0)
+                result.append(", ");
+            result.append(getLocal(i));
+        }
+        result.append(']');
     }
 	return result.toString();
     }
@@ -0,0 +1,152 @@
+package smpl.semantics;
+
+import smpl.values.*;
+
+/**
+ * A <code>Frame</code> is the environment created for a procedure
+ * application or a let.  Its bindings are addressed by slot only (see
+ * <code>Resolver</code>), so it needs neither a name table nor, for
+ * small frames, a separate slot array: frames of up to three slots keep
+ * their bindings in fields, and a call allocates a single small object.
+ * Larger frames fall back to the array backed <code>Environment</code>.
+ */
+public abstract class Frame extends Environment {
+
+    protected Frame(Environment parent) {
+	super(parent, null);
+    }
+
+    /**
+     * Create a frame with the given number of (unbound) slots that
+     * extends the given environment.
+     *
+     * @param size The number of slots in the new frame
+     * @param parent The environment being extended.
+     * @return the new frame
+     */
+    public static Environment make(int size, Environment parent) {
+	switch (size) {
+	    case 0: return new Frame0(parent);
+	    case 1: return new Frame1(parent);
+	    case 2: return new Frame2(parent);
+	    case 3: return new Frame3(parent);
+	    default: return new Environment(size, parent);
+	}
+    }
+
+    static final class Frame0 extends Frame {
+
+	Frame0(Environment parent) {
+	    super(parent);
+	}
+
+	@Override
+	public SmplValue getLocal(int index) {
+	    throw new ArrayIndexOutOfBoundsException(index);
+	}
+
+	@Override
+	public void putLocal(int index, SmplValue value) {
+	    throw new ArrayIndexOutOfBoundsException(index);
+	}
+
+	@Override
+	public int slotCount() {
+	    return 0;
+	}
+    }
+
+    static final class Frame1 extends Frame {
+
+	SmplValue s0;
+
+	Frame1(Environment parent) {
+	    super(parent);
+	}
+
+	@Override
+	public SmplValue getLocal(int index) {
+	    if (index != 0)
+		throw new ArrayIndexOutOfBoundsException(index);
+	    return s0;
+	}
+
+	@Override
+	public void putLocal(int index, SmplValue value) {
+	    if (index != 0)
+		throw new ArrayIndexOutOfBoundsException(index);
+	    s0 = value;
+	}
+
+	@Override
+	public int slotCount() {
+	    return 1;
+	}
+    }
+
+    static final class Frame2 extends Frame {
+
+	SmplValue s0, s1;
+
+	Frame2(Environment parent) {
+	    super(parent);
+	}
+
+	@Override
+	public SmplValue getLocal(int index) {
+	    switch (index) {
+		case 0: return s0;
+		case 1: return s1;
+		default: throw new ArrayIndexOutOfBoundsException(index);
+	    }
+	}
+
+	@Override
+	public void putLocal(int index, SmplValue value) {
+	    switch (index) {
+		case 0: s0 = value; break;
+		case 1: s1 = value; break;
+		default: throw new ArrayIndexOutOfBoundsException(index);
+	    }
+	}
+
+	@Override
+	public int slotCount() {
+	    return 2;
+	}
+    }
+
+    static final class Frame3 extends Frame {
+
+	SmplValue s0, s1, s2;
+
+	Frame3(Environment parent) {
+	    super(parent);
+	}
+
+	@Override
+	public SmplValue getLocal(int index) {
+	    switch (index) {
+		case 0: return s0;
+		case 1: return s1;
+		case 2: return s2;
+		default: throw new ArrayIndexOutOfBoundsException(index);
+	    }
+	}
+
+	@Override
+	public void putLocal(int index, SmplValue value) {
+	    switch (index) {
+		case 0: s0 = value; break;
+		case 1: s1 = value; break;
+		case 2: s2 = value; break;
+		default: throw new ArrayIndexOutOfBoundsException(index);
+	    }
+	}
+
+	@Override
+	public int slotCount() {
+	    return 3;
+	}
+    }
+}
@@ -0,0 +1,173 @@
+package smpl.semantics;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import smpl.sys.SmplException;
+import smpl.values.*;
+
+/**
+ * The source of the stream made by <code>generator(p)</code>: p is
+ * called, with no arguments, on a virtual thread of its own, and each
+ * value it passes to <code>yield</code> becomes the next element of the
+ * stream.  The producer only runs while the consumer is waiting for an
+ * element: <code>yield</code> hands its value over and suspends the
+ * producer, with its frames and environments intact, until the next
+ * element is asked for.  The stream ends when p returns.  An error in p
+ * is raised where the consumer asked for the element.
+ *
+ * The producer runs in its own evaluator (see
+ * <code>SmplEvaluator.fork</code>), printing to and reading from the
+ * same places as the consumer's.  Only the consumer's side refers to
+ * this Source; if the consumer drops the stream before its end, a
+ * Cleaner interrupts the suspended producer so that its thread unwinds
+ * and ends.
+ */
+public class Generator implements SmplStream.Source {
+
+	static final Cleaner CLEANER = Cleaner.create();
+	static final ThreadLocal<Channel> CURRENT = new ThreadLocal<>();
+
+	// replies other than values
+	static final Object END = new Object();
+
+	final Channel channel;
+
+	public Generator(SmplEvaluator ev, SmplProcedure proc) {
+		channel = new Channel(ev, proc);
+		CLEANER.register(this, channel::cancel);
+	}
+
+	/**
+	 * @return The stream of the values proc yields
+	 */
+	public static SmplValue stream(SmplEvaluator ev, SmplProcedure proc) throws SmplException {
+		return SmplStream.of(new Generator(ev.fork(), proc));
+	}
+
+	@Override
+	public SmplValue next() throws SmplException {
+		return channel.next();
+	}
+
+	/**
+	 * Hand v to the consumer of the generator running on this thread and
+	 * wait until it asks for another value.
+	 */
+	public static SmplValue yield(SmplValue v) throws SmplException {
+		Channel ch = CURRENT.get();
+		if (ch == null)
+			throw new SmplException("yield called outside of a generator");
+		ch.yield(v);
+		return v;
+	}
+
+	/**
+	 * Thrown through the producer's frames when its generator is dropped.
+	 */
+	static final class Cancelled extends Error {
+		Cancelled() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * What the consumer and producer share.  It must not refer to the
+	 * Generator, or the Cleaner would never run.
+	 */
+	static final class Channel implements Runnable {
+		final SmplEvaluator ev;
+		final SmplProcedure proc;
+		final SynchronousQueue<Object> requests = new SynchronousQueue<>();
+		final SynchronousQueue<Object> replies = new SynchronousQueue<>();
+		// a lock rather than synchronized, which would pin a consumer
+		// that is itself a generator to its carrier thread while it waits;
+		// SmplStream forces its tails under a lock for the same reason
+		final ReentrantLock lock = new ReentrantLock();
+		volatile Thread producer;
+		volatile boolean finished;
+
+		Channel(SmplEvaluator ev, SmplProcedure proc) {
+			this.ev = ev;
+			this.proc = proc;
+		}
+
+		SmplValue next() throws SmplException {
+			lock.lock();
+			try {
+				return exchange();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private SmplValue exchange() throws SmplException {
+			if (finished)
+				return null;
+			Object reply;
+			try {
+				if (producer == null)
+					producer = Thread.ofVirtual().name("smpl-generator").start(this);
+				requests.put(Boolean.TRUE);
+				reply = replies.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SmplException("Interrupted waiting for a generator");
+			}
+			if (reply instanceof SmplValue)
+				return (SmplValue) reply;
+			finished = true;
+			if (reply == END)
+				return null;
+			if (reply instanceof SmplException)
+				throw (SmplException) reply;
+			throw new SmplException("Error in generator: " + reply);
+		}
+
+		// on the producer's thread
+
+		public void run() {
+			Object last = END;
+			try {
+				await();
+				CURRENT.set(this);
+				ev.apply(proc, new SmplValue[0]);
+			} catch (Cancelled e) {
+				return;
+			} catch (Throwable e) {
+				last = e;
+			}
+			try {
+				replies.put(last);
+			} catch (InterruptedException e) {
+				// the consumer is gone
+			}
+		}
+
+		void yield(SmplValue v) {
+			try {
+				replies.put(v);
+			} catch (InterruptedException e) {
+				throw new Cancelled();
+			}
+			await();
+		}
+
+		private void await() {
+			try {
+				requests.take();
+			} catch (InterruptedException e) {
+				throw new Cancelled();
+			}
+		}
+
+		// from the Cleaner, once the consumer has dropped the generator
+
+		void cancel() {
+			finished = true;
+			Thread t = producer;
+			if (t != null)
+				t.interrupt();
+		}
+	}
+}
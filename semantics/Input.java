@@ -0,0 +1,199 @@
+package smpl.semantics;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Where read and readint take their input from.  One Input, and so one
+ * buffer, serves every read, so nothing read ahead is lost between
+ * them, as it was when each read made a new <code>Scanner</code>.
+ *
+ * Lines and integers are parsed straight out of the byte buffer.  Lines
+ * end at a newline, with any carriage return before it dropped, and are
+ * decoded in the input's character set, which must (as UTF-8 and the
+ * ISO-8859 sets do) encode newline, white space, signs and digits as
+ * the single ASCII bytes.
+ *
+ * Input comes from standard input, a file or a string.  An Input may be
+ * shared by threads; each call is atomic.
+ */
+public class Input implements Closeable {
+
+	public static final int SIZE = 1 << 16;
+
+	private static Input stdin;
+
+	final InputStream in;
+	final boolean ownsStream;
+	final Charset charset;
+	final byte[] buf;
+	int pos, limit;
+
+	byte[] line = new byte[128];        // the line being read
+
+	/**
+	 * Make an input reading from in in the given character set,
+	 * buffering size bytes.  Closing the input closes in if ownsStream
+	 * is set.
+	 */
+	public Input(InputStream in, boolean ownsStream, Charset cs, int size) {
+		this.in = in;
+		this.ownsStream = ownsStream;
+		this.charset = cs;
+		this.buf = new byte[Math.max(size, 16)];
+	}
+
+	/**
+	 * @return The input from standard input, shared by all evaluators
+	 */
+	public static synchronized Input stdin() {
+		if (stdin == null)
+			stdin = new Input(System.in, false, Charset.defaultCharset(), SIZE);
+		return stdin;
+	}
+
+	/**
+	 * @return An input from the given file, in UTF-8
+	 */
+	public static Input fromFile(Path path) throws IOException {
+		return new Input(Files.newInputStream(path), true, StandardCharsets.UTF_8, SIZE);
+	}
+
+	/**
+	 * @return An input of the characters of s
+	 */
+	public static Input fromString(String s) {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		return new Input(new ByteArrayInputStream(bytes), true, StandardCharsets.UTF_8, SIZE);
+	}
+
+	/**
+	 * @return The next line, without its line terminator, or null at the
+	 * end of the input
+	 */
+	public synchronized String readLine() throws IOException {
+		if (pos == limit && !fill())
+			return null;
+		int n = 0;
+		while (true) {
+			int start = pos;
+			while (pos < limit && buf[pos] != '\n')
+				pos++;
+			int k = pos - start;
+			if (n + k > line.length)
+				line = Arrays.copyOf(line, Math.max(line.length * 2, n + k));
+			System.arraycopy(buf, start, line, n, k);
+			n += k;
+			if (pos < limit) {
+				pos++;          // the newline
+				break;
+			}
+			if (!fill())
+				break;
+		}
+		if (n > 0 && line[n - 1] == '\r')
+			n--;
+		return new String(line, 0, n, charset);
+	}
+
+	/**
+	 * Skip white space, then read an optionally signed decimal integer.
+	 * The integer must be followed by white space or the end of the
+	 * input; the rest of its line is left to be read.
+	 *
+	 * @throws EOFException if only white space is left
+	 * @throws NumberFormatException if the next word is not an integer
+	 * (it is skipped) or does not fit in an int
+	 */
+	public synchronized int readInt() throws IOException {
+		int c = skipSpace();
+		if (c < 0)
+			throw new EOFException("End of input");
+		boolean negative = c == '-';
+		if (c == '-' || c == '+') {
+			pos++;
+			c = peek();
+		}
+		if (c < '0' || c > '9') {
+			skipWord();
+			throw new NumberFormatException("Not an integer");
+		}
+		long value = 0;
+		while (c >= '0' && c <= '9') {
+			value = value * 10 + (c - '0');
+			if (value > 1L << 31) {
+				skipWord();
+				throw new NumberFormatException("Integer too large");
+			}
+			pos++;
+			c = peek();
+		}
+		if (c >= 0 && !isSpace(c)) {
+			skipWord();
+			throw new NumberFormatException("Not an integer");
+		}
+		if (negative)
+			value = -value;
+		if (value > Integer.MAX_VALUE)
+			throw new NumberFormatException("Integer too large");
+		return (int) value;
+	}
+
+	/**
+	 * Skip white space.
+	 * @return true if nothing else is left
+	 */
+	public synchronized boolean atEnd() throws IOException {
+		return skipSpace() < 0;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (ownsStream)
+			in.close();
+	}
+
+	// the next byte, not consumed, or -1 at the end
+	private int peek() throws IOException {
+		if (pos == limit && !fill())
+			return -1;
+		return buf[pos] & 0xff;
+	}
+
+	private int skipSpace() throws IOException {
+		int c;
+		while ((c = peek()) >= 0 && isSpace(c))
+			pos++;
+		return c;
+	}
+
+	private void skipWord() throws IOException {
+		int c;
+		while ((c = peek()) >= 0 && !isSpace(c))
+			pos++;
+	}
+
+	private static boolean isSpace(int c) {
+		return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f' || c == 0x0b;
+	}
+
+	private boolean fill() throws IOException {
+		int n;
+		do {
+			n = in.read(buf, 0, buf.length);
+		} while (n == 0);
+		if (n < 0)
+			return false;
+		pos = 0;
+		limit = n;
+		return true;
+	}
+}
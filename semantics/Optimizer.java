@@ -0,0 +1,514 @@
+package smpl.semantics;
+
+import smpl.syntax.*;
+import smpl.sys.SmplException;
+import smpl.values.*;
+import java.util.*;
+
+/**
+ * The <code>Optimizer</code> simplifies a program before it is resolved.
+ * It folds operators whose operands are all literals into literals,
+ * selects the branch of an if whose condition is a literal, and
+ * propagates top level definitions of literals into the uses that
+ * follow them.  Each visit method returns the node that replaces the
+ * one visited: the node itself, a literal, or a copy with optimised
+ * children.  Lists of children are updated in place.
+ *
+ * A definition is propagated only if its variable is bound nowhere else
+ * in the program: not redefined, not assigned with <code>=</code>, and
+ * not the name of a parameter or let binding.  An operation that raises
+ * an error (dividing by zero, adding a string to a number) is never
+ * folded, so the error is still raised when the program runs.
+ *
+ * Optimisation runs as part of <code>Resolver.resolve</code>, unless the
+ * system property <code>smpl.optimize</code> is false.
+ */
+public class Optimizer implements Visitor<Void, ASTNode> {
+
+	public static final boolean ENABLED =
+		Boolean.parseBoolean(System.getProperty("smpl.optimize", "true"));
+
+	interface Op1 {
+		SmplValue apply(SmplValue v) throws SmplException;
+	}
+
+	interface Op2 {
+		SmplValue apply(SmplValue l, SmplValue r) throws SmplException;
+	}
+
+	interface Make1 {
+		Exp make(Exp e);
+	}
+
+	interface Make2 {
+		Exp make(Exp l, Exp r);
+	}
+
+	HashMap<String, Integer> definitions = new HashMap<>();  // times each name is defined
+	HashSet<String> rebound = new HashSet<>();     // names bound other than by definition
+	boolean propagate;                             // second pass: substitute constants
+	HashMap<String, ExpLit> constants = new HashMap<>();
+
+	protected Optimizer() {
+	}
+
+	/**
+	 * Optimise the given program in place.  This must happen before the
+	 * program is resolved; a program that has been resolved already is
+	 * left alone.
+	 */
+	public static void optimize(SmplProgram p) throws SmplException {
+		if (p.isResolved())
+			return;
+		Optimizer o = new Optimizer();
+		// first pass: fold, and find every binding of every name
+		p.visit(o, null);
+		// second pass: fold again, propagating constants as they are defined
+		o.propagate = true;
+		p.visit(o, null);
+	}
+
+	// helpers
+
+	protected Exp opt(Exp e) throws SmplException {
+		return e == null ? null : (Exp) e.visit(this, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void optAll(ArrayList list) throws SmplException {
+		for (int i = 0; i < list.size(); i++)
+			list.set(i, ((ASTNode) list.get(i)).visit(this, null));
+	}
+
+	protected void defined(String id) {
+		if (!propagate)
+			definitions.merge(id, 1, Integer::sum);
+	}
+
+	protected void bound(String id) {
+		if (!propagate)
+			rebound.add(id);
+	}
+
+	protected boolean isConstant(String id) {
+		Integer n = definitions.get(id);
+		return n != null && n == 1 && !rebound.contains(id);
+	}
+
+	/**
+	 * Apply an operation at compile time.
+	 *
+	 * @return its result, or null if it raises an error, which is then
+	 * left to be raised when the program runs
+	 */
+	protected SmplValue evaluate(Op2 op, SmplValue l, SmplValue r) {
+		try {
+			return op.apply(l, r);
+		} catch (SmplException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	protected Exp binary(Exp node, Exp l, Exp r, Op2 op, Make2 make) throws SmplException {
+		Exp nl = opt(l), nr = opt(r);
+		if (nl instanceof ExpLit && nr instanceof ExpLit) {
+			SmplValue v = evaluate(op, ((ExpLit) nl).getVal(), ((ExpLit) nr).getVal());
+			if (v != null)
+				return new ExpLit(v);
+		}
+		return nl == l && nr == r ? node : make.make(nl, nr);
+	}
+
+	protected Exp unary(Exp node, Exp e, Op1 op, Make1 make) throws SmplException {
+		Exp ne = opt(e);
+		if (ne instanceof ExpLit) {
+			SmplValue v = evaluate((a, b) -> op.apply(a), ((ExpLit) ne).getVal(), null);
+			if (v != null)
+				return new ExpLit(v);
+		}
+		return ne == e ? node : make.make(ne);
+	}
+
+	/** Optimise the children of a node that is never folded itself. */
+	protected Exp rebuild(Exp node, Exp e, Make1 make) throws SmplException {
+		Exp ne = opt(e);
+		return ne == e ? node : make.make(ne);
+	}
+
+	protected Exp rebuild(Exp node, Exp l, Exp r, Make2 make) throws SmplException {
+		Exp nl = opt(l), nr = opt(r);
+		return nl == l && nr == r ? node : make.make(nl, nr);
+	}
+
+	protected Exp optimizeIf(Exp node, Exp con, Exp ifArg, Exp elseArg, boolean smplIf)
+		throws SmplException {
+		Exp c = opt(con), t = opt(ifArg), e = opt(elseArg);
+		if (c instanceof ExpLit && ((ExpLit) c).getVal().getType() == SmplTypes.BOOLEAN) {
+			// a literal condition picks the branch now
+			if (((ExpLit) c).getVal().boolValue())
+				return t;
+			return e != null ? e : c;
+		}
+		if (c == con && t == ifArg && e == elseArg)
+			return node;
+		return smplIf ? new SmplIf(c, t, e) : new ExpIf(c, t, e);
+	}
+
+	// program
+
+	@Override
+	public ASTNode visitSmplProgram(SmplProgram p, Void arg) throws SmplException {
+		constants.clear();
+		ArrayList seq = p.getSeq().getSeq();
+		for (int i = 0; i < seq.size(); i++) {
+			ASTNode s = ((ASTNode) seq.get(i)).visit(this, null);
+			seq.set(i, s);
+			if (propagate && s instanceof StmtDefinition) {
+				// a top level constant is propagated to the uses after it
+				StmtDefinition sd = (StmtDefinition) s;
+				if (sd.getVectorRef() == null && sd.getVars().size() == 1 && sd.getExps().size() == 1
+				    && sd.getExps().get(0) instanceof ExpLit && isConstant(sd.getVars().get(0)))
+					constants.put(sd.getVars().get(0), (ExpLit) sd.getExps().get(0));
+			} else if (propagate && s instanceof ExpDef) {
+				ExpDef d = (ExpDef) s;
+				if (d.getExp() instanceof ExpLit && isConstant(d.getVar()))
+					constants.put(d.getVar(), (ExpLit) d.getExp());
+			}
+		}
+		return p;
+	}
+
+	// statements
+
+	@Override
+	public ASTNode visitBinding(Binding b, Void arg) throws SmplException {
+		return opt(b.getValExp());
+	}
+
+	@Override
+	public ASTNode visitStmtSequence(StmtSequence sseq, Void arg) throws SmplException {
+		optAll(sseq.getSeq());
+		return sseq;
+	}
+
+	@Override
+	public ASTNode visitStatement(Statement s, Void arg) throws SmplException {
+		return s;
+	}
+
+	@Override
+	public ASTNode visitStmtDefinition(StmtDefinition sd, Void arg) throws SmplException {
+		if (sd.getVectorRef() != null) {
+			ExpVectorRef vr = sd.getVectorRef();
+			Exp ref = opt(vr.getRef()), r = opt(sd.getExp());
+			if (ref == vr.getRef() && r == sd.getExp())
+				return sd;
+			return new StmtDefinition(new ExpVectorRef(vr.getVar(), ref), r);
+		}
+		for (String id : sd.getVars())
+			defined(id);
+		optAll(sd.getExps());
+		return sd;
+	}
+
+	@Override
+	public ASTNode visitStmtLet(StmtLet let, Void arg) throws SmplException {
+		ArrayList<Binding> bindings = let.getBindings();
+		for (int i = 0; i < bindings.size(); i++) {
+			Binding b = bindings.get(i);
+			bound(b.getVar());
+			Exp v = opt(b.getValExp());
+			if (v != b.getValExp())
+				bindings.set(i, new Binding(b.getVar(), v));
+		}
+		ASTNode body = let.getBody().visit(this, null);
+		if (body == let.getBody())
+			return let;
+		return body instanceof StmtSequence ? new StmtLet(bindings, (StmtSequence) body)
+						    : new StmtLet(bindings, (Exp) body);
+	}
+
+	@Override
+	public ASTNode visitPrintStmt(StmtPrint sp, Void arg) throws SmplException {
+		return rebuild(sp, sp.getExp(), StmtPrint::new);
+	}
+
+	@Override
+	public ASTNode visitPrintLnStmt(StmtPrintLn sp, Void arg) throws SmplException {
+		return rebuild(sp, sp.getExp(), StmtPrintLn::new);
+	}
+
+	// expressions
+
+	@Override
+	public ASTNode visitExp(Exp exp, Void arg) throws SmplException {
+		return exp;
+	}
+
+	@Override
+	public ASTNode visitExpAdd(ExpAdd exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::add, ExpAdd::new);
+	}
+
+	@Override
+	public ASTNode visitExpSub(ExpSub exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::sub, ExpSub::new);
+	}
+
+	@Override
+	public ASTNode visitExpMul(ExpMul exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::mul, ExpMul::new);
+	}
+
+	@Override
+	public ASTNode visitExpDiv(ExpDiv exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::div, ExpDiv::new);
+	}
+
+	@Override
+	public ASTNode visitExpMod(ExpMod exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::mod, ExpMod::new);
+	}
+
+	@Override
+	public ASTNode visitExpPow(ExpPow exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::pow, ExpPow::new);
+	}
+
+	@Override
+	public ASTNode visitExpLit(ExpLit exp, Void arg) throws SmplException {
+		return exp;
+	}
+
+	@Override
+	public ASTNode visitExpVar(ExpVar exp, Void arg) throws SmplException {
+		ExpLit c = propagate ? constants.get(exp.getVar()) : null;
+		return c != null ? c : exp;
+	}
+
+	@Override
+	public ASTNode visitExpProcedure(ExpProc proc, Void arg) throws SmplException {
+		for (String id : proc.getParameters())
+			bound(id);
+		if (proc.getListVar() != null)
+			bound(proc.getListVar());
+		if (proc.getBody() == null) {
+			optAll(proc.getExpressions());
+			return proc;
+		}
+		Exp body = opt(proc.getBody());
+		if (body == proc.getBody())
+			return proc;
+		return new ExpProc(proc.getParameters(), body, proc.getListVar());
+	}
+
+	@Override
+	public ASTNode visitExpProcedureCall(ExpProcedureCall exp, Void arg) throws SmplException {
+		optAll(exp.getArgs());
+		Exp f = opt(exp.getProcExp());
+		return f == exp.getProcExp() ? exp : new ExpProcedureCall(f, exp.getArgs());
+	}
+
+	@Override
+	public ASTNode visitExpPair(ExpPair exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getExpL(), exp.getExpR(), ExpPair::new);
+	}
+
+	@Override
+	public ASTNode visitExpList(ExpList exp, Void arg) throws SmplException {
+		optAll(exp.getList());
+		return exp;
+	}
+
+	@Override
+	public ASTNode visitExpVector(ExpVector exp, Void arg) throws SmplException {
+		optAll(exp.getList());
+		return exp;
+	}
+
+	@Override
+	public ASTNode visitExpSubVector(ExpSubVector exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getSize(), exp.getProc(), ExpSubVector::new);
+	}
+
+	@Override
+	public ASTNode visitExpSize(ExpSize exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getBody(), ExpSize::new);
+	}
+
+	@Override
+	public ASTNode visitExpVectorRef(ExpVectorRef exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getRef(), ref -> new ExpVectorRef(exp.getVar(), ref));
+	}
+
+	@Override
+	public ASTNode visitExpPairCheck(ExpPairCheck exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getExp(), ExpPairCheck::new);
+	}
+
+	@Override
+	public ASTNode visitExpCar(ExpCar exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getExp(), ExpCar::new);
+	}
+
+	@Override
+	public ASTNode visitExpCdr(ExpCdr exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getExp(), ExpCdr::new);
+	}
+
+	@Override
+	public ASTNode visitExpEqual(ExpEqual exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::eq, ExpEqual::new);
+	}
+
+	@Override
+	public ASTNode visitExpGreater(ExpGreater exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::gt, ExpGreater::new);
+	}
+
+	@Override
+	public ASTNode visitExpLess(ExpLess exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::lt, ExpLess::new);
+	}
+
+	@Override
+	public ASTNode visitExpLessEq(ExpLessEq exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::le, ExpLessEq::new);
+	}
+
+	@Override
+	public ASTNode visitExpGreatEqe(ExpGreatEq exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::ge, ExpGreatEq::new);
+	}
+
+	@Override
+	public ASTNode visitExpNotEqual(ExpNotEqual exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::neq, ExpNotEqual::new);
+	}
+
+	@Override
+	public ASTNode visitExpLogicNot(ExpLogicNot exp, Void arg) throws SmplException {
+		return unary(exp, exp.getExp(), SmplValue::not, ExpLogicNot::new);
+	}
+
+	@Override
+	public ASTNode visitExpLogicAnd(ExpLogicAnd exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::and, ExpLogicAnd::new);
+	}
+
+	@Override
+	public ASTNode visitExpLogicOr(ExpLogicOr exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::or, ExpLogicOr::new);
+	}
+
+	@Override
+	public ASTNode visitExpBitNot(ExpBitNot exp, Void arg) throws SmplException {
+		return unary(exp, exp.getExp(), SmplValue::bitnot, ExpBitNot::new);
+	}
+
+	@Override
+	public ASTNode visitExpBitAnd(ExpBitAnd exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::bitand, ExpBitAnd::new);
+	}
+
+	@Override
+	public ASTNode visitExpBitOr(ExpBitOr exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::bitor, ExpBitOr::new);
+	}
+
+	@Override
+	public ASTNode visitExpSubStr(ExpSubStr exp, Void arg) throws SmplException {
+		Exp s = opt(exp.getExpString()), lo = opt(exp.getStart()), hi = opt(exp.getEnd());
+		if (s == exp.getExpString() && lo == exp.getStart() && hi == exp.getEnd())
+			return exp;
+		return new ExpSubStr(s, lo, hi);
+	}
+
+	@Override
+	public ASTNode visitExpConcat(ExpConcat exp, Void arg) throws SmplException {
+		return binary(exp, exp.getExpL(), exp.getExpR(), SmplValue::concat, ExpConcat::new);
+	}
+
+	@Override
+	public ASTNode visitExpEqv(ExpEqv exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getExpFirst(), exp.getExpSecond(), ExpEqv::new);
+	}
+
+	@Override
+	public ASTNode visitExpAssign(ExpAssign exp, Void arg) throws SmplException {
+		if (exp.getExpL() instanceof ExpVar)
+			bound(((ExpVar) exp.getExpL()).getVar());
+		// the target is not a use, so it is not replaced
+		Exp r = opt(exp.getExpR());
+		return r == exp.getExpR() ? exp : new ExpAssign(exp.getExpL(), r);
+	}
+
+	@Override
+	public ASTNode visitExpCall(ExpCall exp, Void arg) throws SmplException {
+		Exp f = opt(exp.getExpL()), lst = opt(exp.getExpR());
+		if (f == exp.getExpL() || !(lst instanceof ExpList))
+			return exp;
+		return new ExpCall(f, (ExpList) lst);
+	}
+
+	@Override
+	public ASTNode visitExpLazy(ExpLazy exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getExp(), ExpLazy::new);
+	}
+
+	@Override
+	public ASTNode visitExpFuture(ExpFuture exp, Void arg) throws SmplException {
+		return rebuild(exp, exp.getExp(), ExpFuture::new);
+	}
+
+	@Override
+	public ASTNode visitExpPCall(ExpPCall exp, Void arg) throws SmplException {
+		optAll(exp.getArgs());
+		Exp f = opt(exp.getProcExp());
+		return f == exp.getProcExp() ? exp : new ExpPCall(f, exp.getArgs());
+	}
+
+	@Override
+	public ASTNode visitExpDef(ExpDef exp, Void arg) throws SmplException {
+		defined(exp.getVar());
+		return rebuild(exp, exp.getExp(), e -> new ExpDef(exp.getVar(), e));
+	}
+
+	@Override
+	public ASTNode visitExpRead(ExpRead exp, Void arg) throws SmplException {
+		return exp;
+	}
+
+	@Override
+	public ASTNode visitExpReadInt(ExpReadInt exp, Void arg) throws SmplException {
+		return exp;
+	}
+
+	@Override
+	public ASTNode visitSmplIf(SmplIf exp, Void arg) throws SmplException {
+		return optimizeIf(exp, exp.getCondition(), exp.getIfArg(), exp.getElse() ? exp.getElseArg() : null, true);
+	}
+
+	@Override
+	public ASTNode visitExpIf(ExpIf exp, Void arg) throws SmplException {
+		return optimizeIf(exp, exp.getCondition(), exp.getIfArg(), exp.getElse() ? exp.getElseArg() : null, false);
+	}
+
+	@Override
+	public ASTNode visitExpCase(ExpCase exp, Void arg) throws SmplException {
+		ArrayList<ExpPair> cases = exp.getList();
+		for (int i = 0; i < cases.size(); i++) {
+			ExpPair c = cases.get(i);
+			// an else clause is a bare "else", which must stay as it is
+			Exp cond = isElse(c.getExpL()) ? c.getExpL() : opt(c.getExpL());
+			Exp body = opt(c.getExpR());
+			if (cond != c.getExpL() || body != c.getExpR())
+				cases.set(i, new ExpPair(cond, body));
+		}
+		return exp;
+	}
+
+	protected boolean isElse(Exp cond) {
+		return cond instanceof ExpVar && ((ExpVar) cond).getVar().equals("else");
+	}
+}
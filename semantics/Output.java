@@ -0,0 +1,239 @@
+package smpl.semantics;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Where print and println write.  Characters are collected in a large
+ * buffer and only written out, encoded straight into a byte channel,
+ * when it fills or when the flush policy says so, rather than on every
+ * print as <code>System.out</code> does.
+ *
+ * The buffer is always flushed when it is full and when the program
+ * finishes.  Besides that it is flushed
+ * <ul>
+ * <li>before input is read, so that a prompt appears before the program
+ *     waits for its answer, unless <code>setFlushOnRead(false)</code>,
+ * <li>after a print, if at least the flush interval has passed since it
+ *     was last flushed.  The interval is 0 (never) by default.
+ * </ul>
+ * The defaults come from the system properties
+ * <code>smpl.output.buffer</code> (the buffer size in characters),
+ * <code>smpl.output.flushOnRead</code> and
+ * <code>smpl.output.interval</code> (in milliseconds).
+ *
+ * Output goes to standard output, to a file, or to memory, where an
+ * embedding program can collect it with <code>getText</code>.  An
+ * Output may be shared by threads; each call is atomic.
+ */
+public class Output implements Appendable, Flushable, Closeable {
+
+	public static final int SIZE = Integer.getInteger("smpl.output.buffer", 1 << 16);
+	static final boolean FLUSH_ON_READ = !"false".equals(System.getProperty("smpl.output.flushOnRead"));
+	static final long INTERVAL = Long.getLong("smpl.output.interval", 0);
+
+	private static Output stdout;
+
+	final char[] buf;
+	int count;
+
+	// where the characters go: encoded into a channel, or kept in memory
+	final WritableByteChannel channel;
+	final boolean ownsChannel;
+	final CharsetEncoder encoder;
+	final ByteBuffer bytes;
+	final StringBuilder memory;
+
+	boolean flushOnRead = FLUSH_ON_READ;
+	long interval = INTERVAL * 1000000L;    // in nanoseconds
+	long lastFlush = System.nanoTime();
+
+	/**
+	 * Make an output that writes to channel in the given character set,
+	 * buffering size characters.  Closing the output closes the channel
+	 * if ownsChannel is set.
+	 */
+	public Output(WritableByteChannel channel, boolean ownsChannel, Charset cs, int size) {
+		this.buf = new char[Math.max(size, 2)];
+		this.channel = channel;
+		this.ownsChannel = ownsChannel;
+		this.encoder = cs.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.bytes = ByteBuffer.allocateDirect((int) (buf.length * encoder.averageBytesPerChar()) + 16);
+		this.memory = null;
+	}
+
+	protected Output(StringBuilder memory, int size) {
+		this.buf = new char[Math.max(size, 2)];
+		this.channel = null;
+		this.ownsChannel = false;
+		this.encoder = null;
+		this.bytes = null;
+		this.memory = memory;
+	}
+
+	/**
+	 * @return The output to standard output, shared by all evaluators
+	 */
+	public static synchronized Output stdout() {
+		if (stdout == null) {
+			FileChannel out = new FileOutputStream(FileDescriptor.out).getChannel();
+			stdout = new Output(out, false, System.out.charset(), SIZE);
+		}
+		return stdout;
+	}
+
+	/**
+	 * @return An output to the given file, in UTF-8, replacing any
+	 * previous contents
+	 */
+	public static Output toFile(Path path) throws IOException {
+		FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE,
+						   StandardOpenOption.WRITE,
+						   StandardOpenOption.TRUNCATE_EXISTING);
+		return new Output(out, true, StandardCharsets.UTF_8, SIZE);
+	}
+
+	/**
+	 * @return An output kept in memory; see getText
+	 */
+	public static Output toBuffer() {
+		return new Output(new StringBuilder(), SIZE);
+	}
+
+	/**
+	 * @return Everything written to this in-memory output so far
+	 */
+	public synchronized String getText() {
+		if (memory == null)
+			throw new IllegalStateException("Not an in-memory output");
+		return new StringBuilder(memory.length() + count).append(memory).append(buf, 0, count).toString();
+	}
+
+	public synchronized void setFlushOnRead(boolean flushOnRead) {
+		this.flushOnRead = flushOnRead;
+	}
+
+	/**
+	 * Flush after a print once at least millis milliseconds have passed
+	 * since the last flush; 0 turns this off.
+	 */
+	public synchronized void setFlushInterval(long millis) {
+		this.interval = millis * 1000000L;
+	}
+
+	@Override
+	public synchronized Output append(char c) throws IOException {
+		if (count == buf.length)
+			drain(false);
+		buf[count++] = c;
+		return this;
+	}
+
+	@Override
+	public Output append(CharSequence s) throws IOException {
+		if (s == null)
+			s = "null";
+		return append(s, 0, s.length());
+	}
+
+	@Override
+	public synchronized Output append(CharSequence s, int start, int end) throws IOException {
+		if (s == null)
+			s = "null";
+		while (start < end) {
+			if (count == buf.length)
+				drain(false);
+			int n = Math.min(end - start, buf.length - count);
+			if (s instanceof String)
+				((String) s).getChars(start, start + n, buf, count);
+			else
+				for (int i = 0; i < n; i++)
+					buf[count + i] = s.charAt(start + i);
+			count += n;
+			start += n;
+		}
+		return this;
+	}
+
+	/**
+	 * Called after each print: flush if the interval has passed.
+	 */
+	public synchronized void printed() throws IOException {
+		if (interval > 0 && System.nanoTime() - lastFlush >= interval)
+			drain(false);
+	}
+
+	/**
+	 * Called before input is read: flush unless told not to.
+	 */
+	public synchronized void reading() throws IOException {
+		if (flushOnRead && count > 0)
+			drain(false);
+	}
+
+	@Override
+	public synchronized void flush() throws IOException {
+		drain(false);
+	}
+
+	/**
+	 * Flush, and close the channel if this output owns it.  Standard
+	 * output stays usable.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		drain(ownsChannel);
+		if (ownsChannel)
+			channel.close();
+	}
+
+	/**
+	 * Write out the buffer.  A high surrogate at its end is kept back
+	 * until the low one that goes with it arrives, unless this is the end
+	 * of the output.
+	 */
+	protected void drain(boolean end) throws IOException {
+		if (memory != null) {
+			memory.append(buf, 0, count);
+			count = 0;
+		} else {
+			CharBuffer chars = CharBuffer.wrap(buf, 0, count);
+			CoderResult cr;
+			while ((cr = encoder.encode(chars, bytes, end)).isOverflow())
+				write();
+			if (cr.isError())
+				cr.throwException();
+			if (end)
+				while (encoder.flush(bytes).isOverflow())
+					write();
+			write();
+			int left = chars.remaining();
+			System.arraycopy(buf, chars.position(), buf, 0, left);
+			count = left;
+		}
+		lastFlush = System.nanoTime();
+	}
+
+	private void write() throws IOException {
+		bytes.flip();
+		while (bytes.hasRemaining())
+			channel.write(bytes);
+		bytes.clear();
+	}
+}
@@ -0,0 +1,95 @@
+package smpl.semantics;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import smpl.sys.SmplException;
+import smpl.syntax.Exp;
+import smpl.values.*;
+
+/**
+ * Runs <code>future(e)</code> and the arguments of
+ * <code>pcall(f, e1, ..., en)</code> on a work-stealing
+ * <code>ForkJoinPool</code>, one thread per processor unless the system
+ * property <code>smpl.parallel.threads</code> says otherwise.  A future
+ * made on a pool thread is pushed on that thread's own queue, from which
+ * idle threads steal; one made elsewhere is submitted to the pool.
+ *
+ * Forking costs more than a small evaluation, so there is a sequential
+ * cutoff: once the current pool thread already has more than
+ * <code>smpl.parallel.cutoff</code> (default 3) tasks queued that no one
+ * has stolen, the other threads have enough to do and new futures are
+ * evaluated on the spot.  Programs may add a cutoff of their own, such as
+ * <pre>
+ *   def pfib proc(n)
+ *     if n &lt; 20 then fib(n)
+ *     else pcall(proc(a, b) a + b, pfib(n - 1), pfib(n - 2));
+ * </pre>
+ *
+ * The tasks share the evaluator that made them, which keeps no state of
+ * its own, and the environments they were made in; futures that assign
+ * to the same variables race, as threads do.
+ */
+public class Parallel {
+
+	public static final int THREADS = Integer.getInteger("smpl.parallel.threads",
+							      Runtime.getRuntime().availableProcessors());
+	public static final int CUTOFF = Integer.getInteger("smpl.parallel.cutoff", 3);
+
+	static final ForkJoinPool POOL = new ForkJoinPool(THREADS);
+
+	private Parallel() {
+	}
+
+	/**
+	 * @return A future for the value of exp in env
+	 */
+	public static SmplValue future(SmplEvaluator ev, Exp exp, Environment env) {
+		SmplFuture f = new SmplFuture(exp, env, ev);
+		start(f.getTask());
+		return f;
+	}
+
+	/**
+	 * Evaluate exps in env in parallel: all but the first are forked as
+	 * futures, the first is evaluated by this thread, and the rest are
+	 * then touched in the reverse of the order they were forked, so that
+	 * any not yet stolen are run here from the top of the queue.
+	 *
+	 * @return Their values, in order
+	 */
+	public static SmplValue[] evalAll(SmplEvaluator ev, ArrayList<Exp> exps, Environment env)
+		throws SmplException {
+		int n = exps.size();
+		SmplValue[] vals = new SmplValue[n];
+		if (n < 2 || saturated()) {
+			for (int i = 0; i < n; i++)
+				vals[i] = ev.eval(exps.get(i), env);
+			return vals;
+		}
+		SmplFuture[] futures = new SmplFuture[n];
+		for (int i = 1; i < n; i++) {
+			futures[i] = new SmplFuture(exps.get(i), env, ev);
+			start(futures[i].getTask());
+		}
+		vals[0] = ev.eval(exps.get(0), env);
+		for (int i = n - 1; i > 0; i--)
+			vals[i] = futures[i].touch();
+		return vals;
+	}
+
+	static void start(ForkJoinTask<?> task) {
+		if (ForkJoinTask.getPool() != POOL)
+			POOL.execute(task);
+		else if (saturated())
+			task.quietlyInvoke();
+		else
+			task.fork();
+	}
+
+	// past the sequential cutoff: this pool thread has work to spare
+	static boolean saturated() {
+		return ForkJoinTask.getPool() == POOL
+			&& ForkJoinTask.getSurplusQueuedTaskCount() > CUTOFF;
+	}
+}
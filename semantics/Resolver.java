@@ -0,0 +1,522 @@
+package smpl.semantics;
+
+import smpl.syntax.*;
+import smpl.sys.SmplException;
+import java.util.*;
+
+/**
+ * The <code>Resolver</code> is a pass over a program that is run once,
+ * before evaluation.  It works out, for every variable reference, how
+ * many frames out from the current one its binding lives (its depth)
+ * and which slot it occupies in that frame (its index), and records
+ * that address on the AST node.  It also records on each
+ * <code>ExpProc</code>, <code>StmtLet</code> and the program itself how
+ * many slots a frame for it needs.
+ *
+ * Definitions are visible throughout the frame in which they occur, so
+ * that procedures may refer to each other regardless of the order in
+ * which they are defined.  References to identifiers that are not
+ * lexically bound are left unresolved, and are looked up by name in the
+ * global environment at run time.
+ */
+public class Resolver implements Visitor<Scope, Void> {
+
+	/**
+	 * Resolve all the variable references in the given program, after
+	 * optimising it (see <code>Optimizer</code>).  A program that has
+	 * already been resolved is left as it is.  Threads running the same
+	 * program all come through here first, and the lock makes the first
+	 * one's changes to the AST visible to the rest.
+	 *
+	 * @param p the program
+	 * @exception SmplException if the program is malformed
+	 */
+	public static void resolve(SmplProgram p) throws SmplException {
+		synchronized (p) {
+			if (!p.isResolved()) {
+				if (Optimizer.ENABLED)
+					Optimizer.optimize(p);
+				p.visit(new Resolver(), null);
+			}
+		}
+	}
+
+	/**
+	 * Declare, in the given scope, every identifier defined directly in
+	 * the given body (i.e. not inside a nested procedure or let).
+	 */
+	protected void declareDefinitions(ASTNode body, Scope scope) {
+		if (body instanceof StmtSequence) {
+			for (ASTNode s : ((StmtSequence) body).getSeq())
+				declareDefinitions(s, scope);
+		} else if (body instanceof StmtDefinition) {
+			StmtDefinition sd = (StmtDefinition) body;
+			if (sd.getVectorRef() == null)
+				for (String v : sd.getVars())
+					scope.declare(v);
+		} else if (body instanceof ExpDef) {
+			scope.declare(((ExpDef) body).getVar());
+		}
+	}
+
+	/**
+	 * @return the {depth, index} address of id as seen from scope, or
+	 * <code>null</code> if it is not lexically bound.
+	 */
+	protected int[] lookup(String id, Scope scope) {
+		int depth = 0;
+		for (Scope s = scope; s != null; s = s.getParent()) {
+			int index = s.indexOf(id);
+			if (index >= 0)
+				return new int[] {depth, index};
+			depth++;
+		}
+		return null;
+	}
+
+	/**
+	 * Mark the calls in tail position of the given procedure body, so
+	 * that the evaluator can run them without growing the Java stack.
+	 * The tail positions of an expression are its own position if it is
+	 * a call, the branches of an if or case, the body of a let, and the
+	 * last statement of a sequence.
+	 */
+	protected void markTailCalls(ASTNode body) {
+		if (body instanceof ExpProcedureCall) {
+			((ExpProcedureCall) body).setTail(true);
+		} else if (body instanceof ExpCall) {
+			((ExpCall) body).setTail(true);
+		} else if (body instanceof ExpIf) {
+			ExpIf exp = (ExpIf) body;
+			markTailCalls(exp.getIfArg());
+			if (exp.getElse())
+				markTailCalls(exp.getElseArg());
+		} else if (body instanceof SmplIf) {
+			SmplIf exp = (SmplIf) body;
+			markTailCalls(exp.getIfArg());
+			if (exp.getElse())
+				markTailCalls(exp.getElseArg());
+		} else if (body instanceof ExpCase) {
+			for (ExpPair c : ((ExpCase) body).getList())
+				markTailCalls(c.getExpR());
+		} else if (body instanceof StmtLet) {
+			markTailCalls(((StmtLet) body).getBody());
+		} else if (body instanceof StmtSequence) {
+			ArrayList<Statement> seq = ((StmtSequence) body).getSeq();
+			if (!seq.isEmpty())
+				markTailCalls(seq.get(seq.size() - 1));
+		}
+	}
+
+	protected void visitAll(ArrayList<? extends Exp> exps, Scope scope) throws SmplException {
+		if (exps != null)
+			for (Exp e : exps)
+				e.visit(this, scope);
+	}
+
+	// program
+
+	@Override
+	public Void visitSmplProgram(SmplProgram p, Scope scope) throws SmplException {
+		Scope global = new Scope(null);
+		declareDefinitions(p.getSeq(), global);
+		p.getSeq().visit(this, global);
+		p.setFrameSize(global.size());
+		return null;
+	}
+
+	// statements
+
+	@Override
+	public Void visitBinding(Binding b, Scope scope) throws SmplException {
+		b.getValExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitStmtSequence(StmtSequence sseq, Scope scope) throws SmplException {
+		for (ASTNode s : sseq.getSeq())
+			s.visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitStatement(Statement s, Scope scope) throws SmplException {
+		return null;
+	}
+
+	@Override
+	public Void visitStmtDefinition(StmtDefinition sd, Scope scope) throws SmplException {
+		if (sd.getVectorRef() == null) {
+			ArrayList<String> vars = sd.getVars();
+			int[] slots = new int[vars.size()];
+			// declare first so that recursive procedures can see themselves
+			for (int i = 0; i < slots.length; i++)
+				slots[i] = scope.declare(vars.get(i));
+			visitAll(sd.getExps(), scope);
+			sd.setSlots(slots);
+		} else {
+			sd.getVectorRef().visit(this, scope);
+			sd.getExp().visit(this, scope);
+		}
+		return null;
+	}
+
+	@Override
+	public Void visitStmtLet(StmtLet let, Scope scope) throws SmplException {
+		Scope inner = new Scope(scope);
+		// binding expressions are evaluated in the enclosing frame
+		for (Binding b : let.getBindings()) {
+			b.getValExp().visit(this, scope);
+			inner.bind(b.getVar());
+		}
+		declareDefinitions(let.getBody(), inner);
+		let.getBody().visit(this, inner);
+		let.setFrameSize(inner.size());
+		return null;
+	}
+
+	@Override
+	public Void visitPrintStmt(StmtPrint sp, Scope scope) throws SmplException {
+		sp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitPrintLnStmt(StmtPrintLn sp, Scope scope) throws SmplException {
+		sp.getExp().visit(this, scope);
+		return null;
+	}
+
+	// expressions
+
+	@Override
+	public Void visitExp(Exp exp, Scope scope) throws SmplException {
+		return null;
+	}
+
+	@Override
+	public Void visitExpAdd(ExpAdd exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpSub(ExpSub exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpMul(ExpMul exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpDiv(ExpDiv exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpMod(ExpMod exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpPow(ExpPow exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpLit(ExpLit exp, Scope scope) throws SmplException {
+		return null;
+	}
+
+	@Override
+	public Void visitExpVar(ExpVar exp, Scope scope) throws SmplException {
+		int[] addr = lookup(exp.getVar(), scope);
+		if (addr != null)
+			exp.setAddress(addr[0], addr[1]);
+		return null;
+	}
+
+	@Override
+	public Void visitExpProcedure(ExpProc proc, Scope scope) throws SmplException {
+		Scope inner = new Scope(scope);
+		// parameters occupy the first slots, in order, followed by the list var
+		for (String param : proc.getParameters())
+			inner.bind(param);
+		if (proc.getListVar() != null)
+			inner.bind(proc.getListVar());
+
+		if (proc.getBody() != null) {
+			declareDefinitions(proc.getBody(), inner);
+			proc.getBody().visit(this, inner);
+			markTailCalls(proc.getBody());
+		} else {
+			ArrayList<Exp> exps = proc.getExpressions();
+			for (Exp e : exps)
+				declareDefinitions(e, inner);
+			visitAll(exps, inner);
+			if (!exps.isEmpty())
+				markTailCalls(exps.get(exps.size() - 1));
+		}
+		proc.setFrameSize(inner.size());
+		return null;
+	}
+
+	@Override
+	public Void visitExpProcedureCall(ExpProcedureCall exp, Scope scope) throws SmplException {
+		exp.getProcExp().visit(this, scope);
+		visitAll(exp.getArgs(), scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpPair(ExpPair exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpList(ExpList exp, Scope scope) throws SmplException {
+		visitAll(exp.getList(), scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpVector(ExpVector exp, Scope scope) throws SmplException {
+		visitAll(exp.getList(), scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpSubVector(ExpSubVector exp, Scope scope) throws SmplException {
+		exp.getSize().visit(this, scope);
+		exp.getProc().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpSize(ExpSize exp, Scope scope) throws SmplException {
+		exp.getBody().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpVectorRef(ExpVectorRef exp, Scope scope) throws SmplException {
+		int[] addr = lookup(exp.getVar(), scope);
+		if (addr != null)
+			exp.setAddress(addr[0], addr[1]);
+		exp.getRef().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpPairCheck(ExpPairCheck exp, Scope scope) throws SmplException {
+		exp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpCar(ExpCar exp, Scope scope) throws SmplException {
+		exp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpCdr(ExpCdr exp, Scope scope) throws SmplException {
+		exp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpEqual(ExpEqual exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpGreater(ExpGreater exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpLess(ExpLess exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpLessEq(ExpLessEq exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpGreatEqe(ExpGreatEq exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpNotEqual(ExpNotEqual exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpLogicNot(ExpLogicNot exp, Scope scope) throws SmplException {
+		exp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpLogicAnd(ExpLogicAnd exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpLogicOr(ExpLogicOr exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpBitNot(ExpBitNot exp, Scope scope) throws SmplException {
+		exp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpBitAnd(ExpBitAnd exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpBitOr(ExpBitOr exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpSubStr(ExpSubStr exp, Scope scope) throws SmplException {
+		exp.getExpString().visit(this, scope);
+		exp.getStart().visit(this, scope);
+		exp.getEnd().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpConcat(ExpConcat exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpEqv(ExpEqv exp, Scope scope) throws SmplException {
+		exp.getExpFirst().visit(this, scope);
+		exp.getExpSecond().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpAssign(ExpAssign exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpCall(ExpCall exp, Scope scope) throws SmplException {
+		exp.getExpL().visit(this, scope);
+		exp.getExpR().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpLazy(ExpLazy exp, Scope scope) throws SmplException {
+		exp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpFuture(ExpFuture exp, Scope scope) throws SmplException {
+		exp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpPCall(ExpPCall exp, Scope scope) throws SmplException {
+		exp.getProcExp().visit(this, scope);
+		visitAll(exp.getArgs(), scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpDef(ExpDef exp, Scope scope) throws SmplException {
+		exp.setSlot(scope.declare(exp.getVar()));
+		exp.getExp().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpRead(ExpRead exp, Scope scope) throws SmplException {
+		return null;
+	}
+
+	@Override
+	public Void visitExpReadInt(ExpReadInt exp, Scope scope) throws SmplException {
+		return null;
+	}
+
+	@Override
+	public Void visitSmplIf(SmplIf exp, Scope scope) throws SmplException {
+		exp.getCondition().visit(this, scope);
+		exp.getIfArg().visit(this, scope);
+		if (exp.getElse())
+			exp.getElseArg().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpIf(ExpIf exp, Scope scope) throws SmplException {
+		exp.getCondition().visit(this, scope);
+		exp.getIfArg().visit(this, scope);
+		if (exp.getElse())
+			exp.getElseArg().visit(this, scope);
+		return null;
+	}
+
+	@Override
+	public Void visitExpCase(ExpCase exp, Scope scope) throws SmplException {
+		for (ExpPair c : exp.getList())
+			c.visit(this, scope);
+		return null;
+	}
+}
@@ -0,0 +1,74 @@
+package smpl.semantics;
+
+import java.util.*;
+
+/**
+ * An instance of class <code>Scope</code> is the compile time
+ * counterpart of an <code>Environment</code> frame.  It records the
+ * order in which identifiers are declared in a frame, so that the
+ * <code>Resolver</code> can replace each identifier with the slot it
+ * will occupy at run time.
+ */
+public class Scope {
+
+    ArrayList<String> names;    // identifiers, in slot order
+    Scope parent;               // lexically enclosing scope
+
+    /**
+     * Create a new (empty) scope nested inside the given one.
+     *
+     * @param parent The enclosing scope, or <code>null</code> for the
+     * top level scope of a program.
+     */
+    public Scope(Scope parent) {
+	names = new ArrayList<>();
+	this.parent = parent;
+    }
+
+    public Scope getParent() {
+	return parent;
+    }
+
+    /**
+     * Declare the given identifier in this scope.  Declaring an
+     * identifier that is already present in this scope reuses its slot.
+     *
+     * @param id the identifier to be declared
+     * @return the slot assigned to <code>id</code>
+     */
+    public int declare(String id) {
+	int index = indexOf(id);
+	if (index < 0)
+	    index = bind(id);
+	return index;
+    }
+
+    /**
+     * Bind the given identifier to a fresh slot in this scope, as is done
+     * for parameters and let bindings.  A later binding of the same
+     * identifier shadows an earlier one.
+     *
+     * @param id the identifier to be bound
+     * @return the slot assigned to <code>id</code>
+     */
+    public int bind(String id) {
+	names.add(id);
+	return names.size() - 1;
+    }
+
+    /**
+     * @param id the identifier
+     * @return the slot of <code>id</code> in this scope only, or -1 if
+     * it is not declared here.
+     */
+    public int indexOf(String id) {
+	return names.lastIndexOf(id);
+    }
+
+    /**
+     * @return the number of slots a frame for this scope needs.
+     */
+    public int size() {
+	return names.size();
+    }
+}
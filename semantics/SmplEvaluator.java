@@ -1,28 +1,322 @@
 package smpl.semantics;
 
+import smpl.closure.ClosureCompiler;
+import smpl.jit.CompiledBody;
+import smpl.jit.JvmCompiler;
 import smpl.syntax.*;
 import smpl.sys.SmplException;
-import smpl.sys.TypeException;
+import smpl.sys.SmplTypeException;
 import smpl.values.*;
 import java.util.*;
 import java.lang.Math;
 
 
+/**
+ * Evaluates programs by walking their ASTs.
+ *
+ * An evaluator keeps no state of its own while it runs: the state of an
+ * evaluation is in its environments and on the Java stack, and a pending
+ * tail call is returned as a value (a <code>TailCall</code>).  So one
+ * evaluator may run any number of programs at once, on different
+ * threads, provided its settings (closure compilation, output and input)
+ * are made before it is shared.  A program, once resolved, may likewise
+ * be run by several threads at once, each in its own global environment;
+ * the run time caches in its AST (call site caches, operator
+ * specialisations, compiled bodies) are safe to share.
+ */
 public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 
-	protected SmplValue result;
+	/**
+	 * Returned by a call in tail position in place of its value: the
+	 * call, for the trampoline in execBody to run.
+	 */
+	protected static final class TailCall extends SmplValue {
+		final SmplProcedure proc;
+		final Environment frame;
+
+		TailCall(SmplProcedure proc, Environment frame) {
+			super(null);
+			this.proc = proc;
+			this.frame = frame;
+		}
+	}
+
+	// run programs as closure trees built by the ClosureCompiler, instead
+	// of walking their ASTs
+	protected boolean compileClosures;
+
+	// where print and println write, and read and readint read from
+	protected Output output = Output.stdout();
+	protected Input input = Input.stdin();
+
+	public SmplEvaluator() {
+		this(false);
+	}
+
+	public SmplEvaluator(boolean compileClosures) {
+		this.compileClosures = compileClosures;
+	}
+
+	public void setCompileClosures(boolean compileClosures) {
+		this.compileClosures = compileClosures;
+	}
+
+	public boolean getCompileClosures() {
+		return compileClosures;
+	}
+
+	/**
+	 * @return A new evaluator with the same settings, output and input
+	 * as this one, to run code on another thread
+	 */
+	public SmplEvaluator fork() {
+		SmplEvaluator ev = new SmplEvaluator(compileClosures);
+		ev.output = output;
+		ev.input = input;
+		return ev;
+	}
+
+	/**
+	 * @return Where print and println write
+	 */
+	public Output getOutput() {
+		return output;
+	}
+
+	/**
+	 * Send print and println to out instead, a file or an in-memory
+	 * buffer, say.
+	 */
+	public void setOutput(Output output) {
+		this.output = output;
+	}
+
+	/**
+	 * Write the printed form of v to the output, followed by a newline
+	 * if newline is set.  Values are written piece by piece by the
+	 * Printer rather than converted to one string first.
+	 */
+	public void print(SmplValue v, boolean newline) throws SmplException {
+		v = SmplThunk.demand(v);
+		try {
+			Printer.print(v, output);
+			if(newline)
+				output.append('\n');
+			output.printed();
+		} catch (java.io.IOException e) {
+			throw new SmplException("Error writing output: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @return Where read and readint read from
+	 */
+	public Input getInput() {
+		return input;
+	}
+
+	public void setInput(Input input) {
+		this.input = input;
+	}
+
+	/**
+	 * Write out whatever has been printed but is still buffered.
+	 */
+	public void flushOutput() throws SmplException {
+		try {
+			output.flush();
+		} catch (java.io.IOException e) {
+			throw new SmplException("Error writing output: " + e.getMessage());
+		}
+	}
 
 
 	@Override
 	public SmplValue visitSmplProgram(SmplProgram p, Environment env) throws SmplException {
-		result = p.getSeq().visit(this, env);
+		SmplValue result;
+		// work out lexical addresses once, before evaluating anything
+		Resolver.resolve(p);
+		env.ensureSlots(p.getFrameSize());
+		if(compileClosures)
+			result = ClosureCompiler.compile(p).exec(this, env);
+		else
+			result = p.getSeq().visit(this, env);
+		flushOutput();
+		return result;
+	}
+
+	/**
+	 * Look up a variable by its lexical address, or by name if the
+	 * Resolver could not find a lexical binding for it.  A variable bound
+	 * to a lazy value is forced here.
+	 */
+	protected SmplValue lookup(String id, int depth, int index, Environment env) throws SmplException {
+		if(index < 0)
+			return SmplThunk.demand(env.get(id));
+		SmplValue val = env.get(depth, index);
+		if(val == null)
+			throw new SmplException("Unbound variable " + id);
+		return SmplThunk.demand(val);
+	}
+
+	/**
+	 * Evaluate an expression whose value is needed itself, as an operand,
+	 * a condition or the procedure of a call, say: a lazy value is forced.
+	 */
+	protected SmplValue strict(Exp e, Environment env) throws SmplException {
+		SmplValue val = e.visit(this, env);
+		return e.neverLazy() ? val : SmplThunk.demand(val);
+	}
+
+	/**
+	 * Bind the i-th variable of the given definition in env, by slot if
+	 * it has been resolved, otherwise by name.
+	 */
+	protected void define(StmtDefinition sd, int i, SmplValue val, Environment env) {
+		int[] slots = sd.getSlots();
+		if(slots != null)
+			env.putLocal(slots[i], val);
+		else
+			env.put(sd.getVars().get(i), val);
+	}
+
+	/**
+	 * Create the frame for an application of the given procedure.  It
+	 * extends the procedure's closing environment, and the caller binds
+	 * the arguments into its first slots.
+	 */
+	protected Environment newFrame(SmplProcedure proc) {
+		return Frame.make(proc.getProcExp().getFrameSize(), proc.getClosingEnv());
+	}
+
+	/**
+	 * Run the body of a procedure once in the given frame: by its
+	 * compiled form if it has one, otherwise by walking it.  The value
+	 * of a body that is a block is that of its last expression.  A body run
+	 * often enough is handed to the JvmCompiler first.  When compiling
+	 * closures, the body the ClosureCompiler made for it is run instead,
+	 * if there is one; an evaluator that is not compiling closures never
+	 * runs it, even on a program another evaluator has compiled.
+	 */
+	protected SmplValue invoke(SmplProcedure proc, Environment frame) throws SmplException {
+		ExpProc exp = proc.getProcExp();
+		CompiledBody code = compileClosures ? exp.getClosure() : null;
+		if(code == null){
+			code = proc.getCompiled();
+			if(code == null && exp.countCall() == JvmCompiler.THRESHOLD)
+				code = JvmCompiler.compile(exp);
+		}
+		if(code != null)
+			return code.run(this, frame);
+		if(exp.getBody() != null)
+			return exp.getBody().visit(this, frame);
+		// a { ... } body: only the last expression is in tail position
+		SmplValue result = SmplValue.make(false);
+		for(Exp e : exp.getExpressions())
+			result = e.visit(this, frame);
 		return result;
 	}
 
+	/**
+	 * Evaluate a procedure body in the given frame.  Calls the body makes
+	 * in tail position return a TailCall instead of evaluating the callee's
+	 * body themselves, and are run here, in a loop, so that iterative
+	 * procedures use constant Java stack.
+	 */
+	protected SmplValue execBody(SmplProcedure proc, Environment frame) throws SmplException {
+		SmplValue val = invoke(proc, frame);
+		while(val instanceof TailCall){
+			TailCall call = (TailCall) val;
+			val = invoke(call.proc, call.frame);
+		}
+		return val;
+	}
+
+	/**
+	 * Leave a call for the trampoline in execBody to run.
+	 */
+	protected SmplValue tailCall(SmplProcedure proc, Environment frame) {
+		return new TailCall(proc, frame);
+	}
+
+	/**
+	 * Evaluate a single node in the given environment, running any tail
+	 * call it leaves behind.  Other execution engines use this to fall
+	 * back on the tree walker for forms they do not handle themselves.
+	 */
+	public SmplValue eval(ASTNode node, Environment env) throws SmplException {
+		SmplValue val = node.visit(this, env);
+		if(!(val instanceof TailCall))
+			return val;
+		TailCall call = (TailCall) val;
+		return execBody(call.proc, call.frame);
+	}
+
+	/**
+	 * Evaluate a node in tail position of a procedure body.  Unlike
+	 * eval, any tail call it leaves behind is returned as it is, for the
+	 * trampoline of the procedure's caller to run.
+	 */
+	public SmplValue evalTail(ASTNode node, Environment env) throws SmplException {
+		return node.visit(this, env);
+	}
+
+	/**
+	 * Apply a procedure to an array of arguments.
+	 */
+	public SmplValue apply(SmplProcedure proc, SmplValue[] args) throws SmplException {
+		if(proc instanceof SmplBuiltin)
+			return ((SmplBuiltin) proc).call(this, args);
+		return execBody(proc, bind(proc, args));
+	}
+
+	/**
+	 * Apply a procedure to an array of arguments from tail position: the
+	 * call is left for the trampoline of the caller's caller.
+	 */
+	public SmplValue applyTail(SmplProcedure proc, SmplValue[] args) throws SmplException {
+		if(proc instanceof SmplBuiltin)
+			return ((SmplBuiltin) proc).call(this, args);
+		return tailCall(proc, bind(proc, args));
+	}
+
+	/**
+	 * Bind an array of arguments to a procedure's parameters, in the first
+	 * slots of a new frame; any arguments left over are collected into a
+	 * list for its list variable, if it has one.
+	 */
+	protected Environment bind(SmplProcedure proc, SmplValue[] args) {
+		return new BindingPlan(proc.getProcExp()).bind(args, proc.getClosingEnv());
+	}
+
+	/**
+	 * Run a procedure in a frame its arguments have already been bound
+	 * in; from tail position the call is left for the trampoline instead.
+	 */
+	public SmplValue call(SmplProcedure proc, Environment frame, boolean tail) throws SmplException {
+		return tail ? tailCall(proc, frame) : execBody(proc, frame);
+	}
+
 	// statements
 
+	@Override
+	public SmplValue visitStatement(Statement s, Environment env) throws SmplException {
+		throw new SmplException("Cannot evaluate " + s);
+	}
+
+	@Override
+	public SmplValue visitExp(Exp exp, Environment env) throws SmplException {
+		throw new SmplException("Cannot evaluate " + exp);
+	}
+
+	@Override
+	public SmplValue visitBinding(Binding b, Environment env) throws SmplException {
+		return b.getValExp().visit(this, env);
+	}
+
 	@Override
 	public SmplValue visitStmtSequence(StmtSequence sseq, Environment env) throws SmplException{
+		SmplValue result;
 		ArrayList<Statement> seq = sseq.getSeq();
 		result = SmplValue.make(0); // defaut result
 		for (Statement s : seq){
@@ -34,8 +328,9 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 
 	@Override
 	public SmplValue visitStmtDefinition(StmtDefinition sd, Environment env) throws SmplException{
+		SmplValue result;
 
-		if(sd.getVectorReference() == null){
+		if(sd.getVectorRef() == null){
 			// assign values to variables
 			ArrayList<Exp> args = sd.getExps();
 			ArrayList<String> vars = sd.getVars();
@@ -45,47 +340,44 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 
 			if(a_size == 1 && v_size != 1){
 				Exp e = args.get(0);
-				result = e.visit(this,env);
+				result = strict(e, env);
 				if(result.getType() == SmplTypes.LIST){
 					SmplList l = result.listValue();
-					for(int i=0; i<v_size; i++){
-						if(l.getNextValue() != null){
-							env.put(vars.get(i), l.getCurrentValue());
-							l = l.getNextValue();
-						}
+					for(int i=0; i<v_size && i<l.size(); i++){
+						define(sd, i, l.getCurrentValue(), env);
+						l = l.getNextValue();
 					}
 				}
 			} else if(a_size != v_size){
 				throw new SmplException("Must assign same number of expressions as variables");
 			} else {
 				for(int i=0; i<a_size; i++)
-					env.put(vars.get(i), args.get(i).visit(this, env));
+					define(sd, i, args.get(i).visit(this, env), env);
 			}
 		} else {
 			// assign value to vector position
 			// get vector reference
-			ExpVectorRef vr = sd.getVectorReference();
+			ExpVectorRef vr = sd.getVectorRef();
 			// get value to assign
 			Exp val = sd.getExp();
 			// get vector and position
 			String vecVar = vr.getVar();
 			Exp ref = vr.getRef();
-			result = ref.visit(this, env);
+			result = strict(ref, env);
 			// confirm vector position is int
 			if(result.getType() != SmplTypes.INTEGER && result.getType() != SmplTypes.REAL)
 				throw new SmplTypeException(SmplTypes.INTEGER, result.getType());
 			// get ref as int
 			int _ref = result.intValue();
 			// get vector
-			SmplValue vec = env.get(vecVar);
+			SmplValue vec = lookup(vecVar, vr.getDepth(), vr.getIndex(), env);
 			// confirm vector type
 			if(vec.getType() != SmplTypes.VECTOR)
 				throw new SmplTypeException(SmplTypes.VECTOR, vec.getType());
-			// get list from vector class
-			ArrayList lst = ((ExpVector)vec).getList();
-			if(_ref < 0 || _ref >= lst.size())
-				throw new SmplException("Reference to index [" + _ref + "] outside of bounds of " + vecVar + "[" + lst.size() + "]");
-			lst.set(_ref, val.visit(this, env));
+			SmplVector v = (SmplVector) vec;
+			if(_ref < 0 || _ref >= v.size())
+				throw new SmplException("Reference to index [" + _ref + "] outside of bounds of " + vecVar + "[" + v.size() + "]");
+			v.set(_ref, val.visit(this, env));
 
 		}
 
@@ -94,30 +386,33 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 
 	@Override
 	public SmplValue visitStmtLet(StmtLet let, Environment env) throws SmplException{
+		SmplValue result;
 		ArrayList<Binding> bindings = let.getBindings();
-		Exp body = let.getBody();
+		ASTNode body = let.getBody();
 
 		int size = bindings.size();
-		String[] vars = new String[size];
-		SmplValue[] vals = new SmplValue[size];
-		Binding b;
+		// create new frame as child of current; bindings take the first slots
+		Environment newEnv = Frame.make(let.getFrameSize(), env);
 
 		for (int i = 0; i < size; i++) {
-		    b = bindings.get(i);
-		    vars[i] = b.getVar();
 		    // evaluate each expression in bindings
-		    result = b.getValExp().visit(this, env);
-		    vals[i] = result;
+		    result = bindings.get(i).getValExp().visit(this, env);
+		    newEnv.putLocal(i, result);
 		}
-		// create new env as child of current
-		Environment newEnv = new Environment<> (vars, vals, env);
 		return body.visit(this, newEnv);
 	}
 
 	@Override
-	public SmplValue visitStmtPrint(StmtPrint sp, Environment env) throws SmplException{
-		result = sp.getExp().visit(this, env);
-		System.out.print(result.toString() + sp.getTerminatingCharacter());
+	public SmplValue visitPrintStmt(StmtPrint sp, Environment env) throws SmplException{
+		SmplValue result = sp.getExp().visit(this, env);
+		print(result, false);
+		return result;
+	}
+
+	@Override
+	public SmplValue visitPrintLnStmt(StmtPrintLn sp, Environment env) throws SmplException{
+		SmplValue result = sp.getExp().visit(this, env);
+		print(result, true);
 		return result;
 	}
 
@@ -126,7 +421,7 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.add(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
@@ -134,7 +429,7 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.sub(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
@@ -142,7 +437,7 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.mul(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
@@ -150,7 +445,7 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.div(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
@@ -158,14 +453,14 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.mod(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
 	public SmplValue visitExpPow(ExpPow exp, Environment env) throws SmplException {
 		SmplValue lval, rval;
-		lval = exp.getExpL().visit(this, env);
-		rval = exp.getExpR().visit(this, env);
+		lval = strict(exp.getExpL(), env);
+		rval = strict(exp.getExpR(), env);
 		return lval.pow(rval);
 	}
 
@@ -176,11 +471,11 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 
 	@Override
 	public SmplValue visitExpVar(ExpVar exp, Environment env) throws SmplException {
-		return env.get(exp.getVar());
+		return lookup(exp.getVar(), exp.getDepth(), exp.getIndex(), env);
 	}
 
 	@Override
-	public SmplValue visitExpProc(ExpProc proc, Environment env) throws SmplException {
+	public SmplValue visitExpProcedure(ExpProc proc, Environment env) throws SmplException {
 		return new SmplProcedure(proc, env);
 	}
 
@@ -209,41 +504,63 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 
 	@Override
 	public SmplValue visitExpVector(ExpVector exp, Environment env) throws SmplException {
-
 		ArrayList<Exp> lst = exp.getList();
-		ArrayList vals = new ArrayList();
+		// elements go straight into the vector's storage, unboxed if they can
+		SmplVector vals = new SmplVector();
 
 		for(Exp e : lst){
-			result = e.visit(this, env);
-			if(result.getType() == SmplTypes.SUBVECTOR){
-				int size = ((SmplSubVector)result).getSizeInt();
-				SmplProcedure proc = ((SmplSubVector)result).getProcedure();
-				ExpProc ExpProc = proc.getExpProc();
-				// get parameters and expression body
-				ArrayList<String> params = new ArrayList(ExpProc.getParameters());
-				if(params.size() > 1 || ExpProc.getListVar() != null)
-					throw new SmplException("Procedure must have 1 or no parameters.");
-				Exp body = ExpProc.getBody();
-				// evaluate for 0 through size
-				for(int i=0; i<size; i++){
-					ArrayList<SmplInt> args = new ArrayList();
-					args.add(SmplValue.make(i));
-					Environment newEnv = new Environment(params, args, env);
-					vals.add(body.visit(this,newEnv));
-				}
-			} else {
-				vals.add(e.visit(this, env));
-			}
+			if(e instanceof ExpSubVector)
+				appendAll((ExpSubVector) e, vals, env);
+			else
+				vals.append(e.visit(this, env));
 		}
 
-		return SmplValue.makeVector(vals);
+		return vals;
+	}
+
+	@Override
+	public SmplValue visitExpSubVector(ExpSubVector exp, Environment env) throws SmplException {
+		SmplVector vals = new SmplVector();
+		appendAll(exp, vals, env);
+		return vals;
+	}
+
+	/**
+	 * Append the elements generated by <code>n : proc</code> to a vector
+	 * being built: proc applied to each index from 0 to n - 1, or called n
+	 * times if it takes no parameters.
+	 */
+	protected void appendAll(ExpSubVector exp, SmplVector vals, Environment env) throws SmplException {
+		int size = strict(exp.getSize(), env).intValue();
+		SmplValue result = strict(exp.getProc(), env);
+
+		if(result.getType() != SmplTypes.PROCEDURE)
+			throw new SmplTypeException(SmplTypes.PROCEDURE, result.getType());
+		SmplProcedure proc = (SmplProcedure) result;
+
+		// check parameters
+		boolean bindIndex = true;
+		if(!(proc instanceof SmplBuiltin)){
+			ExpProc procExp = proc.getProcExp();
+			if(procExp.getParameters().size() > 1 || procExp.getListVar() != null)
+				throw new SmplException("Procedure must have 1 or no parameters.");
+			bindIndex = procExp.getParameters().size() == 1;
+		}
+		SmplValue[] args = new SmplValue[bindIndex ? 1 : 0];
+		vals.reserve(size);
+		for(int i=0; i<size; i++){
+			if(bindIndex)
+				args[0] = SmplValue.make(i);
+			vals.append(apply(proc, args));
+		}
 	}
 
 	@Override
 	public SmplValue visitExpVectorRef(ExpVectorRef exp, Environment env) throws SmplException {
+		SmplValue result;
 
 		Exp ref = exp.getRef();
-		result = ref.visit(this, env);
+		result = strict(ref, env);
 
 		if(result.getType() != SmplTypes.INTEGER && result.getType() != SmplTypes.REAL)
 			throw new SmplTypeException(SmplTypes.INTEGER, result.getType());
@@ -251,67 +568,73 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		int _ref = result.intValue();
 
 		String var = exp.getVar();
-		SmplValue val = env.get(var);
+		SmplValue val = lookup(var, exp.getDepth(), exp.getIndex(), env);
 
 		if(val.getType() != SmplTypes.VECTOR)
 			throw new SmplTypeException(SmplTypes.VECTOR, val.getType());
 
-		ArrayList lst = ((ExpVector)val).getList();
+		SmplVector vec = (SmplVector) val;
 
-		if(_ref < 0 || _ref >= lst.size())
-				throw new SmplException("Reference to index [" + _ref + "] outside of bounds of " + var + "[" + lst.size() + "]");
+		if(_ref < 0 || _ref >= vec.size())
+				throw new SmplException("Reference to index [" + _ref + "] outside of bounds of " + var + "[" + vec.size() + "]");
 
-		return lst.get(_ref);
+		return vec.get(_ref);
 	}
 
 	@Override
 	public SmplValue visitExpSize(ExpSize exp, Environment env) throws SmplException {
+		SmplValue result;
 
 		Exp body = exp.getBody();
-		result = body.visit(this, env);
+		result = strict(body, env);
 
 		if(result.getType() != SmplTypes.VECTOR)
 			throw new SmplTypeException(SmplTypes.VECTOR, result.getType());
 
-		ArrayList lst = ((ExpVector)result).getList();
-
-		return SmplValue.make(lst.size());
+		return SmplValue.make(((SmplVector)result).size());
 	}
 
 	
 	@Override
 	public SmplValue visitExpPairCheck(ExpPairCheck exp, Environment env) throws SmplException {
+		SmplValue result;
 		Exp toCheck = exp.getExp();
-		result = toCheck.visit(this, env);
+		result = strict(toCheck, env);
 		SmplTypes type = result.getType();
 
-		return new SmplBoolean(type == SmplTypes.PAIR || type == SmplTypes.LIST || type == SmplTypes.EMPTYLIST);
+		return SmplValue.make(type == SmplTypes.PAIR || type == SmplTypes.LIST || type == SmplTypes.EMPTYLIST);
 	}
 
 	@Override
 	public SmplValue visitExpCar(ExpCar exp, Environment env) throws SmplException {
+		SmplValue result;
 		// check that expression is a pair
-		result = exp.getExp().visit(this, env);
+		result = strict(exp.getExp(), env);
 		SmplTypes type = result.getType();
 
 		if(type == SmplTypes.PAIR)
 			return ((SmplPair)result).getFirstValue();
-		else if(type == SmplTypes.LIST || type == SmplTypes.EMPTYLIST)
+		else if(type == SmplTypes.LIST)
 			return ((SmplList)result).getFirstValue();
+		else if(type == SmplTypes.EMPTYLIST)
+			throw new SmplException("car of the empty list");
 		else
 			throw new SmplTypeException(SmplTypes.PAIR, type);
 	}
 
 	@Override
 	public SmplValue visitExpCdr(ExpCdr exp, Environment env) throws SmplException {
+		SmplValue result;
 		// check that expression is a pair
-		result = exp.getExp().visit(this, env);
+		result = strict(exp.getExp(), env);
 		SmplTypes type = result.getType();
 
 		if(type == SmplTypes.PAIR)
 			return ((SmplPair)result).getSecondValue();
-		else if(type == SmplTypes.LIST || type == SmplTypes.EMPTYLIST)
+		else if(type == SmplTypes.LIST)
 			return ((SmplList)result).getSecondValue();
+		else if(type == SmplTypes.EMPTYLIST)
+			throw new SmplException("cdr of the empty list");
 		else
 			throw new SmplTypeException(SmplTypes.PAIR, type);
 	}
@@ -321,7 +644,7 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.eq(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
@@ -329,7 +652,7 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.gt(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
@@ -337,23 +660,23 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.lt(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
-	public SmplValue visitExpLessEqual(ExpLessEqual exp, Environment env) throws SmplException {
+	public SmplValue visitExpLessEq(ExpLessEq exp, Environment env) throws SmplException {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.le(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
-	public SmplValue visitExpGreatEqual(ExpGreatEqual exp, Environment env) throws SmplException {
+	public SmplValue visitExpGreatEqe(ExpGreatEq exp, Environment env) throws SmplException {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.ge(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
@@ -361,59 +684,62 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		SmplValue lval, rval;
 		lval = exp.getExpL().visit(this, env);
 		rval = exp.getExpR().visit(this, env);
-		return lval.ne(rval);
+		return exp.apply(lval, rval);
 	}
 
 	@Override
 	public SmplValue visitExpLogicNot(ExpLogicNot exp, Environment env) throws SmplException {
-		result = exp.getExp().visit(this, env);
+		SmplValue result = strict(exp.getExp(), env);
 		return result.not();
 	}
 
 	@Override
 	public SmplValue visitExpLogicAnd(ExpLogicAnd exp, Environment env) throws SmplException {
 		SmplValue lval, rval;
-		lval = exp.getExpL().visit(this, env);
-		rval = exp.getExpR().visit(this, env);
+		lval = strict(exp.getExpL(), env);
+		rval = strict(exp.getExpR(), env);
 		return lval.and(rval);
 	}
 
 	@Override
 	public SmplValue visitExpLogicOr(ExpLogicOr exp, Environment env) throws SmplException {
 		SmplValue lval, rval;
-		lval = exp.getExpL().visit(this, env);
-		rval = exp.getExpR().visit(this, env);
+		lval = strict(exp.getExpL(), env);
+		rval = strict(exp.getExpR(), env);
 		return lval.or(rval);
 	}
 
 	@Override
 	public SmplValue visitExpBitNot(ExpBitNot exp, Environment env) throws SmplException {
-		result = exp.getExp().visit(this, env);
+		SmplValue result = strict(exp.getExp(), env);
 		return result.bitnot();
 	}
 
 	@Override
 	public SmplValue visitExpBitAnd(ExpBitAnd exp, Environment env) throws SmplException {
 		SmplValue lval, rval;
-		lval = exp.getExpL().visit(this, env);
-		rval = exp.getExpR().visit(this, env);
+		lval = strict(exp.getExpL(), env);
+		rval = strict(exp.getExpR(), env);
 		return lval.bitand(rval);
 	}
 
 	@Override
 	public SmplValue visitExpBitOr(ExpBitOr exp, Environment env) throws SmplException {
 		SmplValue lval, rval;
-		lval = exp.getExpL().visit(this, env);
-		rval = exp.getExpR().visit(this, env);
+		lval = strict(exp.getExpL(), env);
+		rval = strict(exp.getExpR(), env);
 		return lval.bitor(rval);
 	}
 
 	@Override
 	public SmplValue visitExpSubStr(ExpSubStr exp, Environment env) throws SmplException {
-
-		String str = exp.getExpString().visit(this, env).stringValue();
-		int lo = exp.getStartIndex().visit(this, env).intValue();
-		int hi = exp.getEndIndex().visit(this, env).intValue();
+		SmplValue result = strict(exp.getExpString(), env);
+		if(result.getType() != SmplTypes.STRING)
+			throw new SmplTypeException(SmplTypes.STRING, result.getType());
+		// a substring shares the characters of the string it is taken from
+		SmplString str = (SmplString) result;
+		int lo = strict(exp.getStart(), env).intValue();
+		int hi = strict(exp.getEnd(), env).intValue();
 
 		if(lo < 0 || lo > str.length())
 			throw new SmplException("Starting index out of bounds");
@@ -422,14 +748,20 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		else if (hi < lo)
 			return SmplValue.makeStr("");
 		else
-			return SmplValue.makeStr(str.substring(lo,hi));
+			return str.substring(lo,hi);
 	}
 
 	@Override
-	public SmplValue visitExpEqualv(ExpEqualv exp, Environment env) throws SmplException {
+	public SmplValue visitExpConcat(ExpConcat exp, Environment env) throws SmplException {
+		SmplValue l = strict(exp.getExpL(), env);
+		return l.concat(strict(exp.getExpR(), env));
+	}
+
+	@Override
+	public SmplValue visitExpEqv(ExpEqv exp, Environment env) throws SmplException {
 
-		SmplValue exp1 = exp.getExpFirst().visit(this, env);
-		SmplValue exp2 = exp.getExpSecond().visit(this, env);
+		SmplValue exp1 = strict(exp.getExpFirst(), env);
+		SmplValue exp2 = strict(exp.getExpSecond(), env);
 
 		if(exp1 == exp2)
 		{
@@ -441,176 +773,217 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 
 	@Override
 	public SmplValue visitExpCall(ExpCall exp, Environment env) throws SmplException {
-
-		Exp expl = exp.getExpL();
-		Exp expr = exp.getExpR();
+		SmplValue result;
 
 		// confirm that first argument is a procedure
-		SmplTypes expltype = expl.visit(this, env).getType();
+		result = strict(exp.getExpL(), env);
 
-		if(expltype != SmplTypes.PROCEDURE)
-			throw new SmplTypeException(SmplTypes.PROCEDURE, expltype);
+		if(result.getType() != SmplTypes.PROCEDURE)
+			throw new SmplTypeException(SmplTypes.PROCEDURE, result.getType());
 
-		// grab procedure
-		SmplProcedure proc = (SmplProcedure) expl.visit(this, env);
-		ExpProc toEval = proc.getExpProc();
+		SmplProcedure proc = (SmplProcedure) result;
 
-		// get procedure parameters
-		ArrayList<String> _params = new ArrayList(toEval.getParameters());
-		int p_size = _params.size();
+		// confirm that second argument is a list
+		result = strict(exp.getExpR(), env);
 
-		// get procedure body
-		Exp body = toEval.getBody();
+		if(result.getType() != SmplTypes.LIST && result.getType() != SmplTypes.EMPTYLIST)
+			throw new SmplTypeException(SmplTypes.LIST, result.getType());
 
-		// confirm that second argument is a list
-		SmplTypes exprtype = expr.visit(this, env).getType();
+		// copy the arguments into an array, a chunk at a time
+		SmplValue[] args = ((SmplList) result).toArray();
 
-		if(exprtype != SmplTypes.LIST && exprtype != SmplTypes.EMPTYLIST)
-			throw new SmplTypeException(SmplTypes.LIST, exprtype);
+		if(proc instanceof SmplBuiltin)
+			return ((SmplBuiltin) proc).call(this, args);
 
-		// grab list
-		SmplList lst = (SmplList) expr.visit(this, env);
+		BindingPlan plan = exp.getCache().lookup(proc.getProcExp());
+		Environment newEnv = plan.bind(args, proc.getClosingEnv());
 
-		// convert to ArrayList
-		ArrayList args = new ArrayList();
-		ArrayList extras = new ArrayList();
+		if(exp.isTail())
+			return tailCall(proc, newEnv);
+		return execBody(proc, newEnv);
 
-		// ArrayList of parameters that are matched by arguments
-		ArrayList<String> params = new ArrayList();
+	}
 
-		// add value for each parameter,
-		// create arraylist of extras,
-		// add extras as argument
-		int i = 0;	// counter
-		while(lst.getType() != SmplTypes.EMPTYLIST){
-			if(i < p_size){
-				args.add(lst.getCurrentValue());
-				params.add(_params.get(i));
-			} else {
-				extras.add(lst.getCurrentValue());
-			}
+	@Override
+	public SmplValue visitExpProcedureCall(ExpProcedureCall exp, Environment env) throws SmplException {
+		SmplValue result;
+
+		// confirm that callee is a procedure
+		result = strict(exp.getProcExp(), env);
+
+		if(result.getType() != SmplTypes.PROCEDURE)
+			throw new SmplTypeException(SmplTypes.PROCEDURE, result.getType());
 
-			lst = lst.getNextValue();
+		SmplProcedure proc = (SmplProcedure) result;
+		ArrayList<Exp> args = exp.getArgs();
 
-			i++;	// increment counter
+		if(proc instanceof SmplBuiltin){
+			SmplValue[] vals = new SmplValue[args.size()];
+			for(int i=0; i<vals.length; i++)
+				vals[i] = args.get(i).visit(this, env);
+			return ((SmplBuiltin) proc).call(this, vals);
 		}
 
-		// get extra veriable
-		String e = toEval.getListVar();
-		if(e != null)
-			params.add(e);
+		BindingPlan plan = exp.getCache().lookup(proc.getProcExp());
 
-		// add extras to args
-		if(!extras.isEmpty())
-			args.add(SmplValue.makeList(extras));
+		int p_size = plan.getParams();
+		int a_size = args.size();
 
-		//System.out.println(args);
-		Environment newEnv = new Environment(params, args, env);
+		// evaluate arguments left to right, straight into the new frame
+		Environment newEnv = plan.newFrame(proc.getClosingEnv());
+		for(int i=0; i<p_size && i<a_size; i++)
+			newEnv.putLocal(i, args.get(i).visit(this, env));
 
-		//System.out.println(newEnv);
-		return body.visit(this, newEnv);
+		if(a_size > p_size || plan.hasListVar()){
+			ArrayList extras = new ArrayList();
+			for(int i=p_size; i<a_size; i++)
+				extras.add(args.get(i).visit(this, env));
+			if(plan.hasListVar())
+				newEnv.putLocal(p_size, SmplValue.makeList(extras));
+		}
 
+		if(exp.isTail())
+			return tailCall(proc, newEnv);
+		return execBody(proc, newEnv);
 	}
 
 	@Override
-	public SmplValue visitExpLazy(ExpLazy exp, Environment env) throws SmplException {
-		
-		Boolean exists;
+	public SmplValue visitExpAssign(ExpAssign exp, Environment env) throws SmplException {
+		SmplValue result;
 
-		try 
-		{
-		    env.get("101lazy");
-		    exists = true;
-		}catch(SmplException e) { exists = false; }
+		if(!(exp.getExpL() instanceof ExpVar))
+			throw new SmplException("Can only assign to a variable");
+
+		ExpVar var = (ExpVar) exp.getExpL();
+		result = exp.getExpR().visit(this, env);
+
+		if(var.isResolved())
+			env.set(var.getDepth(), var.getIndex(), result);
+		else
+			env.put(var.getVar(), result);
 
-		if(!exists)
-		{
-			Exp body = exp.getExp();
-			env.put("101lazy", body.visit(this, env));
-		}else { result = env.get("101lazy"); }
-		
 		return result;
+	}
 
+	@Override
+	public SmplValue visitExpLazy(ExpLazy exp, Environment env) throws SmplException {
+		return new SmplThunk(exp.getExp(), env, this);
+	}
+
+	@Override
+	public SmplValue visitExpFuture(ExpFuture exp, Environment env) throws SmplException {
+		return Parallel.future(this, exp.getExp(), env);
+	}
+
+	@Override
+	public SmplValue visitExpPCall(ExpPCall exp, Environment env) throws SmplException {
+		SmplValue result = strict(exp.getProcExp(), env);
+
+		if(result.getType() != SmplTypes.PROCEDURE)
+			throw new SmplTypeException(SmplTypes.PROCEDURE, result.getType());
+
+		SmplValue[] vals = Parallel.evalAll(this, exp.getArgs(), env);
+		return apply((SmplProcedure) result, vals);
 	}
 
 	@Override
 	public SmplValue visitExpDef(ExpDef exp, Environment env) throws SmplException {
 		Exp body = exp.getExp();
 		String var = exp.getVar();
+		SmplValue result = body.visit(this, env);
 
-		env.put(var, body.visit(this, env));
+		if(exp.getSlot() >= 0)
+			env.putLocal(exp.getSlot(), result);
+		else
+			env.put(var, result);
 
 		return result;
 
 	}
 
 	
+	/**
+	 * Flush the output, if its policy says to, before waiting for input.
+	 */
+	public void beforeRead() throws SmplException {
+		try {
+			output.reading();
+		} catch (java.io.IOException e) {
+			throw new SmplException("Error writing output: " + e.getMessage());
+		}
+	}
+
 	@Override
 	public SmplValue visitExpRead(ExpRead exp, Environment env) throws SmplException {
-
-		Scanner input = new Scanner(System.in);
-		result = SmplValue.makeStr(input.nextLine());
+		SmplValue result;
+		beforeRead();
+		String line;
+		try {
+			line = input.readLine();
+		} catch (java.io.IOException e) {
+			throw new SmplException("Error reading input: " + e.getMessage());
+		}
+		if(line == null)
+			throw new SmplException("End of input");
+		result = SmplValue.makeStr(line);
 		return result;
 	}
 
 	@Override
 	public SmplValue visitExpReadInt(ExpReadInt exp, Environment env) throws SmplException {
-		
-		Scanner input = new Scanner(System.in);
-		if(input.hasNextInt()){
-			result = SmplValue.make(input.nextInt());
+		SmplValue result;
+		beforeRead();
+		try {
+			result = SmplValue.make(input.readInt());
 			return result;
-		} else {
+		} catch (NumberFormatException e) {
 			throw new SmplTypeException("Type Error: Input must be of type " + SmplTypes.INTEGER);
+		} catch (java.io.EOFException e) {
+			throw new SmplException("End of input");
+		} catch (java.io.IOException e) {
+			throw new SmplException("Error reading input: " + e.getMessage());
 		}
 	}
 
-	@Override
-	public SmplValue visitExpIf(ExpIf exp, Environment env) throws SmplException {
-		
-		Boolean conBool;
-		if(exp.getElse())
-		{
-			Exp conExp = exp.getCondition();
-			SmplValue conValue = conExp.visit(this, env);
-
-			try{
-				conBool = conValue.boolValue();
-			}catch (Exception e){ throw new SmplException("Condition must evaluate to a boolean."); }
-		
-			if(conBool)
-			{
-				Exp ifArgBody = exp.getIfArg();
-				result = ifArgBody.visit(this, env);
-			}
-			else
-			{ 
-				Exp elseArgBody = exp.getElseArg();
-				result = elseArgBody.visit(this, env); 
-			}
-		}
-		else
-		{
-			Exp conExp = exp.getCondition();
-			SmplValue conValue = conExp.visit(this, env);
-
-			try{
-				conBool = conValue.boolValue();
-			}catch (Exception e){ throw new SmplException("Condition must evaluate to a boolean."); }
-			
-			if(conBool)
-			{
-				Exp ifArgBody = exp.getIfArg();
-				result = ifArgBody.visit(this, env);
-			}
+	/**
+	 * Evaluate the condition of an if or a case clause.  A comparison is
+	 * tested directly, without making a boolean value for its result.
+	 */
+	protected boolean condition(Exp con, Environment env) throws SmplException {
+		if(con instanceof ExpCompare){
+			ExpCompare c = (ExpCompare) con;
+			SmplValue l = c.getExpL().visit(this, env);
+			return c.test(l, c.getExpR().visit(this, env));
 		}
+		SmplValue conValue = strict(con, env);
+		try{
+			return conValue.boolValue();
+		}catch (Exception e){ throw new SmplException("Condition must evaluate to a boolean."); }
+	}
 
-		return result;
+	@Override
+	public SmplValue visitExpIf(ExpIf exp, Environment env) throws SmplException {
+		if(condition(exp.getCondition(), env))
+			return exp.getIfArg().visit(this, env);
+		else if(exp.getElse())
+			return exp.getElseArg().visit(this, env);
+		// the value of a one armed if with a false condition is the condition
+		return SmplValue.make(false);
+	}
 
+	@Override
+	public SmplValue visitSmplIf(SmplIf exp, Environment env) throws SmplException {
+		if(condition(exp.getCondition(), env))
+			return exp.getIfArg().visit(this, env);
+		else if(exp.getElse())
+			return exp.getElseArg().visit(this, env);
+		// the value of a one armed if with a false condition is the condition
+		return SmplValue.make(false);
 	}
 
 	@Override
 	public SmplValue visitExpCase(ExpCase exp, Environment env) throws SmplException {
+		SmplValue result;
 
 		// get cases
 		ArrayList<ExpPair> lst = exp.getList();
@@ -618,7 +991,14 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		// examine each case
 		for(ExpPair _case : lst){
 			Exp cond = _case.getExpL();
-			SmplValue check = cond.visit(this, env);
+			if(cond instanceof ExpCompare){
+				if(condition(cond, env)){
+					result = _case.getExpR().visit(this, env);
+					return result;
+				}
+				continue;
+			}
+			SmplValue check = strict(cond, env);
 			// skip evaluation for else condition
 			if(check.getType() == SmplTypes.STRING){
 				if(check.stringValue().equals("else")){
@@ -638,9 +1018,8 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
 		}
 		// true case has not been found
 		if(elseCond != null)
-			result = elseCond.visit(this, env);
-		// return value stored in result
-		return result;
+			return elseCond.visit(this, env);
+		return SmplValue.make(false);
 	}
 	/**
 	@Override
@@ -816,7 +1195,11 @@ public class SmplEvaluator implements Visitor<Environment, SmplValue> {
         	result = plot.visit(this, newEnv);
         	display.add(SmplValue.makePair(vals[0], result));
         }
-        System.out.println(display.toString());
+        try {
+            output.append(display.toString()).append('\n');
+        } catch (java.io.IOException e) {
+            throw new SmplException("Error writing output: " + e.getMessage());
+        }
         return result;
     }
 
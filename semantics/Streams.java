@@ -0,0 +1,161 @@
+package smpl.semantics;
+
+import smpl.sys.SmplException;
+import smpl.sys.SmplTypeException;
+import smpl.values.*;
+
+/**
+ * The operations behind the stream builtins.  Each stage of a pipeline
+ * such as
+ * <pre>
+ *   streamFold(add, 0, streamTake(streamFilter(even, streamIterate(inc, 0)), 1000))
+ * </pre>
+ * is a Source that pulls the elements of the stage before it one at a
+ * time, as they are asked for, so no stage builds a list of its
+ * elements; each holds only its place in the stage before.  The input to
+ * a stage may be a stream, a list or a vector.
+ *
+ * A stream produces its first element when it is made (see
+ * <code>SmplStream</code>); the rest are produced only on demand, so
+ * streams may be infinite.
+ */
+public class Streams {
+
+	private Streams() {
+	}
+
+	/**
+	 * @return A source of the elements of seq: a stream, list or vector
+	 */
+	public static SmplStream.Source elements(SmplValue seq) throws SmplException {
+		seq = SmplThunk.demand(seq);
+		SmplTypes type = seq.getType();
+		if (type == SmplTypes.VECTOR) {
+			SmplVector v = (SmplVector) seq;
+			return new SmplStream.Source() {
+				int i;
+
+				public SmplValue next() throws SmplException {
+					return i < v.size() ? v.get(i++) : null;
+				}
+			};
+		}
+		if (type != SmplTypes.PAIR && type != SmplTypes.LIST && type != SmplTypes.EMPTYLIST)
+			throw new SmplTypeException(SmplTypes.LIST, type);
+		return new PairSource(seq);
+	}
+
+	/**
+	 * The elements of a chain of pairs.  It holds only the pair it is at,
+	 * so the pairs before it can be collected.
+	 */
+	static final class PairSource implements SmplStream.Source {
+		// the pair whose car is the next element; its cdr is only taken
+		// when the element after that is asked for
+		SmplValue at;
+		boolean started;
+
+		PairSource(SmplValue seq) {
+			this.at = seq;
+		}
+
+		public SmplValue next() throws SmplException {
+			if (started)
+				at = SmplThunk.demand(((SmplPair) at).getSecondValue());
+			started = true;
+			SmplTypes t = at.getType();
+			if (t == SmplTypes.EMPTYLIST)
+				return null;
+			if (t != SmplTypes.PAIR && t != SmplTypes.LIST)
+				throw new SmplException("Improper list ending in " + at);
+			return ((SmplPair) at).getFirstValue();
+		}
+	}
+
+	/**
+	 * @return seq as a stream
+	 */
+	public static SmplValue stream(SmplValue seq) throws SmplException {
+		seq = SmplThunk.demand(seq);
+		if (seq instanceof SmplStream)
+			return seq;
+		return SmplStream.of(elements(seq));
+	}
+
+	/**
+	 * @return The infinite stream x, f(x), f(f(x)), ...
+	 */
+	public static SmplValue iterate(SmplEvaluator ev, SmplProcedure f, SmplValue x) throws SmplException {
+		return SmplStream.of(new SmplStream.Source() {
+			SmplValue last;
+
+			public SmplValue next() throws SmplException {
+				last = last == null ? x : ev.apply(f, new SmplValue[] { last });
+				return last;
+			}
+		});
+	}
+
+	/**
+	 * @return The stream of f applied to each element of seq
+	 */
+	public static SmplValue map(SmplEvaluator ev, SmplProcedure f, SmplValue seq) throws SmplException {
+		SmplStream.Source in = elements(seq);
+		return SmplStream.of(() -> {
+			SmplValue v = in.next();
+			return v == null ? null : ev.apply(f, new SmplValue[] { v });
+		});
+	}
+
+	/**
+	 * @return The stream of the elements of seq for which p is true
+	 */
+	public static SmplValue filter(SmplEvaluator ev, SmplProcedure p, SmplValue seq) throws SmplException {
+		SmplStream.Source in = elements(seq);
+		return SmplStream.of(() -> {
+			SmplValue v;
+			while ((v = in.next()) != null)
+				if (test(ev.apply(p, new SmplValue[] { v })))
+					return v;
+			return null;
+		});
+	}
+
+	/**
+	 * @return The stream of the first n elements of seq, or all of them
+	 * if it has fewer
+	 */
+	public static SmplValue take(SmplValue seq, int n) throws SmplException {
+		if (n <= 0)
+			return SmplEmptyList.EMPTY;
+		SmplStream.Source in = elements(seq);
+		return SmplStream.of(new SmplStream.Source() {
+			int left = n;
+
+			public SmplValue next() throws SmplException {
+				// stop without asking for the element after the last
+				return left-- > 0 ? in.next() : null;
+			}
+		});
+	}
+
+	/**
+	 * @return f(...f(f(init, x1), x2)..., xn) for the elements x1 ... xn
+	 * of seq
+	 */
+	public static SmplValue fold(SmplEvaluator ev, SmplProcedure f, SmplValue init, SmplValue seq) throws SmplException {
+		SmplStream.Source in = elements(seq);
+		SmplValue acc = init;
+		SmplValue v;
+		while ((v = in.next()) != null)
+			acc = ev.apply(f, new SmplValue[] { acc, v });
+		return acc;
+	}
+
+	protected static boolean test(SmplValue v) throws SmplException {
+		v = SmplThunk.demand(v);
+		if (v.getType() != SmplTypes.BOOLEAN)
+			throw new SmplTypeException(SmplTypes.BOOLEAN, v.getType());
+		return v.boolValue();
+	}
+}
@@ -31,7 +31,7 @@ public interface Visitor<S, T> {
 	public T visitExpVector(ExpVector exp, S arg) throws SmplException;
 	public T visitExpSize(ExpSize exp, S arg) throws SmplException;
 	public T visitExpVectorRef(ExpVectorRef exp, S arg) throws SmplException;
-	//public T visitExpSubVector(ExpSubVector exp, S arg) throws SmplException;
+	public T visitExpSubVector(ExpSubVector exp, S arg) throws SmplException;
 	public T visitExpPairCheck(ExpPairCheck exp, S arg) throws SmplException;
 	public T visitExpCar(ExpCar exp, S arg) throws SmplException;
 	public T visitExpCdr(ExpCdr exp, S arg) throws SmplException;
@@ -52,11 +52,14 @@ public interface Visitor<S, T> {
 	public T visitExpAssign(ExpAssign exp, S arg) throws SmplException;
 	public T visitExpCall(ExpCall exp, S arg) throws SmplException;
 	public T visitExpLazy(ExpLazy exp, S arg) throws SmplException;
+	public T visitExpFuture(ExpFuture exp, S arg) throws SmplException;
+	public T visitExpPCall(ExpPCall exp, S arg) throws SmplException;
 	public T visitExpDef(ExpDef exp, S arg) throws SmplException;
-	//public T visitExpConcatLst(ExpConcatLst exp, S arg) throws SmplException;
+	public T visitExpConcat(ExpConcat exp, S arg) throws SmplException;
 	public T visitExpRead(ExpRead exp, S arg) throws SmplException;
 	public T visitExpReadInt(ExpReadInt exp, S arg) throws SmplException;
 	public T visitSmplIf(SmplIf exp, S arg) throws SmplException;
+	public T visitExpIf(ExpIf exp, S arg) throws SmplException;
 	public T visitExpCase(ExpCase exp, S arg) throws SmplException;
 
 
@@ -1,3 +1,12 @@
 package smpl.syntax;
-public abstract class Exp extends ASTNode {
+public abstract class Exp extends Statement {
+
+  /**
+   * @return true if the value of this expression is never a lazy value
+   * (see <code>SmplThunk</code>), so that code which needs the value
+   * itself can skip forcing it
+   */
+  public boolean neverLazy() {
+    return false;
+  }
 }
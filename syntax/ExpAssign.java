@@ -22,7 +22,7 @@ public class ExpAssign extends Exp {
 
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
-    return v.visitExpEq(this, arg);
+    return v.visitExpAssign(this, arg);
   }
 
   @Override
@@ -0,0 +1,109 @@
+package smpl.syntax;
+
+import smpl.sys.SmplException;
+import smpl.values.SmplInt;
+import smpl.values.SmplReal;
+import smpl.values.SmplThunk;
+import smpl.values.SmplValue;
+
+/**
+ * Common superclass of the arithmetic and comparison operators.  Each
+ * operator node specialises itself to the operand types it sees at run
+ * time: after its first evaluation it settles on an int-int or a
+ * real-real version of the operation, guarded by a check of the operand
+ * classes, or on the generic <code>SmplValue</code> operation.  A site
+ * whose guard fails goes generic for good, so a node changes state at
+ * most twice.
+ *
+ * Lazy operands are forced off the fast paths: a thunk fails the int
+ * and real guards, and is forced before the node specialises or goes
+ * generic, so a site that is sometimes given a lazy int stays an int
+ * site.
+ */
+public abstract class ExpBinaryOp extends Exp {
+
+  // specialisation states
+  public static final int UNINITIALIZED = 0;
+  public static final int INT = 1;
+  public static final int REAL = 2;
+  public static final int GENERIC = 3;
+
+  Exp exp1, exp2;
+  int state = UNINITIALIZED;
+
+  public ExpBinaryOp(Exp e1, Exp e2) {
+    exp1 = e1;
+    exp2 = e2;
+  }
+
+  public Exp getExpL(){
+    return exp1;
+  }
+
+  public Exp getExpR() {
+    return exp2;
+  }
+
+  public int getState(){
+    return state;
+  }
+
+  /**
+   * @return the operator as it is written in source, e.g. "+"
+   */
+  public abstract String getOperator();
+
+  /**
+   * Apply this operator to the values of its operands.
+   *
+   * @exception SmplException if the operator does not apply to them
+   */
+  public SmplValue apply(SmplValue l, SmplValue r) throws SmplException {
+    switch (state) {
+      case INT:
+        if (l instanceof SmplInt && r instanceof SmplInt)
+          return applyInt(l.intValue(), r.intValue());
+        break;
+      case REAL:
+        if (l instanceof SmplReal && r instanceof SmplReal)
+          return applyReal(l.realValue(), r.realValue());
+        break;
+      case GENERIC:
+        return applyGeneric(SmplThunk.demand(l), SmplThunk.demand(r));
+      default:
+        l = SmplThunk.demand(l);
+        r = SmplThunk.demand(r);
+        specialize(l, r);
+        return apply(l, r);
+    }
+    if (l instanceof SmplThunk || r instanceof SmplThunk)
+      return apply(SmplThunk.demand(l), SmplThunk.demand(r));
+    // the guard failed: this site sees mixed types
+    state = GENERIC;
+    return applyGeneric(l, r);
+  }
+
+  /** The value of an operator is never lazy. */
+  @Override
+  public boolean neverLazy() {
+    return true;
+  }
+
+  /**
+   * Choose the state of this node from the first operands it sees.
+   */
+  protected void specialize(SmplValue l, SmplValue r) {
+    if (l instanceof SmplInt && r instanceof SmplInt)
+      state = INT;
+    else if (l instanceof SmplReal && r instanceof SmplReal)
+      state = REAL;
+    else
+      state = GENERIC;
+  }
+
+  protected abstract SmplValue applyInt(int l, int r) throws SmplException;
+
+  protected abstract SmplValue applyReal(double l, double r) throws SmplException;
+
+  protected abstract SmplValue applyGeneric(SmplValue l, SmplValue r) throws SmplException;
+}
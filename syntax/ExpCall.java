@@ -1,5 +1,6 @@
 package smpl.syntax;
 
+import smpl.semantics.CallCache;
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
 import java.util.*;
@@ -7,7 +8,8 @@ import java.util.*;
 public class ExpCall extends Exp {
 
   Exp exp, lst;
-  ArrayList<Exp> lst;
+  boolean tail;   // in tail position of a procedure body; set by the Resolver
+  CallCache cache = new CallCache();
 
   public ExpCall(Exp e){
     exp = e;
@@ -19,11 +21,16 @@ public class ExpCall extends Exp {
     lst = l;
   }
   
-  public ExpCall(Exp e, ArrayList l){
+  public ExpCall(Exp e, Exp l){
     exp = e;
     lst = l;
   }
 
+  public ExpCall(Exp e, ArrayList l){
+    exp = e;
+    lst = new ExpList(l);
+  }
+
   public Exp getExpL(){
     return exp;
   }
@@ -32,6 +39,18 @@ public class ExpCall extends Exp {
     return lst;
   }
 
+  public void setTail(boolean tail){
+    this.tail = tail;
+  }
+
+  public boolean isTail(){
+    return tail;
+  }
+
+  public CallCache getCache(){
+    return cache;
+  }
+
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
     return v.visitExpCall(this, arg);
@@ -0,0 +1,63 @@
+package smpl.syntax;
+
+import smpl.sys.SmplException;
+import smpl.values.SmplInt;
+import smpl.values.SmplReal;
+import smpl.values.SmplThunk;
+import smpl.values.SmplValue;
+
+/**
+ * Common superclass of the comparison operators.  Besides producing a
+ * boolean value, a comparison can be tested directly for its truth, which
+ * is how the condition of an if or a case clause is evaluated: on the
+ * int and real paths no boolean value is made at all.
+ */
+public abstract class ExpCompare extends ExpBinaryOp {
+
+  public ExpCompare(Exp e1, Exp e2) {
+    super(e1, e2);
+  }
+
+  /**
+   * Test whether this comparison holds between the given operand values.
+   *
+   * @exception SmplException if the operator does not apply to them
+   */
+  public boolean test(SmplValue l, SmplValue r) throws SmplException {
+    switch (state) {
+      case INT:
+        if (l instanceof SmplInt && r instanceof SmplInt)
+          return testInt(l.intValue(), r.intValue());
+        break;
+      case REAL:
+        if (l instanceof SmplReal && r instanceof SmplReal)
+          return testReal(l.realValue(), r.realValue());
+        break;
+      case GENERIC:
+        return applyGeneric(SmplThunk.demand(l), SmplThunk.demand(r)).boolValue();
+      default:
+        l = SmplThunk.demand(l);
+        r = SmplThunk.demand(r);
+        specialize(l, r);
+        return test(l, r);
+    }
+    if (l instanceof SmplThunk || r instanceof SmplThunk)
+      return test(SmplThunk.demand(l), SmplThunk.demand(r));
+    state = GENERIC;
+    return applyGeneric(l, r).boolValue();
+  }
+
+  @Override
+  protected SmplValue applyInt(int l, int r) {
+    return SmplValue.make(testInt(l, r));
+  }
+
+  @Override
+  protected SmplValue applyReal(double l, double r) {
+    return SmplValue.make(testReal(l, r));
+  }
+
+  protected abstract boolean testInt(int l, int r);
+
+  protected abstract boolean testReal(double l, double r);
+}
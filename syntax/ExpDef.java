@@ -7,6 +7,7 @@ public class ExpDef extends Exp{
 
 	Exp exp;
 	String var;
+	int slot = -1;	// slot of var in the enclosing frame, set by the Resolver
 
 	public ExpDef(String id, Exp e){
 		var = id;
@@ -17,6 +18,14 @@ public class ExpDef extends Exp{
 		return var;
 	}
 
+	public void setSlot(int slot){
+		this.slot = slot;
+	}
+
+	public int getSlot(){
+		return slot;
+	}
+
 	public Exp getExp(){
 		return exp;
 	}
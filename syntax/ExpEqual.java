@@ -2,29 +2,39 @@ package smpl.syntax;
 
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
+import smpl.values.SmplValue;
 
-public class ExpEqual extends Exp{
-
-  Exp exp1, exp2;
+public class ExpEqual extends ExpCompare {
 
   public ExpEqual(Exp e1, Exp e2){
-    exp1 = e1;
-    exp2 = e2;
+    super(e1, e2);
   }
 
-  public Exp getExpL(){
-    return exp1;
+  @Override
+  protected boolean testInt(int l, int r){
+    return l == r;
+  }
+
+  @Override
+  protected boolean testReal(double l, double r){
+    return l == r;
   }
 
-  public Exp getExpR(){
-    return exp2;
+  @Override
+  protected SmplValue applyGeneric(SmplValue l, SmplValue r) throws SmplException{
+    return l.eq(r);
   }
 
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException{
     return v.visitExpEqual(this, arg);
   }
-  
+
+  @Override
+  public String getOperator() {
+    return "=";
+  }
+
   @Override
   public String toString(){
     return "Equal?(" + exp1.toString() + ", " + exp2.toString() + ")";
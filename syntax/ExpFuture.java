@@ -0,0 +1,31 @@
+package smpl.syntax;
+
+import smpl.semantics.Visitor;
+import smpl.sys.SmplException;
+
+public class ExpFuture extends Exp{
+
+  Exp exp;
+
+  public ExpFuture(){
+    super();
+  }
+
+  public ExpFuture(Exp e){
+    exp = e;
+  }
+
+  public Exp getExp(){
+    return exp;
+  }
+
+  @Override
+  public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException{
+    return v.visitExpFuture(this, arg);
+  }
+
+  @Override
+  public String toString(){
+    return "future(" + exp.toString() + ")";
+  }
+}
@@ -2,32 +2,41 @@ package smpl.syntax;
 
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
+import smpl.values.SmplValue;
 
-public class ExpGreater extends Exp{
+public class ExpGreater extends ExpCompare {
 
-  Exp exp1, exp2;
+  public ExpGreater(Exp e1, Exp e2){
+    super(e1, e2);
+  }
 
-  public ExpGreater(Exp e1, Exp e2) {
-    exp1 = e1;
-    exp2 = e2;
+  @Override
+  protected boolean testInt(int l, int r){
+    return l > r;
   }
 
-  public Exp getExpL(){
-    return exp1;
+  @Override
+  protected boolean testReal(double l, double r){
+    return l > r;
   }
 
-  public Exp getExpR(){
-    return exp2;
+  @Override
+  protected SmplValue applyGeneric(SmplValue l, SmplValue r) throws SmplException{
+    return l.gt(r);
   }
 
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
-    return v.visitExpGt(this, arg);
+    return v.visitExpGreater(this, arg);
   }
 
   @Override
-  public String toString() {
+  public String getOperator() {
+    return ">";
+  }
+
+  @Override
+  public String toString(){
     return exp1.toString() + " > " + exp2.toString();
   }
 }
-
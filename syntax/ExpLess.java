@@ -2,22 +2,27 @@ package smpl.syntax;
 
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
+import smpl.values.SmplValue;
 
-public class ExpLess extends Exp{
-
-  Exp exp1, exp2;
+public class ExpLess extends ExpCompare {
 
   public ExpLess(Exp e1, Exp e2){
-    exp1 = e1;
-    exp2 = e2;
+    super(e1, e2);
   }
 
-  public Exp getExpL(){
-    return exp1;
+  @Override
+  protected boolean testInt(int l, int r){
+    return l < r;
+  }
+
+  @Override
+  protected boolean testReal(double l, double r){
+    return l < r;
   }
 
-  public Exp getExpR(){
-    return exp2;
+  @Override
+  protected SmplValue applyGeneric(SmplValue l, SmplValue r) throws SmplException{
+    return l.lt(r);
   }
 
   @Override
@@ -25,9 +30,13 @@ public class ExpLess extends Exp{
     return v.visitExpLess(this, arg);
   }
 
+  @Override
+  public String getOperator() {
+    return "<";
+  }
+
   @Override
   public String toString(){
     return exp1.toString() + " < " + exp2.toString();
   }
 }
-
@@ -2,27 +2,37 @@ package smpl.syntax;
 
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
+import smpl.values.SmplValue;
 
-public class ExpLessEq extends Exp{
-
-  Exp exp1, exp2;
+public class ExpLessEq extends ExpCompare {
 
   public ExpLessEq(Exp e1, Exp e2){
-    exp1 = e1;
-    exp2 = e2;
+    super(e1, e2);
   }
 
-  public Exp getExpL(){
-    return exp1;
+  @Override
+  protected boolean testInt(int l, int r){
+    return l <= r;
+  }
+
+  @Override
+  protected boolean testReal(double l, double r){
+    return l <= r;
   }
 
-  public Exp getExpR(){
-    return exp2;
+  @Override
+  protected SmplValue applyGeneric(SmplValue l, SmplValue r) throws SmplException{
+    return l.le(r);
   }
 
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException{
-    return v.visitExpLe(this, arg);
+    return v.visitExpLessEq(this, arg);
+  }
+
+  @Override
+  public String getOperator() {
+    return "<=";
   }
 
   @Override
@@ -30,4 +40,3 @@ public class ExpLessEq extends Exp{
     return exp1.toString() + " <= " + exp2.toString();
   }
 }
-
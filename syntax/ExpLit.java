@@ -28,6 +28,11 @@ public class ExpLit extends Exp {
     return val;
   }
 
+  @Override
+  public boolean neverLazy() {
+    return true;
+  }
+
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
     return v.visitExpLit(this, arg);
@@ -0,0 +1,42 @@
+package smpl.syntax;
+
+import smpl.semantics.Visitor;
+import smpl.sys.SmplException;
+import java.util.*;
+
+/**
+ * <code>pcall(f, e1, ..., en)</code>: a call of f whose arguments are
+ * evaluated in parallel rather than left to right.
+ */
+public class ExpPCall extends Exp {
+
+  Exp procExp;
+  ArrayList<Exp> args;
+
+  public ExpPCall(){
+    super();
+  }
+
+  public ExpPCall(Exp procExp, ArrayList<Exp> args){
+    this.procExp = procExp;
+    this.args = args;
+  }
+
+  public Exp getProcExp(){
+    return procExp;
+  }
+
+  public ArrayList<Exp> getArgs(){
+    return args;
+  }
+
+  @Override
+  public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
+    return v.visitExpPCall(this, arg);
+  }
+
+  @Override
+  public String toString() {
+    return "pcall(" + procExp + ", " + args + ")";
+  }
+}
@@ -1,5 +1,6 @@
 package smpl.syntax;
 
+import smpl.jit.CompiledBody;
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
 import java.util.*;
@@ -10,6 +11,12 @@ public class ExpProc extends Exp {
   ArrayList<Exp> exps;
   Exp body;
   String listvar;
+  int frameSize = -1;   // params, list var and local defs; set by the Resolver
+  int calls;            // times the body has been run, until it is compiled;
+                        // a lost update from a race only delays compiling
+  volatile CompiledBody compiled;  // body compiled by the JvmCompiler, if it is hot
+  volatile CompiledBody closure;   // body compiled by the ClosureCompiler, if any;
+                                   // run only by evaluators compiling closures
 
   public ExpProc(){
     super();
@@ -59,6 +66,44 @@ public class ExpProc extends Exp {
     return listvar;
   }
 
+  public void setFrameSize(int size){
+    frameSize = size;
+  }
+
+  public int getFrameSize(){
+    return frameSize;
+  }
+
+  /**
+   * Count one more run of the body of this procedure.
+   *
+   * @return the number of runs so far
+   */
+  public int countCall(){
+    return ++calls;
+  }
+
+  public void setCompiled(CompiledBody compiled){
+    this.compiled = compiled;
+  }
+
+  public CompiledBody getCompiled(){
+    return compiled;
+  }
+
+  public void setClosure(CompiledBody closure){
+    this.closure = closure;
+  }
+
+  public CompiledBody getClosure(){
+    return closure;
+  }
+
+  @Override
+  public boolean neverLazy() {
+    return true;
+  }
+
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
     return v.visitExpProcedure(this, arg);
@@ -1,5 +1,6 @@
 package smpl.syntax;
 
+import smpl.semantics.CallCache;
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
 import java.util.*;
@@ -9,6 +10,8 @@ public class ExpProcedureCall extends Exp {
   ArrayList<Exp> args;
   String var;
   Exp procExp;
+  boolean tail;   // in tail position of a procedure body; set by the Resolver
+  CallCache cache = new CallCache();
 
   public ExpProcedureCall(){
     super();
@@ -17,7 +20,7 @@ public class ExpProcedureCall extends Exp {
   public ExpProcedureCall(String var, ArrayList<Exp> args){
     this.args = args;
     this.var = var;
-    this.procExp = null;
+    this.procExp = new ExpVar(var);
   }
 
   public ExpProcedureCall(Exp procExp, ArrayList<Exp> args){
@@ -38,6 +41,18 @@ public class ExpProcedureCall extends Exp {
     return procExp;
   }
 
+  public void setTail(boolean tail){
+    this.tail = tail;
+  }
+
+  public boolean isTail(){
+    return tail;
+  }
+
+  public CallCache getCache(){
+    return cache;
+  }
+
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
     return v.visitExpProcedureCall(this, arg);
@@ -0,0 +1,40 @@
+package smpl.syntax;
+
+import smpl.semantics.Visitor;
+import smpl.sys.SmplException;
+import java.util.*;
+
+/**
+ * A run of vector elements <code>n : proc</code>, made by applying proc to
+ * each index from 0 to n - 1 in turn (or by calling it n times, if it
+ * takes no parameters).  Only found among the elements of an
+ * <code>ExpVector</code>.
+ */
+public class ExpSubVector extends Exp {
+
+  Exp size;
+  Exp proc;
+
+  public ExpSubVector(Exp size, Exp proc){
+    this.size = size;
+    this.proc = proc;
+  }
+
+  public Exp getSize(){
+    return size;
+  }
+
+  public Exp getProc(){
+    return proc;
+  }
+
+  @Override
+  public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
+    return v.visitExpSubVector(this, arg);
+  }
+
+  @Override
+  public String toString() {
+    return size + " : " + proc;
+  }
+}
@@ -6,6 +6,7 @@ import smpl.sys.SmplException;
 public class ExpVar extends Exp{
 
 	String var;
+	int depth = -1, index = -1;	// lexical address, set by the Resolver
 
 	public ExpVar(String v){
 		var = v;
@@ -15,6 +16,29 @@ public class ExpVar extends Exp{
 		return var;
 	}
 
+	public void setAddress(int depth, int index){
+		this.depth = depth;
+		this.index = index;
+	}
+
+	public int getDepth(){
+		return depth;
+	}
+
+	public int getIndex(){
+		return index;
+	}
+
+	public boolean isResolved(){
+		return index >= 0;
+	}
+
+	/** A variable bound to a lazy value is forced when it is looked up. */
+	@Override
+	public boolean neverLazy(){
+		return true;
+	}
+
 	@Override
 	public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException{
 		return v.visitExpVar(this, arg);
@@ -7,6 +7,7 @@ public class ExpVectorRef extends Exp {
 
 	String var;
 	Exp ref;
+	int depth = -1, index = -1;	// lexical address of var, set by the Resolver
 
 	public ExpVectorRef(String var, Exp ref){
 		this.var = var;
@@ -17,6 +18,23 @@ public class ExpVectorRef extends Exp {
 		return var;
 	}
 
+	public void setAddress(int depth, int index){
+		this.depth = depth;
+		this.index = index;
+	}
+
+	public int getDepth(){
+		return depth;
+	}
+
+	public int getIndex(){
+		return index;
+	}
+
+	public boolean isResolved(){
+		return index >= 0;
+	}
+
 	public Exp getRef(){
 		return ref;
 	}
@@ -1,1184 +0,0 @@
-/* The following code was generated by JFlex 1.4.3 on 1/3/18 4:17 PM */
-
-/* Specification for smpl tokens */
-
-// user customisations
-
-package smpl.syntax;
-import java_cup.runtime.*;
-import smpl.sys.SmplException;
-
-// JFlex directives
-    
-
-/**
- * This class is a scanner generated by 
- * <a href="http://www.jflex.de/">JFlex</a> 1.4.3
- * on 1/3/18 4:17 PM from the specification file
- * <tt>smplLexer.jflex</tt>
- */
-public class SmplLexer implements java_cup.runtime.Scanner {
-
-  /** This character denotes the end of file */
-  public static final int YYEOF = -1;
-
-  /** initial size of the lookahead buffer */
-  private static final int ZZ_BUFFERSIZE = 16384;
-
-  /** lexical states */
-  public static final int YYINITIAL = 0;
-
-  /**
-   * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
-   * ZZ_LEXSTATE[l+1] is the state in the DFA for the lexical state l
-   *                  at the beginning of a line
-   * l is of the form l = 2*k, k a non negative integer
-   */
-  private static final int ZZ_LEXSTATE[] = { 
-     0, 0
-  };
-
-  /** 
-   * Translates characters to character classes
-   */
-  private static final String ZZ_CMAP_PACKED = 
-    "\10\0\1\2\1\2\1\4\1\0\1\2\1\1\22\0\1\6\1\40"+
-    "\1\26\1\22\1\0\1\33\1\47\1\55\1\50\1\51\1\5\1\20"+
-    "\1\52\1\21\1\15\1\3\2\24\10\17\1\53\1\54\1\37\1\35"+
-    "\1\36\1\32\1\45\1\71\1\25\1\70\1\60\1\61\1\62\1\31"+
-    "\1\103\1\101\2\31\1\72\1\31\1\104\1\67\1\65\1\31\1\66"+
-    "\1\106\1\77\4\31\1\76\1\75\1\7\1\27\1\16\1\34\2\0"+
-    "\1\43\1\23\1\64\1\30\1\57\1\56\1\31\1\102\1\100\2\31"+
-    "\1\12\1\31\1\11\1\41\1\63\1\107\1\44\1\105\1\42\1\111"+
-    "\1\110\1\31\1\112\1\74\1\73\1\10\1\14\1\13\1\46\uff81\0";
-
-  /** 
-   * Translates characters to character classes
-   */
-  private static final char [] ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);
-
-  /** 
-   * Translates DFA states to action switch labels.
-   */
-  private static final int [] ZZ_ACTION = zzUnpackAction();
-
-  private static final String ZZ_ACTION_PACKED_0 =
-    "\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\10"+
-    "\2\11\1\12\1\13\1\14\1\15\1\16\1\17\1\20"+
-    "\1\2\2\11\1\21\1\22\1\23\1\24\1\25\1\2"+
-    "\4\11\1\26\1\27\1\30\1\31\1\32\1\33\1\34"+
-    "\1\35\1\2\6\11\2\0\1\36\2\0\5\11\6\0"+
-    "\1\37\1\40\1\41\1\0\1\42\2\11\1\43\1\44"+
-    "\1\45\1\46\3\11\1\47\1\50\1\51\11\11\3\52"+
-    "\2\53\3\0\1\11\1\54\3\11\1\0\1\42\1\55"+
-    "\2\56\1\0\2\42\2\11\1\57\7\11\1\60\1\11"+
-    "\1\61\1\11\1\0\2\11\3\0\1\11\1\0\1\62"+
-    "\1\42\1\0\1\42\1\0\1\42\1\0\3\11\1\63"+
-    "\1\11\1\64\4\11\1\0\1\65\1\11\2\0\1\11"+
-    "\4\0\1\42\3\0\1\11\1\0\1\11\1\66\1\0"+
-    "\1\11\2\0\1\67\1\11\10\0\1\11\1\0\1\70"+
-    "\1\0\1\11\3\0\1\71\1\0\1\72\1\0\1\73"+
-    "\1\42\1\74\2\0\1\11\2\0\1\11\17\0\1\75"+
-    "\1\76\1\77\1\0\1\100\1\101\2\0\1\102\1\103"+
-    "\7\0\1\104\12\0\1\105\1\106\1\0\1\107";
-
-  private static int [] zzUnpackAction() {
-    int [] result = new int[247];
-    int offset = 0;
-    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAction(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-
-  /** 
-   * Translates a state to a row index in the transition table
-   */
-  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
-
-  private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\113\0\113\0\113\0\226\0\113\0\341\0\u012c"+
-    "\0\u0177\0\u01c2\0\113\0\113\0\u020d\0\113\0\u0258\0\u02a3"+
-    "\0\u02a3\0\u02ee\0\u0339\0\u0384\0\113\0\113\0\113\0\u03cf"+
-    "\0\u041a\0\u0465\0\u04b0\0\u04fb\0\u0546\0\u0591\0\113\0\113"+
-    "\0\113\0\113\0\113\0\113\0\u05dc\0\113\0\u0627\0\u0672"+
-    "\0\u06bd\0\u0708\0\u0753\0\u079e\0\u07e9\0\u0834\0\u087f\0\113"+
-    "\0\u08ca\0\u0915\0\u0960\0\u09ab\0\u09f6\0\u0a41\0\u0a8c\0\u0ad7"+
-    "\0\u020d\0\u0b22\0\u0b6d\0\u0bb8\0\u0c03\0\113\0\113\0\113"+
-    "\0\u0c4e\0\u0c99\0\u0ce4\0\u0d2f\0\113\0\113\0\113\0\u0339"+
-    "\0\u0d7a\0\u0dc5\0\u0e10\0\113\0\113\0\113\0\u0e5b\0\u0ea6"+
-    "\0\u0ef1\0\u0f3c\0\u0f87\0\u0fd2\0\u101d\0\u1068\0\u10b3\0\u0bb8"+
-    "\0\u07e9\0\u10fe\0\u0834\0\113\0\u1149\0\u1194\0\u11df\0\u122a"+
-    "\0\u0339\0\u1275\0\u12c0\0\u130b\0\u1356\0\u13a1\0\u13ec\0\113"+
-    "\0\u1437\0\u1482\0\u14cd\0\u1518\0\u1563\0\u15ae\0\u0960\0\u15f9"+
-    "\0\u1644\0\u168f\0\u16da\0\u1725\0\u1770\0\u17bb\0\u0339\0\u1806"+
-    "\0\u0339\0\u1851\0\u189c\0\u18e7\0\u1932\0\u197d\0\u19c8\0\u1a13"+
-    "\0\u1a5e\0\u1aa9\0\u0339\0\u1af4\0\u1b3f\0\u1b8a\0\u1bd5\0\u1c20"+
-    "\0\u1c6b\0\u1cb6\0\u1d01\0\u1d4c\0\113\0\u1d97\0\u1de2\0\u1e2d"+
-    "\0\u1e78\0\u1ec3\0\u1f0e\0\u1f59\0\u0339\0\u1fa4\0\u1fef\0\u203a"+
-    "\0\u2085\0\u20d0\0\u211b\0\u2166\0\u21b1\0\u21fc\0\u2247\0\u2292"+
-    "\0\u22dd\0\u2328\0\u2373\0\u23be\0\113\0\u2409\0\u2454\0\u249f"+
-    "\0\u24ea\0\113\0\u2535\0\u2580\0\u25cb\0\u2616\0\u2661\0\u26ac"+
-    "\0\u26f7\0\u2742\0\u278d\0\u27d8\0\u2823\0\113\0\u286e\0\u28b9"+
-    "\0\u2904\0\u294f\0\u299a\0\u0339\0\u29e5\0\113\0\u2a30\0\113"+
-    "\0\u2a7b\0\113\0\u2ac6\0\u2b11\0\u2b5c\0\u2ba7\0\u2bf2\0\u2c3d"+
-    "\0\u2c88\0\u2cd3\0\u2d1e\0\u2d69\0\u2db4\0\u2dff\0\u2e4a\0\u2e95"+
-    "\0\u2ee0\0\u2f2b\0\u2f76\0\u2fc1\0\u300c\0\u3057\0\u30a2\0\113"+
-    "\0\113\0\113\0\u30ed\0\113\0\113\0\u3138\0\u3183\0\113"+
-    "\0\113\0\u31ce\0\u3219\0\u3264\0\u32af\0\u32fa\0\u3345\0\u3390"+
-    "\0\113\0\u33db\0\u3426\0\u3471\0\u34bc\0\u3507\0\u3552\0\u359d"+
-    "\0\u35e8\0\u3633\0\u367e\0\113\0\113\0\u36c9\0\113";
-
-  private static int [] zzUnpackRowMap() {
-    int [] result = new int[247];
-    int offset = 0;
-    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
-    int i = 0;  /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int high = packed.charAt(i++) << 16;
-      result[j++] = high | packed.charAt(i++);
-    }
-    return j;
-  }
-
-  /** 
-   * The transition table of the DFA
-   */
-  private static final int [] ZZ_TRANS = zzUnpackTrans();
-
-  private static final String ZZ_TRANS_PACKED_0 =
-    "\1\2\1\3\1\4\1\5\1\3\1\6\1\4\1\7"+
-    "\1\10\1\11\1\12\1\13\1\14\1\15\1\16\1\17"+
-    "\1\20\1\21\1\22\1\23\1\17\1\23\2\2\1\24"+
-    "\1\23\1\2\1\25\1\26\1\27\1\30\1\31\1\32"+
-    "\1\33\1\34\1\35\1\36\1\37\1\40\1\41\1\42"+
-    "\1\43\1\44\1\45\1\46\1\47\1\23\1\50\3\23"+
-    "\1\51\1\52\13\23\1\53\4\23\1\54\4\23\1\55"+
-    "\116\0\1\56\1\0\1\57\160\0\1\60\123\0\1\61"+
-    "\37\0\2\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\1\64\3\23\11\0\35\23"+
-    "\11\0\2\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\2\23\1\65\1\23\11\0"+
-    "\1\23\1\66\20\23\1\67\12\23\17\0\1\70\4\0"+
-    "\1\70\105\0\1\17\4\0\1\17\103\0\1\71\1\0"+
-    "\1\17\2\0\1\72\1\0\1\17\3\0\1\73\61\0"+
-    "\1\74\23\0\1\75\16\0\1\76\13\0\1\77\1\100"+
-    "\4\0\1\101\37\0\2\23\2\0\1\62\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\4\23\11\0"+
-    "\35\23\11\0\2\23\2\0\1\102\5\0\1\23\1\0"+
-    "\1\23\2\0\1\103\1\23\7\0\4\23\11\0\1\23"+
-    "\1\104\33\23\35\0\1\105\112\0\1\106\112\0\1\107"+
-    "\66\0\2\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\3\23\1\110\11\0\35\23"+
-    "\11\0\2\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\4\23\11\0\24\23\1\111"+
-    "\10\23\11\0\1\112\1\23\2\0\1\62\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\4\23\11\0"+
-    "\35\23\11\0\2\23\2\0\1\62\5\0\1\23\1\0"+
-    "\1\23\2\0\1\63\1\23\7\0\4\23\11\0\1\23"+
-    "\1\113\33\23\16\0\1\114\16\0\1\115\132\0\1\116"+
-    "\46\0\1\23\1\117\2\0\1\62\5\0\1\23\1\0"+
-    "\1\23\2\0\1\63\1\23\7\0\4\23\11\0\31\23"+
-    "\1\120\3\23\11\0\2\23\2\0\1\62\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\2\23\1\121"+
-    "\1\122\11\0\35\23\11\0\2\23\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\123\1\23\7\0\2\23"+
-    "\1\124\1\23\11\0\35\23\11\0\2\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\4\23\11\0\1\125\34\23\11\0\2\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\4\23\11\0\22\23\1\126\10\23\1\127\1\23\11\0"+
-    "\2\23\2\0\1\62\1\0\1\130\3\0\1\131\1\130"+
-    "\1\131\2\0\1\132\1\23\7\0\2\23\1\131\1\23"+
-    "\11\0\5\131\1\23\1\131\3\23\2\131\21\23\1\56"+
-    "\1\133\2\56\1\134\106\56\6\0\1\135\206\0\1\136"+
-    "\27\0\1\137\4\0\1\137\77\0\2\23\2\0\1\140"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\4\23\11\0\35\23\11\0\2\23\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\1\23"+
-    "\1\141\2\23\11\0\35\23\11\0\2\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\4\23\11\0\15\23\1\142\17\23\11\0\2\23\2\0"+
-    "\1\62\5\0\1\23\1\0\1\23\2\0\1\63\1\23"+
-    "\7\0\1\23\1\143\2\23\11\0\35\23\11\0\2\23"+
-    "\2\0\1\62\5\0\1\23\1\0\1\23\2\0\1\63"+
-    "\1\23\7\0\4\23\11\0\27\23\1\144\5\23\17\0"+
-    "\1\145\4\0\1\145\111\0\1\75\104\0\1\146\12\0"+
-    "\1\73\101\0\1\130\3\0\3\130\2\0\1\130\12\0"+
-    "\1\130\12\0\5\130\1\0\1\130\3\0\2\130\45\0"+
-    "\1\147\66\0\4\150\1\0\12\150\1\151\3\150\3\151"+
-    "\1\0\1\152\1\151\12\150\1\151\12\150\5\151\1\150"+
-    "\1\151\3\150\2\151\21\150\15\0\1\71\1\0\1\137"+
-    "\4\0\1\137\3\0\1\153\73\0\2\23\2\0\1\154"+
-    "\5\0\1\23\1\0\1\23\2\0\1\103\1\23\7\0"+
-    "\4\23\11\0\35\23\11\0\2\23\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\4\23"+
-    "\11\0\1\155\34\23\11\0\2\23\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\4\23"+
-    "\11\0\1\23\1\156\33\23\11\0\2\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\157\1\23\7\0"+
-    "\4\23\11\0\35\23\11\0\2\23\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\2\23"+
-    "\1\160\1\23\11\0\35\23\11\0\2\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\4\23\11\0\27\23\1\161\5\23\11\0\2\23\2\0"+
-    "\1\62\5\0\1\23\1\0\1\23\2\0\1\63\1\23"+
-    "\7\0\4\23\11\0\32\23\1\162\1\163\1\23\11\0"+
-    "\2\23\2\0\1\62\5\0\1\23\1\0\1\23\2\0"+
-    "\1\63\1\23\7\0\4\23\11\0\22\23\1\164\12\23"+
-    "\11\0\2\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\1\165\3\23\11\0\22\23"+
-    "\1\166\12\23\11\0\2\23\2\0\1\140\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\3\23\1\167"+
-    "\11\0\35\23\11\0\1\23\1\170\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\3\23"+
-    "\1\171\11\0\27\23\1\172\5\23\11\0\2\23\1\0"+
-    "\1\173\1\62\5\0\1\23\1\0\1\23\2\0\1\63"+
-    "\1\23\7\0\4\23\11\0\35\23\11\0\2\23\2\0"+
-    "\1\62\5\0\1\23\1\0\1\23\2\0\1\63\1\23"+
-    "\7\0\4\23\11\0\15\23\1\174\17\23\11\0\2\23"+
-    "\2\0\1\62\5\0\1\175\1\0\1\23\2\0\1\63"+
-    "\1\23\7\0\4\23\11\0\35\23\11\0\2\23\2\0"+
-    "\1\140\1\0\1\130\3\0\1\131\1\130\1\131\2\0"+
-    "\1\132\1\23\7\0\2\23\1\131\1\23\11\0\5\131"+
-    "\1\23\1\131\3\23\2\131\21\23\7\0\1\176\146\0"+
-    "\1\177\66\0\1\200\4\0\1\200\77\0\2\23\2\0"+
-    "\1\62\1\0\1\137\3\0\1\23\1\137\1\23\2\0"+
-    "\1\63\1\23\7\0\4\23\11\0\35\23\11\0\2\23"+
-    "\2\0\1\62\5\0\1\23\1\0\1\23\2\0\1\63"+
-    "\1\23\7\0\4\23\11\0\16\23\1\201\16\23\11\0"+
-    "\2\23\1\0\1\202\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\4\23\11\0\35\23\11\0"+
-    "\2\23\2\0\1\62\5\0\1\23\1\0\1\23\2\0"+
-    "\1\63\1\23\7\0\1\23\1\203\2\23\11\0\35\23"+
-    "\17\0\1\204\4\0\1\204\103\0\1\71\12\0\1\153"+
-    "\104\0\1\72\1\0\1\147\105\0\1\205\3\0\3\205"+
-    "\2\0\1\205\12\0\1\205\12\0\5\205\1\0\1\205"+
-    "\3\0\2\205\21\0\4\150\1\0\106\150\15\0\1\206"+
-    "\12\0\1\153\73\0\2\23\2\0\1\207\1\0\1\137"+
-    "\3\0\1\23\1\137\1\23\2\0\1\210\1\23\7\0"+
-    "\4\23\11\0\35\23\11\0\2\23\1\0\1\211\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\4\23\11\0\35\23\11\0\1\212\1\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\4\23\11\0\35\23\11\0\2\23\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\213\1\23\7\0\4\23"+
-    "\11\0\35\23\11\0\2\23\2\0\1\62\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\4\23\11\0"+
-    "\1\23\1\214\33\23\11\0\2\23\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\1\215\6\0"+
-    "\4\23\11\0\35\23\11\0\2\23\2\0\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\2\23"+
-    "\1\216\1\23\11\0\35\23\11\0\2\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\3\23\1\217\11\0\35\23\11\0\2\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\4\23\11\0\6\23\1\220\26\23\11\0\1\221\1\23"+
-    "\2\0\1\62\5\0\1\23\1\0\1\23\2\0\1\63"+
-    "\1\23\7\0\4\23\11\0\35\23\11\0\1\23\1\222"+
-    "\2\0\1\62\5\0\1\23\1\0\1\23\2\0\1\63"+
-    "\1\23\7\0\4\23\11\0\35\23\11\0\2\23\2\0"+
-    "\1\62\5\0\1\23\1\0\1\23\2\0\1\63\1\23"+
-    "\7\0\4\23\11\0\1\23\1\223\33\23\101\0\1\224"+
-    "\22\0\2\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\4\23\11\0\1\23\1\225"+
-    "\33\23\11\0\2\23\2\0\1\62\5\0\1\23\1\0"+
-    "\1\23\2\0\1\63\1\23\7\0\4\23\11\0\27\23"+
-    "\1\226\5\23\10\0\1\227\146\0\1\230\65\0\1\231"+
-    "\4\0\1\231\77\0\2\23\1\0\1\232\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\4\23"+
-    "\11\0\35\23\72\0\1\233\35\0\1\71\1\0\1\204"+
-    "\4\0\1\204\3\0\1\73\101\0\1\234\3\0\3\234"+
-    "\2\0\1\234\12\0\1\234\12\0\5\234\1\0\1\234"+
-    "\3\0\2\234\36\0\1\71\1\0\1\70\4\0\1\70"+
-    "\3\0\1\153\101\0\1\235\4\0\1\235\77\0\2\23"+
-    "\2\0\1\236\5\0\1\23\1\0\1\23\2\0\1\210"+
-    "\1\23\7\0\4\23\11\0\35\23\60\0\1\237\43\0"+
-    "\2\23\1\0\1\240\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\4\23\11\0\35\23\11\0"+
-    "\2\23\1\0\1\241\1\140\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\4\23\11\0\22\23\1\242"+
-    "\12\23\11\0\2\23\1\0\1\243\1\62\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\4\23\11\0"+
-    "\35\23\11\0\1\23\1\244\2\0\1\62\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\4\23\11\0"+
-    "\35\23\11\0\2\23\2\0\1\62\5\0\1\23\1\0"+
-    "\1\23\2\0\1\63\1\23\1\245\6\0\4\23\11\0"+
-    "\35\23\11\0\2\23\1\0\1\246\1\62\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\4\23\11\0"+
-    "\35\23\11\0\2\23\2\0\1\62\5\0\1\23\1\0"+
-    "\1\23\2\0\1\63\1\23\7\0\1\23\1\247\2\23"+
-    "\11\0\35\23\11\0\2\23\1\0\1\250\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\4\23"+
-    "\11\0\35\23\11\0\2\23\1\0\1\251\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\4\23"+
-    "\11\0\35\23\62\0\1\252\41\0\2\23\2\0\1\62"+
-    "\5\0\1\23\1\0\1\23\2\0\1\63\1\23\7\0"+
-    "\1\23\1\253\2\23\11\0\35\23\11\0\1\254\114\0"+
-    "\1\255\110\0\2\23\2\0\1\62\1\0\1\231\3\0"+
-    "\1\23\1\231\1\23\2\0\1\63\1\23\7\0\4\23"+
-    "\11\0\35\23\72\0\1\256\101\0\1\257\50\0\1\150"+
-    "\3\0\3\150\2\0\1\150\12\0\1\150\12\0\5\150"+
-    "\1\0\1\150\3\0\2\150\40\0\1\260\4\0\1\260"+
-    "\77\0\2\23\2\0\1\207\1\0\1\235\3\0\1\23"+
-    "\1\235\1\23\2\0\1\210\1\23\7\0\4\23\11\0"+
-    "\35\23\61\0\1\261\130\0\1\262\101\0\1\263\35\0"+
-    "\1\264\1\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\4\23\11\0\35\23\61\0"+
-    "\1\265\42\0\2\23\2\0\1\62\5\0\1\23\1\0"+
-    "\1\23\2\0\1\63\1\23\1\266\6\0\4\23\11\0"+
-    "\35\23\65\0\1\267\36\0\1\23\1\270\1\0\1\271"+
-    "\1\62\5\0\1\23\1\0\1\23\2\0\1\63\1\23"+
-    "\7\0\4\23\11\0\35\23\70\0\1\272\112\0\1\273"+
-    "\33\0\2\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\3\23\1\274\11\0\35\23"+
-    "\12\0\1\275\105\0\1\276\176\0\1\277\120\0\1\300"+
-    "\32\0\1\301\4\0\1\301\150\0\1\302\133\0\1\303"+
-    "\70\0\1\304\42\0\2\23\2\0\1\62\5\0\1\23"+
-    "\1\0\1\23\2\0\1\63\1\23\7\0\1\23\1\305"+
-    "\2\23\11\0\35\23\72\0\1\306\106\0\1\307\35\0"+
-    "\1\310\1\23\2\0\1\62\5\0\1\23\1\0\1\23"+
-    "\2\0\1\63\1\23\7\0\4\23\11\0\35\23\65\0"+
-    "\1\311\116\0\1\312\112\0\1\313\34\0\1\314\174\0"+
-    "\1\315\26\0\2\23\2\0\1\207\1\0\1\301\3\0"+
-    "\1\23\1\301\1\23\2\0\1\103\1\23\7\0\4\23"+
-    "\11\0\35\23\61\0\1\316\122\0\1\317\32\0\2\23"+
-    "\1\0\1\320\1\62\5\0\1\23\1\0\1\23\2\0"+
-    "\1\63\1\23\7\0\4\23\11\0\35\23\106\0\1\321"+
-    "\73\0\1\322\34\0\2\23\1\0\1\323\1\62\5\0"+
-    "\1\23\1\0\1\23\2\0\1\63\1\23\7\0\4\23"+
-    "\11\0\35\23\66\0\1\324\116\0\1\325\126\0\1\326"+
-    "\20\0\1\327\174\0\1\330\120\0\1\331\66\0\1\332"+
-    "\120\0\1\333\105\0\1\334\121\0\1\335\107\0\1\336"+
-    "\126\0\1\337\103\0\1\340\101\0\1\341\46\0\1\342"+
-    "\156\0\1\343\117\0\1\344\130\0\1\345\24\0\1\346"+
-    "\165\0\1\347\122\0\1\350\110\0\1\351\20\0\1\352"+
-    "\165\0\1\353\136\0\1\354\14\0\1\355\205\0\1\356"+
-    "\110\0\1\357\21\0\1\360\210\0\1\361\100\0\1\362"+
-    "\26\0\1\363\203\0\1\364\117\0\1\365\13\0\1\366"+
-    "\110\0\1\367\107\0";
-
-  private static int [] zzUnpackTrans() {
-    int [] result = new int[14100];
-    int offset = 0;
-    offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackTrans(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      value--;
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-
-  /* error codes */
-  private static final int ZZ_UNKNOWN_ERROR = 0;
-  private static final int ZZ_NO_MATCH = 1;
-  private static final int ZZ_PUSHBACK_2BIG = 2;
-
-  /* error messages for the codes above */
-  private static final String ZZ_ERROR_MSG[] = {
-    "Unkown internal scanner error",
-    "Error: could not match input",
-    "Error: pushback value was too large"
-  };
-
-  /**
-   * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
-   */
-  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
-
-  private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\1\1\3\11\1\1\1\11\4\1\2\11\1\1\1\11"+
-    "\6\1\3\11\7\1\6\11\1\1\1\11\7\1\2\0"+
-    "\1\11\2\0\5\1\6\0\3\11\1\0\3\1\3\11"+
-    "\4\1\3\11\15\1\1\11\3\0\5\1\1\0\2\1"+
-    "\1\11\1\1\1\0\20\1\1\0\2\1\3\0\1\1"+
-    "\1\0\2\1\1\0\1\1\1\0\1\1\1\0\3\1"+
-    "\1\11\6\1\1\0\2\1\2\0\1\1\4\0\1\1"+
-    "\3\0\1\1\1\0\1\1\1\11\1\0\1\1\2\0"+
-    "\1\11\1\1\10\0\1\1\1\0\1\11\1\0\1\1"+
-    "\3\0\1\1\1\0\1\11\1\0\1\11\1\1\1\11"+
-    "\2\0\1\1\2\0\1\1\17\0\3\11\1\0\2\11"+
-    "\2\0\2\11\7\0\1\11\12\0\2\11\1\0\1\11";
-
-  private static int [] zzUnpackAttribute() {
-    int [] result = new int[247];
-    int offset = 0;
-    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-  /** the input device */
-  private java.io.Reader zzReader;
-
-  /** the current state of the DFA */
-  private int zzState;
-
-  /** the current lexical state */
-  private int zzLexicalState = YYINITIAL;
-
-  /** this buffer contains the current text to be matched and is
-      the source of the yytext() string */
-  private char zzBuffer[] = new char[ZZ_BUFFERSIZE];
-
-  /** the textposition at the last accepting state */
-  private int zzMarkedPos;
-
-  /** the current text position in the buffer */
-  private int zzCurrentPos;
-
-  /** startRead marks the beginning of the yytext() string in the buffer */
-  private int zzStartRead;
-
-  /** endRead marks the last character in the buffer, that has been read
-      from input */
-  private int zzEndRead;
-
-  /** number of newlines encountered up to the start of the matched text */
-  private int yyline;
-
-  /** the number of characters up to the start of the matched text */
-  private int yychar;
-
-  /**
-   * the number of characters from the last newline up to the start of the 
-   * matched text
-   */
-  private int yycolumn;
-
-  /** 
-   * zzAtBOL == true <=> the scanner is currently at the beginning of a line
-   */
-  private boolean zzAtBOL = true;
-
-  /** zzAtEOF == true <=> the scanner is at the EOF */
-  private boolean zzAtEOF;
-
-  /** denotes if the user-EOF-code has already been executed */
-  private boolean zzEOFDone;
-
-  /* user code: */
-    private Symbol mkSymbol(int id) {
-        return new Symbol(id, yyline, yycolumn);
-    }
-
-    private Symbol mkSymbol(int id, Object val) {
-        return new Symbol(id, yyline, yycolumn, val);
-    }
-
-    public int getChar() {
-    return yychar + 1;
-    }
-
-    public int getColumn() {
-        return yycolumn + 1;
-    }
-
-    public int getLine() {
-    return yyline + 1;
-    }
-
-    public String getText() {
-    return yytext();
-    }
-
-
-  /**
-   * Creates a new scanner
-   * There is also a java.io.InputStream version of this constructor.
-   *
-   * @param   in  the java.io.Reader to read input from.
-   */
-  public SmplLexer(java.io.Reader in) {
-    this.zzReader = in;
-  }
-
-  /**
-   * Creates a new scanner.
-   * There is also java.io.Reader version of this constructor.
-   *
-   * @param   in  the java.io.Inputstream to read input from.
-   */
-  public SmplLexer(java.io.InputStream in) {
-    this(new java.io.InputStreamReader(in));
-  }
-
-  /** 
-   * Unpacks the compressed character translation table.
-   *
-   * @param packed   the packed character translation table
-   * @return         the unpacked character translation table
-   */
-  private static char [] zzUnpackCMap(String packed) {
-    char [] map = new char[0x10000];
-    int i = 0;  /* index in packed string  */
-    int j = 0;  /* index in unpacked array */
-    while (i < 180) {
-      int  count = packed.charAt(i++);
-      char value = packed.charAt(i++);
-      do map[j++] = value; while (--count > 0);
-    }
-    return map;
-  }
-
-
-  /**
-   * Refills the input buffer.
-   *
-   * @return      <code>false</code>, iff there was new input.
-   * 
-   * @exception   java.io.IOException  if any I/O-Error occurs
-   */
-  private boolean zzRefill() throws java.io.IOException {
-
-    /* first: make room (if you can) */
-    if (zzStartRead > 0) {
-      System.arraycopy(zzBuffer, zzStartRead,
-                       zzBuffer, 0,
-                       zzEndRead-zzStartRead);
-
-      /* translate stored positions */
-      zzEndRead-= zzStartRead;
-      zzCurrentPos-= zzStartRead;
-      zzMarkedPos-= zzStartRead;
-      zzStartRead = 0;
-    }
-
-    /* is the buffer big enough? */
-    if (zzCurrentPos >= zzBuffer.length) {
-      /* if not: blow it up */
-      char newBuffer[] = new char[zzCurrentPos*2];
-      System.arraycopy(zzBuffer, 0, newBuffer, 0, zzBuffer.length);
-      zzBuffer = newBuffer;
-    }
-
-    /* finally: fill the buffer with new input */
-    int numRead = zzReader.read(zzBuffer, zzEndRead,
-                                            zzBuffer.length-zzEndRead);
-
-    if (numRead > 0) {
-      zzEndRead+= numRead;
-      return false;
-    }
-    // unlikely but not impossible: read 0 characters, but not at end of stream    
-    if (numRead == 0) {
-      int c = zzReader.read();
-      if (c == -1) {
-        return true;
-      } else {
-        zzBuffer[zzEndRead++] = (char) c;
-        return false;
-      }     
-    }
-
-	// numRead < 0
-    return true;
-  }
-
-    
-  /**
-   * Closes the input stream.
-   */
-  public final void yyclose() throws java.io.IOException {
-    zzAtEOF = true;            /* indicate end of file */
-    zzEndRead = zzStartRead;  /* invalidate buffer    */
-
-    if (zzReader != null)
-      zzReader.close();
-  }
-
-
-  /**
-   * Resets the scanner to read from a new input stream.
-   * Does not close the old reader.
-   *
-   * All internal variables are reset, the old input stream 
-   * <b>cannot</b> be reused (internal buffer is discarded and lost).
-   * Lexical state is set to <tt>ZZ_INITIAL</tt>.
-   *
-   * @param reader   the new input stream 
-   */
-  public final void yyreset(java.io.Reader reader) {
-    zzReader = reader;
-    zzAtBOL  = true;
-    zzAtEOF  = false;
-    zzEOFDone = false;
-    zzEndRead = zzStartRead = 0;
-    zzCurrentPos = zzMarkedPos = 0;
-    yyline = yychar = yycolumn = 0;
-    zzLexicalState = YYINITIAL;
-  }
-
-
-  /**
-   * Returns the current lexical state.
-   */
-  public final int yystate() {
-    return zzLexicalState;
-  }
-
-
-  /**
-   * Enters a new lexical state
-   *
-   * @param newState the new lexical state
-   */
-  public final void yybegin(int newState) {
-    zzLexicalState = newState;
-  }
-
-
-  /**
-   * Returns the text matched by the current regular expression.
-   */
-  public final String yytext() {
-    return new String( zzBuffer, zzStartRead, zzMarkedPos-zzStartRead );
-  }
-
-
-  /**
-   * Returns the character at position <tt>pos</tt> from the 
-   * matched text. 
-   * 
-   * It is equivalent to yytext().charAt(pos), but faster
-   *
-   * @param pos the position of the character to fetch. 
-   *            A value from 0 to yylength()-1.
-   *
-   * @return the character at position pos
-   */
-  public final char yycharat(int pos) {
-    return zzBuffer[zzStartRead+pos];
-  }
-
-
-  /**
-   * Returns the length of the matched text region.
-   */
-  public final int yylength() {
-    return zzMarkedPos-zzStartRead;
-  }
-
-
-  /**
-   * Reports an error that occured while scanning.
-   *
-   * In a wellformed scanner (no or only correct usage of 
-   * yypushback(int) and a match-all fallback rule) this method 
-   * will only be called with things that "Can't Possibly Happen".
-   * If this method is called, something is seriously wrong
-   * (e.g. a JFlex bug producing a faulty scanner etc.).
-   *
-   * Usual syntax/scanner level error handling should be done
-   * in error fallback rules.
-   *
-   * @param   errorCode  the code of the errormessage to display
-   */
-  private void zzScanError(int errorCode) {
-    String message;
-    try {
-      message = ZZ_ERROR_MSG[errorCode];
-    }
-    catch (ArrayIndexOutOfBoundsException e) {
-      message = ZZ_ERROR_MSG[ZZ_UNKNOWN_ERROR];
-    }
-
-    throw new Error(message);
-  } 
-
-
-  /**
-   * Pushes the specified amount of characters back into the input stream.
-   *
-   * They will be read again by then next call of the scanning method
-   *
-   * @param number  the number of characters to be read again.
-   *                This number must not be greater than yylength()!
-   */
-  public void yypushback(int number)  {
-    if ( number > yylength() )
-      zzScanError(ZZ_PUSHBACK_2BIG);
-
-    zzMarkedPos -= number;
-  }
-
-
-  /**
-   * Resumes scanning until the next regular expression is matched,
-   * the end of input is encountered or an I/O-Error occurs.
-   *
-   * @return      the next token
-   * @exception   java.io.IOException  if any I/O-Error occurs
-   */
-  public java_cup.runtime.Symbol next_token() throws java.io.IOException, SmplException {
-    int zzInput;
-    int zzAction;
-
-    // cached fields:
-    int zzCurrentPosL;
-    int zzMarkedPosL;
-    int zzEndReadL = zzEndRead;
-    char [] zzBufferL = zzBuffer;
-    char [] zzCMapL = ZZ_CMAP;
-
-    int [] zzTransL = ZZ_TRANS;
-    int [] zzRowMapL = ZZ_ROWMAP;
-    int [] zzAttrL = ZZ_ATTRIBUTE;
-
-    while (true) {
-      zzMarkedPosL = zzMarkedPos;
-
-      yychar+= zzMarkedPosL-zzStartRead;
-
-      boolean zzR = false;
-      for (zzCurrentPosL = zzStartRead; zzCurrentPosL < zzMarkedPosL;
-                                                             zzCurrentPosL++) {
-        switch (zzBufferL[zzCurrentPosL]) {
-        case '\u000B':
-        case '\u000C':
-        case '\u0085':
-        case '\u2028':
-        case '\u2029':
-          yyline++;
-          yycolumn = 0;
-          zzR = false;
-          break;
-        case '\r':
-          yyline++;
-          yycolumn = 0;
-          zzR = true;
-          break;
-        case '\n':
-          if (zzR)
-            zzR = false;
-          else {
-            yyline++;
-            yycolumn = 0;
-          }
-          break;
-        default:
-          zzR = false;
-          yycolumn++;
-        }
-      }
-
-      if (zzR) {
-        // peek one character ahead if it is \n (if we have counted one line too much)
-        boolean zzPeek;
-        if (zzMarkedPosL < zzEndReadL)
-          zzPeek = zzBufferL[zzMarkedPosL] == '\n';
-        else if (zzAtEOF)
-          zzPeek = false;
-        else {
-          boolean eof = zzRefill();
-          zzEndReadL = zzEndRead;
-          zzMarkedPosL = zzMarkedPos;
-          zzBufferL = zzBuffer;
-          if (eof) 
-            zzPeek = false;
-          else 
-            zzPeek = zzBufferL[zzMarkedPosL] == '\n';
-        }
-        if (zzPeek) yyline--;
-      }
-      zzAction = -1;
-
-      zzCurrentPosL = zzCurrentPos = zzStartRead = zzMarkedPosL;
-  
-      zzState = ZZ_LEXSTATE[zzLexicalState];
-
-
-      zzForAction: {
-        while (true) {
-    
-          if (zzCurrentPosL < zzEndReadL)
-            zzInput = zzBufferL[zzCurrentPosL++];
-          else if (zzAtEOF) {
-            zzInput = YYEOF;
-            break zzForAction;
-          }
-          else {
-            // store back cached positions
-            zzCurrentPos  = zzCurrentPosL;
-            zzMarkedPos   = zzMarkedPosL;
-            boolean eof = zzRefill();
-            // get translated positions and possibly new buffer
-            zzCurrentPosL  = zzCurrentPos;
-            zzMarkedPosL   = zzMarkedPos;
-            zzBufferL      = zzBuffer;
-            zzEndReadL     = zzEndRead;
-            if (eof) {
-              zzInput = YYEOF;
-              break zzForAction;
-            }
-            else {
-              zzInput = zzBufferL[zzCurrentPosL++];
-            }
-          }
-          int zzNext = zzTransL[ zzRowMapL[zzState] + zzCMapL[zzInput] ];
-          if (zzNext == -1) break zzForAction;
-          zzState = zzNext;
-
-          int zzAttributes = zzAttrL[zzState];
-          if ( (zzAttributes & 1) == 1 ) {
-            zzAction = zzState;
-            zzMarkedPosL = zzCurrentPosL;
-            if ( (zzAttributes & 8) == 8 ) break zzForAction;
-          }
-
-        }
-      }
-
-      // store back cached position
-      zzMarkedPos = zzMarkedPosL;
-
-      switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
-        case 26: 
-          { return mkSymbol(sym.RPAREN);
-          }
-        case 72: break;
-        case 1: 
-          { return mkSymbol(sym.DQUOTES);
-          }
-        case 73: break;
-        case 27: 
-          { return mkSymbol(sym.COMMA);
-          }
-        case 74: break;
-        case 57: 
-          { return mkSymbol(sym.SUBSTR);
-          }
-        case 75: break;
-        case 70: 
-          { return mkSymbol(sym.PRINTLN);
-          }
-        case 76: break;
-        case 61: 
-          { return mkSymbol(sym.LAZY);
-          }
-        case 77: break;
-        case 29: 
-          { return mkSymbol(sym.SEMI);
-          }
-        case 78: break;
-        case 5: 
-          { return mkSymbol(sym.DIV);
-          }
-        case 79: break;
-        case 56: 
-          { return mkSymbol(sym.ISEQUAL);
-          }
-        case 80: break;
-        case 7: 
-          { return mkSymbol(sym.LBRACE);
-          }
-        case 81: break;
-        case 66: 
-          { return mkSymbol(sym.CALL);
-          }
-        case 82: break;
-        case 18: 
-          { return mkSymbol(sym.POW);
-          }
-        case 83: break;
-        case 32: 
-          { return mkSymbol(sym.FALSE,yytext());
-          }
-        case 84: break;
-        case 17: 
-          { return mkSymbol(sym.MOD);
-          }
-        case 85: break;
-        case 31: 
-          { return mkSymbol(sym.TRUE,yytext());
-          }
-        case 86: break;
-        case 4: 
-          { // skip whitespace
-          }
-        case 87: break;
-        case 63: 
-          { return mkSymbol(sym.READ);
-          }
-        case 88: break;
-        case 40: 
-          { return mkSymbol(sym.ASSIGN);
-          }
-        case 89: break;
-        case 51: 
-          { return mkSymbol(sym.ISEQUIVALENT);
-          }
-        case 90: break;
-        case 9: 
-          { // IDENTIFIERS
-                 return mkSymbol(sym.ID, yytext());
-          }
-        case 91: break;
-        case 3: 
-          { //skip newline
-             yychar = 0;
-          }
-        case 92: break;
-        case 12: 
-          { return mkSymbol(sym.PERIOD);
-          }
-        case 93: break;
-        case 22: 
-          { return mkSymbol(sym.CONCAT);
-          }
-        case 94: break;
-        case 39: 
-          { return mkSymbol(sym.RVECTOR);
-          }
-        case 95: break;
-        case 37: 
-          { return mkSymbol(sym.NOTEQUAL);
-          }
-        case 96: break;
-        case 60: 
-          { return mkSymbol(sym.DEF);
-          }
-        case 97: break;
-        case 10: 
-          { return mkSymbol(sym.RCBRACE);
-          }
-        case 98: break;
-        case 41: 
-          { return mkSymbol(sym.SQUOTES);
-          }
-        case 99: break;
-        case 23: 
-          { return mkSymbol(sym.BNOT);
-          }
-        case 100: break;
-        case 24: 
-          { return mkSymbol(sym.BAND);
-          }
-        case 101: break;
-        case 20: 
-          { return mkSymbol(sym.GREATERTHAN);
-          }
-        case 102: break;
-        case 21: 
-          { return mkSymbol(sym.LESSTHAN);
-          }
-        case 103: break;
-        case 65: 
-          { return mkSymbol(sym.PROC);
-          }
-        case 104: break;
-        case 42: 
-          { //HEXADECIMAL
-        return mkSymbol(sym.INTEGER,Integer.parseInt(yytext().replace("#x", " "), 16));
-          }
-        case 105: break;
-        case 59: 
-          { return mkSymbol(sym.LET);
-          }
-        case 106: break;
-        case 25: 
-          { return mkSymbol(sym.LPAREN);
-          }
-        case 107: break;
-        case 33: 
-          { return mkSymbol(sym.NIL);
-          }
-        case 108: break;
-        case 58: 
-          { //STRING
-        return mkSymbol(sym.STRING, yytext().substring(1,yytext().length()-1));
-          }
-        case 109: break;
-        case 49: 
-          { return mkSymbol(sym.CAR);
-          }
-        case 110: break;
-        case 47: 
-          { return mkSymbol(sym.LAND);
-          }
-        case 111: break;
-        case 44: 
-          { return mkSymbol(sym.LNOT);
-          }
-        case 112: break;
-        case 50: 
-          { return mkSymbol(sym.LIST);
-          }
-        case 113: break;
-        case 43: 
-          { // skip line comments
-          }
-        case 114: break;
-        case 11: 
-          { return mkSymbol(sym.BOR);
-          }
-        case 115: break;
-        case 13: 
-          { return mkSymbol(sym.RBRACE);
-          }
-        case 116: break;
-        case 28: 
-          { return mkSymbol(sym.COLON);
-          }
-        case 117: break;
-        case 35: 
-          { return mkSymbol(sym.GREATERQUAL);
-          }
-        case 118: break;
-        case 19: 
-          { return mkSymbol(sym.EQUAL);
-          }
-        case 119: break;
-        case 36: 
-          { return mkSymbol(sym.LESSEQUAL);
-          }
-        case 120: break;
-        case 2: 
-          { // Unknown token (leave this in the last position)
-                  throw new SmplException(yytext(), getLine(),
-                              getColumn());
-          }
-        case 121: break;
-        case 71: 
-          { // skip block comments
-          }
-        case 122: break;
-        case 55: 
-          { return mkSymbol(sym.IF);
-          }
-        case 123: break;
-        case 6: 
-          { return mkSymbol(sym.MUL);
-          }
-        case 124: break;
-        case 30: 
-          { return mkSymbol(sym.LVECTOR);
-          }
-        case 125: break;
-        case 15: 
-          { return mkSymbol(sym.PLUS);
-          }
-        case 126: break;
-        case 46: 
-          { //CHARACTER
-        return mkSymbol(sym.CHARACTER, yytext().replace("#c", " "));
-          }
-        case 127: break;
-        case 53: 
-          { return mkSymbol(sym.SIZE);
-          }
-        case 128: break;
-        case 48: 
-          { return mkSymbol(sym.CDR);
-          }
-        case 129: break;
-        case 8: 
-          { return mkSymbol(sym.LCBRACE);
-          }
-        case 130: break;
-        case 38: 
-          { return mkSymbol(sym.LOR);
-          }
-        case 131: break;
-        case 67: 
-          { return mkSymbol(sym.CASE);
-          }
-        case 132: break;
-        case 16: 
-          { return mkSymbol(sym.MINUS);
-          }
-        case 133: break;
-        case 69: 
-          { return mkSymbol(sym.READINT);
-          }
-        case 134: break;
-        case 64: 
-          { return mkSymbol(sym.ELSE);
-          }
-        case 135: break;
-        case 68: 
-          { return mkSymbol(sym.PRINT);
-          }
-        case 136: break;
-        case 45: 
-          { //BINARY
-        return mkSymbol(sym.INTEGER,Integer.parseInt(yytext().replace("#b", " "), 2));
-          }
-        case 137: break;
-        case 62: 
-          { return mkSymbol(sym.THEN);
-          }
-        case 138: break;
-        case 54: 
-          { return mkSymbol(sym.PAIRCHECK);
-          }
-        case 139: break;
-        case 14: 
-          { // INTEGER
-                 return mkSymbol(sym.INTEGER, 
-                         new INTEGER(yytext()));
-          }
-        case 140: break;
-        case 52: 
-          { return mkSymbol(sym.PAIR);
-          }
-        case 141: break;
-        case 34: 
-          { // REAL
-                 return mkSymbol(sym.REAL, 
-                         new Double(yytext()));
-          }
-        case 142: break;
-        default: 
-          if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
-            zzAtEOF = true;
-              {     return new Symbol(sym.EOF);
- }
-          } 
-          else {
-            zzScanError(ZZ_NO_MATCH);
-          }
-      }
-    }
-  }
-
-
-}
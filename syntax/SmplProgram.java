@@ -5,6 +5,7 @@ import smpl.sys.SmplException;
 
 public class SmplProgram extends Exp{
     StmtSequence seq;
+    int frameSize = -1;     // number of top level definitions; set by the Resolver
 
     public SmplProgram(StmtSequence s){
 	   seq = s;
@@ -14,6 +15,18 @@ public class SmplProgram extends Exp{
         return seq;
     }
 
+    public void setFrameSize(int size){
+        frameSize = size;
+    }
+
+    public int getFrameSize(){
+        return frameSize;
+    }
+
+    public boolean isResolved(){
+        return frameSize >= 0;
+    }
+
     @Override
     public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException{
         return v.visitSmplProgram(this, arg);
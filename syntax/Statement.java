@@ -3,7 +3,7 @@ package smpl.syntax;
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
 
-public class Statement extends ASTNode{
+public abstract class Statement extends ASTNode{
 
 
 }
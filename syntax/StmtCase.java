@@ -2,37 +2,39 @@ package smpl.syntax;
 
 import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
+import java.util.*;
 
 public class StmtCase extends Statement{
 
-  ArrayList<Options> options;
-  ArrayList<Exp> pred;
-  ArrayList<Exp> con;
+  ArrayList<ExpPair> options = new ArrayList<>();
+  ArrayList<Exp> pred = new ArrayList<>();
+  ArrayList<Exp> con = new ArrayList<>();
   Exp exp;
   Boolean ifelse;
 
   public StmtCase(Exp e){
     exp = e;
-    form = true;
+    ifelse = true;
   }
   
-  public StmtCase(Options lst){
-    pred.add(lst.getPred());
-    con.add(lst.getCon());
+  public StmtCase(ExpPair option){
+    options.add(option);
+    pred.add(option.getExpL());
+    con.add(option.getExpR());
     ifelse= false;
   }
   
-  public StmtCase(ArrayList<Options> lst){
+  public StmtCase(ArrayList<ExpPair> lst){
     options=lst;
-    for(Options i:lst)
+    for(ExpPair i:lst)
     {
-      pred.add(i.getPred());
-      con.add(i.getCon());
+      pred.add(i.getExpL());
+      con.add(i.getExpR());
     }
     ifelse= false;
   }
 
-  public ArrayList<Option> getOptions(){
+  public ArrayList<ExpPair> getOptions(){
     return options;
   }
 
@@ -41,7 +43,7 @@ public class StmtCase extends Statement{
   }
 
   public ArrayList<Exp> getCon(){
-    return cons;
+    return con;
   }
 
   public Exp getExp(){
@@ -50,7 +52,7 @@ public class StmtCase extends Statement{
   
   @Override
   public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
-    return v.visitStmtCase(this, arg);
+    return v.visitStatement(this, arg);
   }
 
   @Override
@@ -9,8 +9,8 @@ public class StmtDefinition extends Exp{
 	ArrayList<String> vars;
 	ArrayList<Exp> exps;
 	ExpVectorRef vr;
-	Exp r,e;
-	String vars;
+	Exp r;
+	int[] slots;	// slot of each var in the enclosing frame, set by the Resolver
 
 	public StmtDefinition(ArrayList<String> v, ArrayList<Exp> e){
 		vars = v;
@@ -18,8 +18,10 @@ public class StmtDefinition extends Exp{
 	}
 
 	public StmtDefinition(String v, Exp e){
-		vars = v;
-		exps = e;
+		vars = new ArrayList<>();
+		vars.add(v);
+		exps = new ArrayList<>();
+		exps.add(e);
 	}
 	
 	public StmtDefinition(ExpVectorRef vr, Exp r){
@@ -43,6 +45,14 @@ public class StmtDefinition extends Exp{
 		return vr;
 	}
 
+	public void setSlots(int[] slots){
+		this.slots = slots;
+	}
+
+	public int[] getSlots(){
+		return slots;
+	}
+
 	@Override
 	public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException {
 		return v.visitStmtDefinition(this, arg);
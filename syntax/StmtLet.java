@@ -7,15 +7,15 @@ import smpl.sys.SmplException;
 public class StmtLet extends Exp {
 
 	ArrayList<Binding> bindings;
-	Exp body;
-	StmtSequence body;
+	ASTNode body;
+	int frameSize = -1;	// bindings and local defs; set by the Resolver
 
 	public StmtLet(ArrayList<Binding> bindings, Exp body){
 		this.bindings = bindings;
 		this.body = body;
 	}
 	
-	public StmtLet(ArrayList<Binding> bindings, StmtSequencce body){
+	public StmtLet(ArrayList<Binding> bindings, StmtSequence body){
 		this.bindings = bindings;
 		this.body = body;
 	}
@@ -24,10 +24,18 @@ public class StmtLet extends Exp {
 		return bindings;
 	}
 
-	public Exp getBody(){
+	public ASTNode getBody(){
 		return body;
 	}
 
+	public void setFrameSize(int size){
+		frameSize = size;
+	}
+
+	public int getFrameSize(){
+		return frameSize;
+	}
+
 	@Override
 	public <S, T> T visit(Visitor<S, T> v, S arg) throws SmplException{
 		return v.visitStmtLet(this, arg);
@@ -4,6 +4,7 @@ import smpl.semantics.Visitor;
 import smpl.sys.SmplException;
 import java.util.*;
 import smpl.syntax.Exp;
+import smpl.values.Printer;
 
 public class StmtSequence extends Statement {
 
@@ -44,13 +45,7 @@ public class StmtSequence extends Statement {
 
     @Override
     public String toString() {
-	Iterator iter = seq.iterator();
-
-    	String result = "";
-    	while (iter.hasNext()) {
-    	    result = result + iter.next().toString() + "\n";
-    	}
-    	return result;
+	return Printer.toString(this);
     }
 
 }
@@ -1,5 +1,6 @@
 /* The following code was generated by JFlex 1.6.1 */
 
+/* Specification for smpl tokens */
 
 // user customisations
 
@@ -40,26 +41,16 @@ public class smplLexer implements java_cup.runtime.Scanner {
    * Translates characters to character classes
    */
   private static final String ZZ_CMAP_PACKED = 
-    "\10\0\1\2\1\2\1\4\1\5\1\6\1\1\22\0\1\10\1\42"+
-    "\1\30\1\24\1\0\1\35\1\52\1\60\1\53\1\54\1\7\1\22"+
-    "\1\55\1\23\1\17\1\3\2\26\10\21\1\56\1\57\1\41\1\37"+
-    "\1\40\1\34\1\50\1\74\1\27\1\73\1\63\1\64\1\65\1\33"+
-    "\1\106\1\104\2\33\1\75\1\33\1\107\1\72\1\70\1\33\1\71"+
-    "\1\111\1\102\4\33\1\101\1\100\1\11\1\31\1\20\1\36\2\0"+
-    "\1\45\1\25\1\67\1\46\1\62\1\61\1\33\1\105\1\103\2\33"+
-    "\1\14\1\33\1\13\1\43\1\66\1\112\1\47\1\110\1\44\1\114"+
-    "\1\113\1\33\1\115\1\77\1\76\1\12\1\16\1\15\1\51\6\0"+
-    "\1\5\u05da\0\12\32\206\0\12\32\306\0\12\32\u019c\0\12\32\166\0"+
-    "\12\32\166\0\12\32\166\0\12\32\166\0\12\32\166\0\12\32\166\0"+
-    "\12\32\166\0\12\32\166\0\12\32\166\0\12\32\140\0\12\32\166\0"+
-    "\12\32\106\0\12\32\u0116\0\12\32\106\0\12\32\u0746\0\12\32\46\0"+
-    "\12\32\u012c\0\12\32\200\0\12\32\246\0\12\32\6\0\12\32\266\0"+
-    "\12\32\126\0\12\32\206\0\12\32\6\0\12\32\u03ce\0\1\5\1\5"+
-    "\u85f6\0\12\32\u02a6\0\12\32\46\0\12\32\306\0\12\32\26\0\12\32"+
-    "\126\0\12\32\u0196\0\12\32\u5316\0\12\32\u0586\0\12\32\u0bbc\0\12\32"+
-    "\200\0\12\32\74\0\12\32\220\0\12\32\u0116\0\12\32\u01d6\0\12\32"+
-    "\u0176\0\12\32\146\0\12\32\u0216\0\12\32\u5176\0\12\32\346\0\12\32"+
-    "\u6c74\0\62\32\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\u280f\0";
+    "\10\0\1\2\1\2\1\1\1\111\1\2\1\1\22\0\1\2\1\26"+
+    "\1\13\1\6\1\0\1\21\1\40\1\0\1\41\1\42\1\4\1\17"+
+    "\1\45\1\20\1\14\1\3\2\10\10\5\1\46\1\47\1\25\1\23"+
+    "\1\24\1\16\1\35\1\66\1\11\1\64\1\54\1\55\1\56\1\15"+
+    "\1\102\1\100\2\15\1\67\1\15\1\103\1\63\1\61\1\15\1\62"+
+    "\1\105\1\76\1\75\3\15\1\73\1\72\1\43\1\12\1\44\1\22"+
+    "\1\15\1\0\1\32\1\7\1\60\1\33\1\53\1\52\1\15\1\101"+
+    "\1\77\2\15\1\65\1\15\1\27\1\30\1\57\1\106\1\34\1\104"+
+    "\1\31\1\74\1\107\1\15\1\110\1\71\1\70\1\50\1\37\1\51"+
+    "\1\36\6\0\1\111\u1fa2\0\1\111\1\111\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\udfe6\0";
 
   /** 
    * Translates characters to character classes
@@ -72,27 +63,23 @@ public class smplLexer implements java_cup.runtime.Scanner {
   private static final int [] ZZ_ACTION = zzUnpackAction();
 
   private static final String ZZ_ACTION_PACKED_0 =
-    "\1\0\1\1\1\2\1\3\1\4\1\5\1\6\1\7"+
-    "\2\10\1\11\1\12\1\13\1\14\1\15\1\16\1\17"+
-    "\1\1\1\10\2\1\1\20\1\21\1\22\1\23\1\24"+
-    "\1\1\5\10\1\25\1\26\1\27\1\30\1\31\1\32"+
-    "\1\33\1\34\1\1\6\10\2\0\1\35\1\0\1\10"+
-    "\1\0\4\10\1\0\1\36\5\0\1\37\1\40\1\41"+
-    "\1\0\1\42\1\43\1\44\1\45\1\46\4\10\1\47"+
-    "\1\50\1\51\11\10\2\52\1\53\2\0\1\10\1\54"+
-    "\3\10\1\0\1\36\1\52\1\55\2\56\1\0\1\10"+
-    "\1\57\11\10\1\60\1\10\1\61\1\0\2\10\2\0"+
-    "\2\10\1\0\1\62\1\36\1\0\1\10\1\0\2\10"+
-    "\1\63\1\10\1\64\4\10\1\0\1\65\1\10\4\0"+
-    "\1\36\4\0\1\10\1\0\1\10\1\66\1\0\1\10"+
-    "\2\0\1\67\1\10\7\0\1\10\1\0\1\70\1\0"+
-    "\1\10\3\0\1\71\1\0\1\72\1\0\1\73\1\0"+
-    "\1\74\1\0\1\10\2\0\1\10\17\0\1\75\1\76"+
-    "\1\77\1\0\1\100\1\101\2\0\1\102\1\103\7\0"+
-    "\1\104\12\0\1\105\1\106\1\0\1\107";
+    "\1\0\1\1\1\2\1\3\1\4\1\5\1\6\1\1"+
+    "\1\7\1\1\1\10\1\11\1\12\1\13\1\14\1\15"+
+    "\1\16\1\17\1\1\6\7\1\20\1\21\1\22\1\23"+
+    "\1\24\1\25\1\26\1\27\1\30\1\31\1\32\1\33"+
+    "\1\34\20\7\1\35\1\0\1\36\1\0\1\37\1\40"+
+    "\1\41\5\0\1\42\1\43\1\44\1\45\1\7\1\46"+
+    "\4\7\1\47\1\50\1\51\25\7\1\52\2\7\1\0"+
+    "\1\53\1\54\2\0\1\55\1\56\1\7\1\57\1\60"+
+    "\12\7\1\61\2\7\1\62\7\7\1\63\5\7\1\64"+
+    "\1\65\1\0\1\66\1\67\1\7\1\70\1\71\1\7"+
+    "\1\72\1\73\2\7\1\74\1\75\2\7\1\67\1\76"+
+    "\1\77\1\7\1\100\1\0\3\7\1\101\1\102\1\103"+
+    "\1\102\2\7\1\104\1\7\1\105\3\7\1\106\1\107"+
+    "\1\110";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[238];
+    int [] result = new int[181];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -117,39 +104,32 @@ public class smplLexer implements java_cup.runtime.Scanner {
   private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
 
   private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\116\0\116\0\116\0\234\0\116\0\352\0\u0138"+
-    "\0\u0186\0\u01d4\0\116\0\116\0\u0222\0\116\0\u0270\0\u02be"+
-    "\0\u02be\0\u030c\0\u035a\0\u03a8\0\u03f6\0\116\0\116\0\116"+
-    "\0\u0444\0\u0492\0\u04e0\0\u052e\0\u057c\0\u05ca\0\u0618\0\u0666"+
-    "\0\116\0\116\0\116\0\116\0\116\0\116\0\u06b4\0\116"+
-    "\0\u0702\0\u0750\0\u079e\0\u07ec\0\u083a\0\u0888\0\u08d6\0\u0924"+
-    "\0\u0972\0\116\0\u09c0\0\u0a0e\0\u0a5c\0\u0aaa\0\u0af8\0\u0b46"+
-    "\0\u0b94\0\u0be2\0\u0c30\0\u03f6\0\u0222\0\u0c7e\0\u0ccc\0\u0d1a"+
-    "\0\116\0\116\0\116\0\u0d68\0\116\0\116\0\116\0\116"+
-    "\0\u035a\0\u0db6\0\u0e04\0\u0e52\0\u0ea0\0\116\0\116\0\116"+
-    "\0\u0eee\0\u0f3c\0\u0f8a\0\u0fd8\0\u1026\0\u1074\0\u10c2\0\u1110"+
-    "\0\u115e\0\u11ac\0\u08d6\0\116\0\u11fa\0\u1248\0\u1296\0\u035a"+
-    "\0\u12e4\0\u1332\0\u1380\0\u13ce\0\u141c\0\u0ccc\0\u146a\0\116"+
-    "\0\u14b8\0\u1506\0\u1554\0\u035a\0\u15a2\0\u15f0\0\u163e\0\u168c"+
-    "\0\u16da\0\u1728\0\u1776\0\u17c4\0\u1812\0\u035a\0\u1860\0\u035a"+
-    "\0\u18ae\0\u18fc\0\u194a\0\u1998\0\u19e6\0\u1a34\0\u1a82\0\u1ad0"+
-    "\0\u035a\0\u1b1e\0\u1b6c\0\u1bba\0\u1c08\0\u1c56\0\u1ca4\0\u035a"+
-    "\0\u1cf2\0\u1d40\0\u1d8e\0\u1ddc\0\u1e2a\0\u1e78\0\u1ec6\0\u035a"+
-    "\0\u1f14\0\u1f62\0\u1fb0\0\u1ffe\0\u204c\0\u209a\0\u20e8\0\u2136"+
-    "\0\u2184\0\u21d2\0\u2220\0\u226e\0\u22bc\0\u035a\0\u230a\0\u2358"+
-    "\0\u23a6\0\u23f4\0\116\0\u2442\0\u2490\0\u24de\0\u252c\0\u257a"+
-    "\0\u25c8\0\u2616\0\u2664\0\u26b2\0\u2700\0\u035a\0\u274e\0\u279c"+
-    "\0\u27ea\0\u2838\0\u2886\0\u035a\0\u28d4\0\116\0\u2922\0\116"+
-    "\0\u2970\0\116\0\u29be\0\u2a0c\0\u2a5a\0\u2aa8\0\u2af6\0\u2b44"+
-    "\0\u2b92\0\u2be0\0\u2c2e\0\u2c7c\0\u2cca\0\u2d18\0\u2d66\0\u2db4"+
-    "\0\u2e02\0\u2e50\0\u2e9e\0\u2eec\0\u2f3a\0\u2f88\0\116\0\116"+
-    "\0\116\0\u2fd6\0\116\0\116\0\u3024\0\u3072\0\116\0\116"+
-    "\0\u30c0\0\u310e\0\u315c\0\u31aa\0\u31f8\0\u3246\0\u3294\0\116"+
-    "\0\u32e2\0\u3330\0\u337e\0\u33cc\0\u341a\0\u3468\0\u34b6\0\u3504"+
-    "\0\u3552\0\u35a0\0\116\0\116\0\u35ee\0\116";
+    "\0\0\0\112\0\112\0\112\0\224\0\112\0\336\0\u0128"+
+    "\0\u0172\0\u01bc\0\u0206\0\112\0\112\0\112\0\112\0\112"+
+    "\0\u0250\0\u029a\0\u02e4\0\u032e\0\u0378\0\u03c2\0\u040c\0\u0456"+
+    "\0\u04a0\0\112\0\112\0\112\0\112\0\112\0\112\0\u04ea"+
+    "\0\112\0\112\0\u0534\0\112\0\112\0\112\0\u057e\0\u05c8"+
+    "\0\u0612\0\u065c\0\u06a6\0\u06f0\0\u073a\0\u0784\0\u07ce\0\u0818"+
+    "\0\u0862\0\u08ac\0\u08f6\0\u0940\0\u098a\0\u09d4\0\u0a1e\0\u0a68"+
+    "\0\u0206\0\u0ab2\0\112\0\112\0\112\0\u0afc\0\u0b46\0\u0b90"+
+    "\0\u01bc\0\u0bda\0\112\0\112\0\112\0\112\0\u0c24\0\u0172"+
+    "\0\u0c6e\0\u0cb8\0\u0d02\0\u0d4c\0\112\0\112\0\112\0\u0d96"+
+    "\0\u0de0\0\u0e2a\0\u0e74\0\u0ebe\0\u0f08\0\u0f52\0\u0f9c\0\u0fe6"+
+    "\0\u1030\0\u107a\0\u10c4\0\u110e\0\u1158\0\u11a2\0\u11ec\0\u1236"+
+    "\0\u1280\0\u12ca\0\u1314\0\u135e\0\u0172\0\u13a8\0\u13f2\0\u143c"+
+    "\0\u0ab2\0\112\0\u1486\0\u14d0\0\u0b90\0\u0172\0\u151a\0\u0172"+
+    "\0\u0172\0\u1564\0\u15ae\0\u15f8\0\u1642\0\u168c\0\u16d6\0\u1720"+
+    "\0\u176a\0\u17b4\0\u17fe\0\u0172\0\u1848\0\u1892\0\u0172\0\u18dc"+
+    "\0\u1926\0\u1970\0\u19ba\0\u1a04\0\u1a4e\0\u1a98\0\u0172\0\u1ae2"+
+    "\0\u1b2c\0\u1b76\0\u1bc0\0\u1c0a\0\112\0\112\0\u1c54\0\u0172"+
+    "\0\u1c9e\0\u1ce8\0\u0172\0\u0172\0\u1d32\0\u1d7c\0\u0172\0\u1dc6"+
+    "\0\u1e10\0\u0172\0\u0172\0\u1e5a\0\u1ea4\0\u1eee\0\u0172\0\u0172"+
+    "\0\u1f38\0\u0172\0\u1f82\0\u1fcc\0\u2016\0\u2060\0\u0172\0\u20aa"+
+    "\0\u0172\0\u20f4\0\u213e\0\u2188\0\112\0\u21d2\0\u0172\0\u221c"+
+    "\0\u2266\0\u22b0\0\u0172\0\u0172\0\u0172";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[238];
+    int [] result = new int[181];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -172,243 +152,182 @@ public class smplLexer implements java_cup.runtime.Scanner {
   private static final int [] ZZ_TRANS = zzUnpackTrans();
 
   private static final String ZZ_TRANS_PACKED_0 =
-    "\1\2\1\3\1\4\1\5\1\3\1\0\1\4\1\6"+
-    "\1\4\1\7\1\10\1\11\1\12\1\13\1\14\1\15"+
-    "\1\16\1\17\1\20\1\21\1\22\1\23\1\17\1\23"+
-    "\1\24\1\2\1\25\1\23\1\2\1\26\1\27\1\30"+
-    "\1\31\1\32\1\33\1\34\1\35\1\36\1\37\1\40"+
-    "\1\41\1\42\1\43\1\44\1\45\1\46\1\47\1\50"+
-    "\1\51\1\23\1\52\3\23\1\53\1\54\13\23\1\55"+
-    "\4\23\1\56\4\23\1\57\121\0\1\60\3\0\1\61"+
-    "\164\0\1\62\126\0\1\63\35\0\1\23\3\0\2\23"+
-    "\2\0\1\23\1\0\1\64\4\23\1\64\1\23\1\0"+
-    "\1\23\1\65\2\23\5\0\1\23\1\66\4\23\11\0"+
-    "\35\23\7\0\1\23\3\0\2\23\2\0\1\23\1\0"+
-    "\1\64\4\23\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\3\23\1\67\2\23\11\0\1\23\1\70\20\23"+
-    "\1\71\12\23\21\0\1\72\4\0\1\72\106\0\1\73"+
-    "\1\0\1\17\4\0\1\17\3\0\1\74\102\0\1\75"+
-    "\1\0\1\17\2\0\1\76\1\0\1\17\3\0\1\74"+
-    "\62\0\1\77\25\0\1\100\16\0\1\101\14\0\1\102"+
-    "\1\103\4\0\1\104\35\0\1\23\3\0\2\23\2\0"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\6\23\11\0\35\23\30\0\1\105"+
-    "\104\0\1\73\1\0\1\74\4\0\1\74\3\0\1\74"+
-    "\122\0\1\106\115\0\1\107\115\0\1\110\65\0\1\23"+
-    "\3\0\2\23\2\0\1\23\1\0\1\64\4\23\1\64"+
-    "\1\23\1\0\1\23\1\65\2\23\5\0\5\23\1\111"+
-    "\11\0\35\23\7\0\1\23\3\0\2\23\2\0\1\23"+
-    "\1\0\1\64\4\23\1\64\1\23\1\0\1\23\1\65"+
-    "\2\23\5\0\6\23\11\0\24\23\1\112\10\23\7\0"+
-    "\1\23\3\0\1\113\1\23\2\0\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\2\23\5\0"+
-    "\6\23\11\0\35\23\7\0\1\23\3\0\2\23\2\0"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\6\23\11\0\1\23\1\114\33\23"+
-    "\7\0\1\23\3\0\2\23\2\0\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\2\23\5\0"+
-    "\6\23\11\0\1\23\1\115\33\23\20\0\1\116\16\0"+
-    "\1\117\136\0\1\120\44\0\1\23\3\0\1\23\1\121"+
-    "\2\0\1\23\1\0\1\64\4\23\1\64\1\23\1\0"+
-    "\1\23\1\65\2\23\5\0\6\23\11\0\31\23\1\122"+
-    "\3\23\7\0\1\23\3\0\2\23\2\0\1\23\1\0"+
-    "\1\64\4\23\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\3\23\1\123\1\23\1\124\11\0\35\23\7\0"+
-    "\1\23\3\0\2\23\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\3\23"+
-    "\1\125\1\126\1\23\11\0\35\23\7\0\1\23\3\0"+
-    "\2\23\2\0\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\6\23\11\0\1\127"+
-    "\34\23\7\0\1\23\3\0\2\23\2\0\1\23\1\0"+
-    "\1\64\4\23\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\6\23\11\0\22\23\1\130\10\23\1\131\1\23"+
-    "\7\0\1\23\3\0\2\23\2\0\1\23\1\0\1\132"+
-    "\3\23\1\133\1\132\1\133\1\0\1\23\1\65\2\23"+
-    "\5\0\3\23\2\133\1\23\11\0\5\133\1\23\1\133"+
-    "\3\23\2\133\21\23\1\60\1\134\2\60\1\134\2\0"+
-    "\107\60\10\0\1\135\212\0\1\136\17\0\1\23\3\0"+
-    "\2\23\2\0\1\137\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\6\23\11\0\35\23"+
-    "\17\0\1\137\1\0\1\65\4\0\1\65\3\0\1\65"+
-    "\72\0\1\23\3\0\2\23\2\0\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\2\23\5\0"+
-    "\2\23\1\140\3\23\11\0\35\23\7\0\1\23\3\0"+
-    "\2\23\2\0\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\6\23\11\0\15\23"+
-    "\1\141\17\23\7\0\1\23\3\0\2\23\2\0\1\23"+
-    "\1\0\1\64\4\23\1\64\1\23\1\0\1\23\1\65"+
-    "\2\23\5\0\2\23\1\142\3\23\11\0\35\23\7\0"+
-    "\1\23\3\0\2\23\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\6\23"+
-    "\11\0\27\23\1\143\5\23\21\0\1\144\4\0\1\144"+
-    "\106\0\1\75\1\0\1\145\4\0\1\145\3\0\1\145"+
-    "\110\0\1\100\111\0\1\146\3\0\3\146\15\0\2\146"+
-    "\12\0\5\146\1\0\1\146\3\0\2\146\47\0\1\147"+
-    "\67\0\4\150\1\0\14\150\1\151\3\150\3\151\1\0"+
-    "\1\152\13\150\2\151\12\150\5\151\1\150\1\151\3\150"+
-    "\2\151\21\150\7\0\1\23\3\0\2\23\2\0\1\23"+
-    "\1\0\1\64\4\23\1\64\1\23\1\0\1\23\1\65"+
-    "\2\23\5\0\6\23\11\0\1\23\1\153\33\23\7\0"+
-    "\1\23\3\0\2\23\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\4\23"+
-    "\1\154\1\23\11\0\35\23\7\0\1\23\3\0\2\23"+
-    "\2\0\1\23\1\0\1\64\4\23\1\64\1\23\1\0"+
-    "\1\23\1\65\2\23\5\0\6\23\11\0\1\155\34\23"+
-    "\7\0\1\23\3\0\2\23\2\0\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\2\23\5\0"+
-    "\3\23\1\156\2\23\11\0\35\23\7\0\1\23\3\0"+
-    "\2\23\2\0\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\6\23\11\0\27\23"+
-    "\1\157\5\23\7\0\1\23\3\0\2\23\2\0\1\23"+
-    "\1\0\1\64\4\23\1\64\1\23\1\0\1\23\1\65"+
-    "\2\23\5\0\6\23\11\0\32\23\1\160\1\161\1\23"+
-    "\7\0\1\23\3\0\2\23\2\0\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\2\23\5\0"+
-    "\6\23\11\0\22\23\1\162\12\23\7\0\1\23\3\0"+
-    "\2\23\2\0\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\1\23\1\163\4\23"+
-    "\11\0\22\23\1\164\12\23\7\0\1\23\3\0\1\23"+
-    "\1\165\2\0\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\5\23\1\166\11\0"+
-    "\27\23\1\167\5\23\7\0\1\23\3\0\2\23\2\0"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\5\23\1\170\11\0\35\23\7\0"+
-    "\1\23\3\0\2\23\1\0\1\171\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\2\23\5\0"+
-    "\6\23\11\0\35\23\7\0\1\23\3\0\2\23\2\0"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\6\23\11\0\15\23\1\172\17\23"+
-    "\7\0\1\23\3\0\2\23\2\0\1\23\1\0\1\64"+
-    "\3\23\1\173\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\6\23\11\0\35\23\7\0\1\23\3\0\2\23"+
-    "\2\0\1\137\1\0\1\132\3\23\1\133\1\132\1\133"+
-    "\1\0\1\23\1\65\2\23\5\0\3\23\2\133\1\23"+
-    "\11\0\5\133\1\23\1\133\3\23\2\133\21\23\11\0"+
-    "\1\174\151\0\1\175\57\0\1\23\3\0\2\23\2\0"+
-    "\1\23\1\0\1\176\4\23\1\176\1\23\1\0\1\23"+
-    "\1\176\2\23\5\0\6\23\11\0\35\23\7\0\1\23"+
-    "\3\0\2\23\2\0\1\23\1\0\1\64\4\23\1\64"+
-    "\1\23\1\0\1\23\1\65\2\23\5\0\6\23\11\0"+
-    "\16\23\1\177\16\23\7\0\1\23\3\0\2\23\1\0"+
-    "\1\200\1\23\1\0\1\64\4\23\1\64\1\23\1\0"+
-    "\1\23\1\65\2\23\5\0\6\23\11\0\35\23\7\0"+
-    "\1\23\3\0\2\23\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\2\23"+
-    "\1\201\3\23\11\0\35\23\21\0\1\202\4\0\1\202"+
-    "\106\0\1\73\1\0\1\145\4\0\1\145\3\0\1\145"+
-    "\107\0\1\76\1\0\1\147\110\0\1\203\3\0\3\203"+
-    "\15\0\2\203\12\0\5\203\1\0\1\203\3\0\2\203"+
-    "\21\0\1\150\1\0\2\150\3\0\107\150\7\0\1\23"+
-    "\3\0\1\204\1\23\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\6\23"+
-    "\11\0\35\23\7\0\1\23\3\0\2\23\1\0\1\205"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\6\23\11\0\35\23\7\0\1\23"+
-    "\3\0\2\23\2\0\1\23\1\0\1\64\4\23\1\64"+
-    "\1\23\1\0\1\23\1\65\2\23\5\0\4\23\1\206"+
-    "\1\23\11\0\35\23\7\0\1\23\3\0\2\23\2\0"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\6\23\11\0\1\23\1\207\33\23"+
-    "\7\0\1\23\3\0\2\23\2\0\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\1\23\1\210"+
-    "\5\0\6\23\11\0\35\23\7\0\1\23\3\0\2\23"+
-    "\2\0\1\23\1\0\1\64\4\23\1\64\1\23\1\0"+
-    "\1\23\1\65\2\23\5\0\3\23\1\211\2\23\11\0"+
-    "\35\23\7\0\1\23\3\0\2\23\2\0\1\23\1\0"+
-    "\1\64\4\23\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\5\23\1\212\11\0\35\23\7\0\1\23\3\0"+
-    "\2\23\2\0\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\6\23\11\0\6\23"+
-    "\1\213\26\23\7\0\1\23\3\0\1\214\1\23\2\0"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\6\23\11\0\35\23\7\0\1\23"+
-    "\3\0\1\23\1\215\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\6\23"+
-    "\11\0\35\23\7\0\1\23\3\0\2\23\2\0\1\23"+
-    "\1\0\1\64\4\23\1\64\1\23\1\0\1\23\1\65"+
-    "\2\23\5\0\6\23\11\0\1\23\1\216\33\23\104\0"+
-    "\1\217\20\0\1\23\3\0\2\23\2\0\1\23\1\0"+
-    "\1\64\4\23\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\6\23\11\0\1\23\1\220\33\23\7\0\1\23"+
-    "\3\0\2\23\2\0\1\23\1\0\1\64\4\23\1\64"+
-    "\1\23\1\0\1\23\1\65\2\23\5\0\6\23\11\0"+
-    "\27\23\1\221\5\23\12\0\1\222\152\0\1\223\55\0"+
-    "\1\23\3\0\2\23\2\0\1\137\1\0\1\176\4\23"+
-    "\1\176\1\23\1\0\1\23\1\176\2\23\5\0\6\23"+
-    "\11\0\35\23\7\0\1\23\3\0\2\23\1\0\1\224"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\6\23\11\0\35\23\75\0\1\225"+
-    "\37\0\1\75\1\0\1\226\4\0\1\226\3\0\1\74"+
-    "\104\0\1\227\3\0\3\227\15\0\2\227\12\0\5\227"+
-    "\1\0\1\227\3\0\2\227\30\0\1\23\3\0\2\23"+
-    "\1\0\1\230\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\6\23\11\0\35\23"+
-    "\63\0\1\231\41\0\1\23\3\0\2\23\1\0\1\232"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\6\23\11\0\22\23\1\233\12\23"+
-    "\7\0\1\23\3\0\2\23\1\0\1\234\1\23\1\0"+
-    "\1\64\4\23\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\6\23\11\0\35\23\7\0\1\23\3\0\1\23"+
-    "\1\235\2\0\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\6\23\11\0\35\23"+
-    "\7\0\1\23\3\0\2\23\2\0\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\1\23\1\236"+
-    "\5\0\6\23\11\0\35\23\7\0\1\23\3\0\2\23"+
-    "\1\0\1\237\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\6\23\11\0\35\23"+
-    "\7\0\1\23\3\0\2\23\2\0\1\23\1\0\1\64"+
-    "\4\23\1\64\1\23\1\0\1\23\1\65\2\23\5\0"+
-    "\2\23\1\240\3\23\11\0\35\23\7\0\1\23\3\0"+
-    "\2\23\1\0\1\241\1\23\1\0\1\64\4\23\1\64"+
-    "\1\23\1\0\1\23\1\65\2\23\5\0\6\23\11\0"+
-    "\35\23\7\0\1\23\3\0\2\23\1\0\1\242\1\23"+
-    "\1\0\1\64\4\23\1\64\1\23\1\0\1\23\1\65"+
-    "\2\23\5\0\6\23\11\0\35\23\65\0\1\243\37\0"+
-    "\1\23\3\0\2\23\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\2\23"+
-    "\1\244\3\23\11\0\35\23\13\0\1\245\117\0\1\246"+
-    "\175\0\1\247\104\0\1\250\50\0\1\73\1\0\1\226"+
-    "\4\0\1\226\3\0\1\74\104\0\1\150\3\0\3\150"+
-    "\15\0\2\150\12\0\5\150\1\0\1\150\3\0\2\150"+
-    "\123\0\1\251\77\0\1\252\122\0\1\253\33\0\1\23"+
-    "\3\0\1\254\1\23\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\6\23"+
-    "\11\0\35\23\64\0\1\255\40\0\1\23\3\0\2\23"+
-    "\2\0\1\23\1\0\1\64\4\23\1\64\1\23\1\0"+
-    "\1\23\1\65\1\23\1\256\5\0\6\23\11\0\35\23"+
-    "\70\0\1\257\34\0\1\23\3\0\1\23\1\260\1\0"+
-    "\1\261\1\23\1\0\1\64\4\23\1\64\1\23\1\0"+
-    "\1\23\1\65\2\23\5\0\6\23\11\0\35\23\73\0"+
-    "\1\262\115\0\1\263\31\0\1\23\3\0\2\23\2\0"+
-    "\1\23\1\0\1\64\4\23\1\64\1\23\1\0\1\23"+
-    "\1\65\2\23\5\0\5\23\1\264\11\0\35\23\14\0"+
-    "\1\265\110\0\1\266\202\0\1\267\123\0\1\270\121\0"+
-    "\1\271\74\0\1\272\114\0\1\273\40\0\1\23\3\0"+
-    "\2\23\2\0\1\23\1\0\1\64\4\23\1\64\1\23"+
-    "\1\0\1\23\1\65\2\23\5\0\2\23\1\274\3\23"+
-    "\11\0\35\23\75\0\1\275\111\0\1\276\33\0\1\23"+
-    "\3\0\1\277\1\23\2\0\1\23\1\0\1\64\4\23"+
-    "\1\64\1\23\1\0\1\23\1\65\2\23\5\0\6\23"+
-    "\11\0\35\23\70\0\1\300\121\0\1\301\115\0\1\302"+
-    "\36\0\1\303\200\0\1\304\101\0\1\305\125\0\1\306"+
-    "\30\0\1\23\3\0\2\23\1\0\1\307\1\23\1\0"+
-    "\1\64\4\23\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\6\23\11\0\35\23\111\0\1\310\76\0\1\311"+
-    "\32\0\1\23\3\0\2\23\1\0\1\312\1\23\1\0"+
-    "\1\64\4\23\1\64\1\23\1\0\1\23\1\65\2\23"+
-    "\5\0\6\23\11\0\35\23\71\0\1\313\121\0\1\314"+
-    "\131\0\1\315\22\0\1\316\200\0\1\317\123\0\1\320"+
-    "\71\0\1\321\123\0\1\322\110\0\1\323\124\0\1\324"+
-    "\112\0\1\325\131\0\1\326\106\0\1\327\104\0\1\330"+
-    "\50\0\1\331\162\0\1\332\122\0\1\333\133\0\1\334"+
-    "\26\0\1\335\171\0\1\336\125\0\1\337\113\0\1\340"+
-    "\22\0\1\341\171\0\1\342\141\0\1\343\16\0\1\344"+
-    "\211\0\1\345\113\0\1\346\23\0\1\347\214\0\1\350"+
-    "\103\0\1\351\30\0\1\352\207\0\1\353\122\0\1\354"+
-    "\15\0\1\355\111\0\1\356\112\0";
+    "\1\2\1\3\1\4\1\5\1\6\1\7\1\10\1\11"+
+    "\1\7\1\11\1\2\1\12\1\13\1\11\1\2\1\14"+
+    "\1\15\1\16\1\17\1\20\1\21\1\22\1\23\1\24"+
+    "\1\25\1\26\1\27\1\30\1\31\1\32\1\33\1\34"+
+    "\1\35\1\36\1\37\1\40\1\41\1\42\1\43\1\44"+
+    "\1\45\1\46\1\47\1\50\1\51\1\52\1\53\1\54"+
+    "\1\55\1\56\1\57\1\11\1\60\1\61\1\11\1\62"+
+    "\6\11\1\63\1\64\1\65\3\11\1\66\4\11\116\0"+
+    "\1\67\1\70\112\0\1\7\2\0\1\7\3\0\1\71"+
+    "\104\0\1\72\21\0\1\73\20\0\1\74\1\75\4\0"+
+    "\1\76\13\0\1\77\13\0\1\100\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\37\11\1\0"+
+    "\1\101\1\0\10\101\1\102\1\103\76\101\5\0\1\71"+
+    "\2\0\1\71\124\0\1\104\111\0\1\105\111\0\1\106"+
+    "\73\0\1\11\1\0\3\11\3\0\2\11\7\0\2\11"+
+    "\1\107\4\11\15\0\37\11\6\0\1\11\1\0\3\11"+
+    "\3\0\2\11\7\0\6\11\1\110\15\0\37\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\27\11\1\111\7\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\1\11\1\112\5\11\15\0\37\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\1\11\1\113\35\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\7\11\15\0\1\11\1\114\35\11\47\0"+
+    "\1\115\66\0\1\116\20\0\1\117\52\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\22\11\1\120"+
+    "\14\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\13\11\1\121\20\11\1\122\2\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\3\11\1\123\33\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\7\11\15\0\15\11\1\124\21\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\23\11\1\125\13\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\4\11\1\126\1\11\1\127\15\0\6\11"+
+    "\1\130\30\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\4\11\1\131\1\132\1\11\15\0\37\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\10\11\1\133\1\11\1\134\24\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\3\11\1\135"+
+    "\33\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\14\11\1\136\22\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\4\11\1\137\2\11\15\0"+
+    "\1\11\1\140\23\11\1\141\11\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\3\11\1\142"+
+    "\10\11\1\143\22\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\7\11\15\0\30\11\1\144\6\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\1\145\36\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\4\11\1\145\32\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\22\11"+
+    "\1\146\2\11\1\147\11\11\1\0\1\67\1\0\110\67"+
+    "\4\70\1\150\105\70\10\0\1\151\101\0\1\152\1\0"+
+    "\10\152\1\153\77\152\5\0\1\154\1\0\3\154\20\0"+
+    "\2\154\16\0\5\154\1\0\1\154\3\0\1\154\1\0"+
+    "\1\154\30\0\1\155\1\0\3\155\20\0\2\155\16\0"+
+    "\5\155\1\0\1\155\3\0\1\155\1\0\1\155\23\0"+
+    "\1\101\1\0\110\101\5\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\3\11\1\156\3\11\15\0\37\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\1\11\1\157\35\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\5\11\1\160\1\11\15\0\37\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\1\161\36\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\4\11\1\162\2\11\15\0\37\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\3\11\1\163\3\11"+
+    "\15\0\37\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\32\11\1\164\4\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\35\11"+
+    "\1\165\1\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\4\11\1\161\32\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\33\11"+
+    "\1\166\3\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\24\11\1\167\12\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\25\11"+
+    "\1\170\11\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\2\11\1\171\4\11\15\0\25\11\1\172\11\11"+
+    "\6\0\1\11\1\0\3\11\3\0\2\11\7\0\4\11"+
+    "\1\173\2\11\15\0\37\11\6\0\1\11\1\0\3\11"+
+    "\3\0\2\11\7\0\6\11\1\174\15\0\13\11\1\175"+
+    "\16\11\1\176\4\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\6\11\1\177\15\0\37\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\11\11"+
+    "\1\200\14\11\1\201\10\11\6\0\1\11\1\0\3\11"+
+    "\3\0\2\11\7\0\7\11\15\0\14\11\1\202\22\11"+
+    "\6\0\1\11\1\0\3\11\3\0\2\11\7\0\7\11"+
+    "\15\0\14\11\1\203\22\11\6\0\1\11\1\0\3\11"+
+    "\3\0\2\11\7\0\7\11\15\0\15\11\1\204\15\11"+
+    "\1\205\3\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\16\11\1\206\20\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\3\11\1\207\3\11"+
+    "\15\0\37\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\32\11\1\210\4\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\24\11"+
+    "\1\207\12\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\20\11\1\211\16\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\3\11"+
+    "\1\212\33\11\6\0\1\11\1\0\1\213\2\11\3\0"+
+    "\2\11\7\0\7\11\15\0\37\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\16\11\1\214"+
+    "\20\11\1\0\3\70\1\215\1\150\105\70\1\216\1\0"+
+    "\110\216\5\0\1\217\1\0\3\217\20\0\2\217\16\0"+
+    "\5\217\1\0\1\217\3\0\1\217\1\0\1\217\30\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\1\11\1\220"+
+    "\5\11\15\0\37\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\5\11\1\221\1\11\15\0\37\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\22\11\1\222\14\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\7\11\15\0\1\11\1\223\35\11\6\0"+
+    "\1\11\1\0\3\11\3\0\1\11\1\224\7\0\7\11"+
+    "\15\0\37\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\3\11\1\223\33\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\23\11"+
+    "\1\225\13\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\6\11\1\226\15\0\37\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\6\11\1\227"+
+    "\30\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\1\11\1\230\5\11\15\0\37\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\13\11\1\231"+
+    "\23\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\13\11\1\232\23\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\1\11\1\233"+
+    "\35\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\12\11\1\227\24\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\31\11\1\234"+
+    "\5\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\15\11\1\235\21\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\2\11\1\236"+
+    "\34\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\15\11\1\232\21\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\3\11\1\233"+
+    "\33\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\17\11\1\237\17\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\3\11\1\240\3\11\15\0"+
+    "\37\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\21\11\1\237\15\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\31\11\1\220"+
+    "\5\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\32\11\1\241\4\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\1\11\1\242"+
+    "\35\11\6\0\1\243\1\0\3\243\20\0\2\243\16\0"+
+    "\5\243\1\0\1\243\3\0\1\243\1\0\1\243\30\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\25\11\1\244\11\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\6\11\1\245\15\0\37\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\10\11"+
+    "\1\246\26\11\6\0\1\11\1\0\3\11\3\0\1\11"+
+    "\1\247\7\0\7\11\15\0\37\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\3\11\1\250\3\11\15\0"+
+    "\37\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\13\11\1\251\23\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\24\11\1\252"+
+    "\12\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\7\11\15\0\15\11\1\251\21\11\6\0\1\11\1\0"+
+    "\3\11\3\0\2\11\7\0\7\11\15\0\26\11\1\253"+
+    "\10\11\6\0\1\11\1\0\3\11\3\0\2\11\7\0"+
+    "\3\11\1\254\3\11\15\0\37\11\6\0\1\255\1\0"+
+    "\3\255\20\0\2\255\16\0\5\255\1\0\1\255\3\0"+
+    "\1\255\1\0\1\255\30\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\1\11\1\256\5\11\15\0\37\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\1\11\1\257\35\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\7\11\15\0\3\11\1\257\33\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\13\11\1\260\23\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\7\11\15\0\15\11\1\261\21\11\6\0"+
+    "\1\11\1\0\3\11\3\0\2\11\7\0\7\11\15\0"+
+    "\31\11\1\262\5\11\6\0\1\11\1\0\3\11\3\0"+
+    "\2\11\7\0\6\11\1\263\15\0\37\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\3\11\1\264\3\11"+
+    "\15\0\37\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\1\11\1\265\5\11\15\0\37\11\6\0\1\11"+
+    "\1\0\3\11\3\0\2\11\7\0\7\11\15\0\31\11"+
+    "\1\265\5\11\6\0\1\11\1\0\3\11\3\0\2\11"+
+    "\7\0\7\11\15\0\24\11\1\264\12\11\1\0";
 
   private static int [] zzUnpackTrans() {
-    int [] result = new int[13884];
+    int [] result = new int[8954];
     int offset = 0;
     offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -446,21 +365,14 @@ public class smplLexer implements java_cup.runtime.Scanner {
   private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\1\0\3\11\1\1\1\11\4\1\2\11\1\1\1\11"+
-    "\7\1\3\11\10\1\6\11\1\1\1\11\7\1\2\0"+
-    "\1\11\1\0\1\1\1\0\4\1\1\0\1\1\5\0"+
-    "\3\11\1\0\4\11\5\1\3\11\13\1\1\11\2\0"+
-    "\5\1\1\0\3\1\1\11\1\1\1\0\16\1\1\0"+
-    "\2\1\2\0\2\1\1\0\2\1\1\0\1\1\1\0"+
-    "\11\1\1\0\2\1\4\0\1\1\4\0\1\1\1\0"+
-    "\2\1\1\0\1\1\2\0\1\11\1\1\7\0\1\1"+
-    "\1\0\1\1\1\0\1\1\3\0\1\1\1\0\1\11"+
-    "\1\0\1\11\1\0\1\11\1\0\1\1\2\0\1\1"+
-    "\17\0\3\11\1\0\2\11\2\0\2\11\7\0\1\11"+
-    "\12\0\2\11\1\0\1\11";
+    "\1\0\3\11\1\1\1\11\5\1\5\11\11\1\6\11"+
+    "\1\1\2\11\1\1\3\11\21\1\1\0\1\1\1\0"+
+    "\3\11\5\0\4\11\6\1\3\11\30\1\1\0\1\1"+
+    "\1\11\2\0\40\1\2\11\1\0\23\1\1\0\11\1"+
+    "\1\11\10\1";
 
   private static int [] zzUnpackAttribute() {
-    int [] result = new int[238];
+    int [] result = new int[181];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -545,19 +457,45 @@ public class smplLexer implements java_cup.runtime.Scanner {
     }
 
     public int getChar() {
-	return yychar + 1;
+    return yychar + 1;
     }
 
     public int getColumn() {
-    	return yycolumn + 1;
+        return yycolumn + 1;
     }
 
     public int getLine() {
-	return yyline + 1;
+    return yyline + 1;
     }
 
     public String getText() {
-	return yytext();
+    return yytext();
+    }
+
+    /* the character denoted by an escape sequence, backslash included */
+    private static char unescape(String esc) {
+        switch (esc.charAt(1)) {
+        case 'n': return '\n';
+        case 't': return '\t';
+        case 'r': return '\r';
+        case 'b': return '\b';
+        case 'f': return '\f';
+        default: return esc.charAt(1);
+        }
+    }
+
+    /* the contents of a string literal, quotes removed and escapes replaced */
+    private static String unquote(String lit) {
+        StringBuilder sb = new StringBuilder(lit.length());
+        for (int i = 1; i < lit.length() - 1; i++) {
+            char c = lit.charAt(i);
+            if (c == '\\') {
+                sb.append(unescape(lit.substring(i, i + 2)));
+                i++;
+            } else
+                sb.append(c);
+        }
+        return sb.toString();
     }
 
 
@@ -581,7 +519,7 @@ public class smplLexer implements java_cup.runtime.Scanner {
     char [] map = new char[0x110000];
     int i = 0;  /* index in packed string  */
     int j = 0;  /* index in unpacked array */
-    while (i < 416) {
+    while (i < 226) {
       int  count = packed.charAt(i++);
       char value = packed.charAt(i++);
       do map[j++] = value; while (--count > 0);
@@ -929,307 +867,315 @@ public class smplLexer implements java_cup.runtime.Scanner {
 
       if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
         zzAtEOF = true;
-          { 	return new Symbol(sym.EOF);
+          {     return new Symbol(sym.EOF);
  }
       }
       else {
         switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
           case 1: 
             { // Unknown token (leave this in the last position)
-    			  throw new FractalLexerException(yytext(), getLine(),
-							  getColumn());
+                  throw new SmplException("Unrecognised character " + yytext() +
+                                          " at line " + getLine() + ", column " +
+                                          getColumn());
             }
-          case 72: break;
+          case 73: break;
           case 2: 
             { //skip newline
              yychar = 0;
             }
-          case 73: break;
+          case 74: break;
           case 3: 
             { // skip whitespace
             }
-          case 74: break;
+          case 75: break;
           case 4: 
             { return mkSymbol(sym.DIV);
             }
-          case 75: break;
+          case 76: break;
           case 5: 
             { return mkSymbol(sym.MUL);
             }
-          case 76: break;
-          case 6: 
-            { return mkSymbol(sym.LBRACE);
-            }
           case 77: break;
-          case 7: 
-            { return mkSymbol(sym.LCBRACE);
+          case 6: 
+            { // INTEGER
+                 return mkSymbol(sym.INTEGER, 
+                         Integer.valueOf(yytext()));
             }
           case 78: break;
-          case 8: 
+          case 7: 
             { // IDENTIFIERS
-	       		 return mkSymbol(sym.ID, yytext());
+                 return mkSymbol(sym.VARIABLE, yytext());
             }
           case 79: break;
-          case 9: 
-            { return mkSymbol(sym.RCBRACE);
+          case 8: 
+            { return mkSymbol(sym.PERIOD);
             }
           case 80: break;
-          case 10: 
-            { return mkSymbol(sym.BOR);
+          case 9: 
+            { return mkSymbol(sym.PLUS);
             }
           case 81: break;
-          case 11: 
-            { return mkSymbol(sym.PERIOD);
+          case 10: 
+            { return mkSymbol(sym.MINUS);
             }
           case 82: break;
-          case 12: 
-            { return mkSymbol(sym.RBRACE);
+          case 11: 
+            { return mkSymbol(sym.MOD);
             }
           case 83: break;
-          case 13: 
-            { // INTEGER
-                 return mkSymbol(sym.INTEGER, 
-                         new INTEGER(yytext()));
+          case 12: 
+            { return mkSymbol(sym.POW);
             }
           case 84: break;
-          case 14: 
-            { return mkSymbol(sym.PLUS);
+          case 13: 
+            { return mkSymbol(sym.EQUAL);
             }
           case 85: break;
-          case 15: 
-            { return mkSymbol(sym.MINUS);
+          case 14: 
+            { return mkSymbol(sym.GREATERTHAN);
             }
           case 86: break;
-          case 16: 
-            { return mkSymbol(sym.MOD);
+          case 15: 
+            { return mkSymbol(sym.LESSTHAN);
             }
           case 87: break;
-          case 17: 
-            { return mkSymbol(sym.POW);
+          case 16: 
+            { return mkSymbol(sym.CONCAT);
             }
           case 88: break;
-          case 18: 
-            { return mkSymbol(sym.EQUAL);
+          case 17: 
+            { return mkSymbol(sym.BNOT);
             }
           case 89: break;
-          case 19: 
-            { return mkSymbol(sym.GREATERTHAN);
+          case 18: 
+            { return mkSymbol(sym.BOR);
             }
           case 90: break;
-          case 20: 
-            { return mkSymbol(sym.LESSTHAN);
+          case 19: 
+            { return mkSymbol(sym.BAND);
             }
           case 91: break;
-          case 21: 
-            { return mkSymbol(sym.CONCAT);
+          case 20: 
+            { return mkSymbol(sym.LPAREN);
             }
           case 92: break;
-          case 22: 
-            { return mkSymbol(sym.BNOT);
+          case 21: 
+            { return mkSymbol(sym.RPAREN);
             }
           case 93: break;
-          case 23: 
-            { return mkSymbol(sym.BAND);
+          case 22: 
+            { return mkSymbol(sym.LBRACE);
             }
           case 94: break;
-          case 24: 
-            { return mkSymbol(sym.LPAREN);
+          case 23: 
+            { return mkSymbol(sym.RBRACE);
             }
           case 95: break;
-          case 25: 
-            { return mkSymbol(sym.RPAREN);
+          case 24: 
+            { return mkSymbol(sym.COMMA);
             }
           case 96: break;
-          case 26: 
-            { return mkSymbol(sym.COMMA);
+          case 25: 
+            { return mkSymbol(sym.COLON);
             }
           case 97: break;
-          case 27: 
-            { return mkSymbol(sym.COLON);
+          case 26: 
+            { return mkSymbol(sym.SEMICOLON);
             }
           case 98: break;
-          case 28: 
-            { return mkSymbol(sym.SEMICOLON);
+          case 27: 
+            { return mkSymbol(sym.LCBRACE);
             }
           case 99: break;
-          case 29: 
-            { return mkSymbol(sym.LVECTOR);
+          case 28: 
+            { return mkSymbol(sym.RCBRACE);
             }
           case 100: break;
+          case 29: 
+            { // skip line comments
+            }
+          case 101: break;
           case 30: 
             { // REAL
-	       		 return mkSymbol(sym.REAL, 
-			 	         new Double(yytext()));
+                 return mkSymbol(sym.REAL, 
+                         Double.valueOf(yytext()));
             }
-          case 101: break;
+          case 102: break;
           case 31: 
-            { return mkSymbol(sym.TRUE,yytext());
+            { return mkSymbol(sym.TRUE);
             }
-          case 102: break;
+          case 103: break;
           case 32: 
-            { return mkSymbol(sym.FALSE,yytext());
+            { return mkSymbol(sym.FALSE);
             }
-          case 103: break;
+          case 104: break;
           case 33: 
             { return mkSymbol(sym.NIL);
             }
-          case 104: break;
+          case 105: break;
           case 34: 
-            { return mkSymbol(sym.DQUOTES);
+            { //STRING
+        return mkSymbol(sym.STRING, unquote(yytext()));
             }
-          case 105: break;
+          case 106: break;
           case 35: 
             { return mkSymbol(sym.GREATEREQUAL);
             }
-          case 106: break;
+          case 107: break;
           case 36: 
             { return mkSymbol(sym.LESSEQUAL);
             }
-          case 107: break;
+          case 108: break;
           case 37: 
             { return mkSymbol(sym.NOTEQUAL);
             }
-          case 108: break;
+          case 109: break;
           case 38: 
             { return mkSymbol(sym.LOR);
             }
-          case 109: break;
+          case 110: break;
           case 39: 
-            { return mkSymbol(sym.RVECTOR);
+            { return mkSymbol(sym.LVECTOR);
             }
-          case 110: break;
+          case 111: break;
           case 40: 
             { return mkSymbol(sym.ASSIGN);
             }
-          case 111: break;
+          case 112: break;
           case 41: 
-            { return mkSymbol(sym.SQUOTES);
+            { return mkSymbol(sym.RVECTOR);
             }
-          case 112: break;
+          case 113: break;
           case 42: 
-            { //HEXADECIMAL
-        return mkSymbol(sym.INTEGER,Integer.parseInt(yytext().replace("#x", " "), 16));
+            { return mkSymbol(sym.IF);
             }
-          case 113: break;
+          case 114: break;
           case 43: 
-            { // skip line comments
+            { //BINARY
+        return mkSymbol(sym.INTEGER, Integer.valueOf(yytext().substring(2), 2));
             }
-          case 114: break;
+          case 115: break;
           case 44: 
-            { return mkSymbol(sym.LNOT);
+            { //CHARACTER
+        return mkSymbol(sym.CHARACTER, yytext().substring(2));
             }
-          case 115: break;
+          case 116: break;
           case 45: 
-            { //BINARY
-        return mkSymbol(sym.INTEGER,Integer.parseInt(yytext().replace("#b", " "), 2));
+            { //HEXADECIMAL
+        return mkSymbol(sym.INTEGER, Integer.valueOf(yytext().substring(2), 16));
             }
-          case 116: break;
+          case 117: break;
           case 46: 
-            { //CHARACTER
-        return mkSymbol(sym.CHARACTER, yytext().replace("#c", " "));
+            { return mkSymbol(sym.LNOT);
             }
-          case 117: break;
+          case 118: break;
           case 47: 
             { return mkSymbol(sym.LAND);
             }
-          case 118: break;
+          case 119: break;
           case 48: 
-            { return mkSymbol(sym.CAR);
+            { return mkSymbol(sym.DEF);
             }
-          case 119: break;
+          case 120: break;
           case 49: 
-            { return mkSymbol(sym.CDR);
+            { return mkSymbol(sym.CAR);
             }
-          case 120: break;
+          case 121: break;
           case 50: 
-            { return mkSymbol(sym.LIST);
+            { return mkSymbol(sym.CDR);
             }
-          case 121: break;
+          case 122: break;
           case 51: 
-            { return mkSymbol(sym.ISEQUIVALENT);
+            { return mkSymbol(sym.LET);
             }
-          case 122: break;
+          case 123: break;
           case 52: 
-            { return mkSymbol(sym.PAIR);
+            { // skip block comments
             }
-          case 123: break;
+          case 124: break;
           case 53: 
-            { return mkSymbol(sym.SIZE);
+            { //CHARACTER, escaped
+        return mkSymbol(sym.CHARACTER, String.valueOf(unescape(yytext().substring(2))));
             }
-          case 124: break;
+          case 125: break;
           case 54: 
-            { return mkSymbol(sym.PAIRCHECK);
+            { return mkSymbol(sym.THEN);
             }
-          case 125: break;
+          case 126: break;
           case 55: 
-            { return mkSymbol(sym.IF);
+            { return mkSymbol(sym.READ);
             }
-          case 126: break;
+          case 127: break;
           case 56: 
-            { return mkSymbol(sym.ISEQUAL);
+            { return mkSymbol(sym.ELSE);
             }
-          case 127: break;
+          case 128: break;
           case 57: 
-            { return mkSymbol(sym.SUBSTR);
+            { return mkSymbol(sym.ISEQUIVALENT);
             }
-          case 128: break;
+          case 129: break;
           case 58: 
-            { //STRING
-        return mkSymbol(sym.STRING, yytext().substring(1,yytext().length()-1));
+            { return mkSymbol(sym.PAIR);
             }
-          case 129: break;
+          case 130: break;
           case 59: 
-            { return mkSymbol(sym.LET);
+            { return mkSymbol(sym.PROC);
             }
-          case 130: break;
+          case 131: break;
           case 60: 
-            { return mkSymbol(sym.DEF);
+            { return mkSymbol(sym.CALL);
             }
-          case 131: break;
+          case 132: break;
           case 61: 
-            { return mkSymbol(sym.LAZY);
+            { return mkSymbol(sym.CASE);
             }
-          case 132: break;
+          case 133: break;
           case 62: 
-            { return mkSymbol(sym.THEN);
+            { return mkSymbol(sym.LAZY);
             }
-          case 133: break;
+          case 134: break;
           case 63: 
-            { return mkSymbol(sym.READ);
+            { return mkSymbol(sym.LIST);
             }
-          case 134: break;
+          case 135: break;
           case 64: 
-            { return mkSymbol(sym.ELSE);
+            { return mkSymbol(sym.SIZE);
             }
-          case 135: break;
+          case 136: break;
           case 65: 
-            { return mkSymbol(sym.PROC);
+            { return mkSymbol(sym.PAIRCHECK);
             }
-          case 136: break;
+          case 137: break;
           case 66: 
-            { return mkSymbol(sym.CALL);
+            { return mkSymbol(sym.PRINT);
             }
-          case 137: break;
+          case 138: break;
           case 67: 
-            { return mkSymbol(sym.CASE);
+            { return mkSymbol(sym.PCALL);
             }
-          case 138: break;
+          case 139: break;
           case 68: 
-            { return mkSymbol(sym.PRINT);
+            { //CHARACTER, by code point
+        return mkSymbol(sym.CHARACTER,
+                        String.valueOf((char) Integer.parseInt(yytext().substring(2), 16)));
             }
-          case 139: break;
+          case 140: break;
           case 69: 
-            { return mkSymbol(sym.READINT);
+            { return mkSymbol(sym.FUTURE);
             }
-          case 140: break;
+          case 141: break;
           case 70: 
-            { return mkSymbol(sym.PRINTLN);
+            { return mkSymbol(sym.SUBSTR);
             }
-          case 141: break;
+          case 142: break;
           case 71: 
-            { // skip block comments
+            { return mkSymbol(sym.READINT);
             }
-          case 142: break;
+          case 143: break;
+          case 72: 
+            { return mkSymbol(sym.PRINTLN);
+            }
+          case 144: break;
           default:
             zzScanError(ZZ_NO_MATCH);
         }
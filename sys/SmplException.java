@@ -0,0 +1,16 @@
+package smpl.sys;
+
+/**
+ * An error raised while reading or running an SMPL program: a type
+ * error, an unbound variable, a bad argument to a builtin, and so on.
+ */
+public class SmplException extends Exception {
+
+	public SmplException(String message) {
+		super(message);
+	}
+
+	public SmplException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
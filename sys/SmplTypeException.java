@@ -0,0 +1,18 @@
+package smpl.sys;
+
+import smpl.values.SmplTypes;
+
+/**
+ * An SmplException raised when a value is not of the type an operation
+ * needs.
+ */
+public class SmplTypeException extends SmplException {
+
+	public SmplTypeException(String message) {
+		super(message);
+	}
+
+	public SmplTypeException(SmplTypes expected, SmplTypes found) {
+		super("Type error: expected " + expected + " but got " + found);
+	}
+}
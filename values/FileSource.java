@@ -0,0 +1,175 @@
+package smpl.values;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import smpl.sys.SmplException;
+
+/**
+ * The lines, or fixed-size records, of a file, read as a stream needs
+ * them (see <code>SmplStream</code>).  The file is read through a
+ * FileChannel into one reusable byte buffer, and lines are decoded from
+ * it into one reusable char buffer, so however large the file only a
+ * buffer's worth of it is in memory at a time.  The channel is closed
+ * when the end of the file is reached, or by a Cleaner once the source
+ * becomes unreachable, if its stream is dropped before then.
+ *
+ * A line ends at a newline, which is not part of it, nor is a carriage
+ * return before it; a last line need not end in a newline.  A record is
+ * the next <code>recordSize</code> bytes of the file, decoded; the last
+ * one may be shorter.  Malformed input is replaced, not an error.
+ */
+public class FileSource implements SmplStream.Source {
+
+	static final int SIZE = 1 << 16;
+
+	final Path path;
+	final FileChannel channel;
+	final CharsetDecoder decoder;
+	final int recordSize;           // 0 for lines
+	final ByteBuffer bytes;
+	final CharBuffer chars;
+	final StringBuilder line = new StringBuilder();
+	final Cleaner.Cleanable cleanable;
+	boolean eof;                    // the channel is exhausted
+	boolean done;                   // and everything has been decoded
+
+	protected FileSource(Path path, Charset cs, int recordSize) throws SmplException {
+		this.path = path;
+		this.recordSize = recordSize;
+		this.decoder = cs.newDecoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.bytes = ByteBuffer.allocateDirect(recordSize > 0 ? recordSize : SIZE);
+		this.chars = CharBuffer.allocate(recordSize > 0 ? 0 : SIZE);
+		this.chars.flip();
+		try {
+			this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		} catch (IOException e) {
+			throw new SmplException("Cannot open " + path + ": " + e.getMessage());
+		}
+		this.cleanable = OffHeapVectorStorage.CLEANER.register(this, new Closer(channel));
+	}
+
+	/**
+	 * Closes the channel; it must not refer to the FileSource, or the
+	 * Cleaner would never run.
+	 */
+	static class Closer implements Runnable {
+
+		final FileChannel channel;
+
+		Closer(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public void run() {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// nothing more can be done with it
+			}
+		}
+	}
+
+	/**
+	 * @return The stream of the lines of the given file
+	 */
+	public static SmplValue lines(Path path, Charset cs) throws SmplException {
+		return SmplStream.of(new FileSource(path, cs, 0));
+	}
+
+	/**
+	 * @return The stream of the records of size bytes of the given file
+	 */
+	public static SmplValue records(Path path, Charset cs, int size) throws SmplException {
+		if (size <= 0)
+			throw new SmplException("Record size must be positive, not " + size);
+		return SmplStream.of(new FileSource(path, cs, size));
+	}
+
+	@Override
+	public SmplValue next() throws SmplException {
+		try {
+			String s = recordSize > 0 ? readRecord() : readLine();
+			if (s == null) {
+				cleanable.clean();
+				return null;
+			}
+			return new SmplString(s);
+		} catch (IOException e) {
+			throw new SmplException("Error reading " + path + ": " + e.getMessage());
+		}
+	}
+
+	protected String readLine() throws IOException {
+		line.setLength(0);
+		boolean any = false;
+		while (true) {
+			while (chars.hasRemaining()) {
+				char c = chars.get();
+				if (c == '\n')
+					return endLine();
+				line.append(c);
+				any = true;
+			}
+			if (!decode())
+				return any ? endLine() : null;
+			any = true;
+		}
+	}
+
+	private String endLine() {
+		int n = line.length();
+		if (n > 0 && line.charAt(n - 1) == '\r')
+			line.setLength(n - 1);
+		return line.toString();
+	}
+
+	protected String readRecord() throws IOException {
+		if (eof)
+			return null;
+		bytes.clear();
+		while (bytes.hasRemaining())
+			if (channel.read(bytes) < 0) {
+				eof = true;
+				break;
+			}
+		bytes.flip();
+		if (!bytes.hasRemaining())
+			return null;
+		return decoder.decode(bytes).toString();
+	}
+
+	/**
+	 * Decode more of the file into chars.
+	 * @return false if there is no more
+	 */
+	private boolean decode() throws IOException {
+		chars.clear();
+		while (!done && chars.position() == 0) {
+			if (!eof && channel.read(bytes) < 0)
+				eof = true;
+			bytes.flip();
+			CoderResult cr = decoder.decode(bytes, chars, eof);
+			bytes.compact();
+			if (cr.isError())
+				cr.throwException();
+			if (eof && cr.isUnderflow()) {
+				decoder.flush(chars);
+				done = true;
+			}
+		}
+		chars.flip();
+		return chars.hasRemaining();
+	}
+}
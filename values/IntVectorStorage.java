@@ -0,0 +1,44 @@
+package smpl.values;
+
+import java.util.Arrays;
+
+/**
+ * Vector storage for integers only, in an <code>int[]</code>.
+ */
+class IntVectorStorage extends VectorStorage {
+
+	int[] elements;
+	int size;
+
+	IntVectorStorage(int capacity) {
+		elements = new int[capacity];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public SmplValue get(int i) {
+		return SmplInt.valueOf(elements[i]);
+	}
+
+	@Override
+	public boolean set(int i, SmplValue v) {
+		if (!(v instanceof SmplInt))
+			return false;
+		elements[i] = ((SmplInt) v).value;
+		return true;
+	}
+
+	@Override
+	public boolean append(SmplValue v) {
+		if (!(v instanceof SmplInt))
+			return false;
+		if (size == elements.length)
+			elements = Arrays.copyOf(elements, grow(size));
+		elements[size++] = ((SmplInt) v).value;
+		return true;
+	}
+}
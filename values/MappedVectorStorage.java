@@ -0,0 +1,206 @@
+package smpl.values;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.ref.Cleaner;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import smpl.sys.SmplException;
+
+/**
+ * Vector storage in a file, mapped into memory, so that a vector written
+ * by one run of a program can be reopened by the next without reading
+ * or parsing it.  Changes to the elements go straight to the file.
+ *
+ * The file is a 24 byte header followed by the elements, all little
+ * endian:
+ * <pre>
+ *   offset  size  contents
+ *        0     4  magic number, the ASCII bytes "SMPV"
+ *        4     4  format version, currently 1
+ *        8     4  element type: 1 for 32 bit integers, 2 for 64 bit IEEE reals
+ *       12     4  reserved, 0
+ *       16     8  number of elements, n
+ *       24        n elements of 4 (integers) or 8 (reals) bytes each
+ * </pre>
+ * A file-backed vector has a fixed length and element type; storing an
+ * element of another type in it is an error.
+ *
+ * Each mapping belongs to an arena of its own.  The file is written out
+ * and unmapped when the vector is freed explicitly, or else by a cleaner
+ * once the storage is no longer reachable, as for
+ * <code>OffHeapVectorStorage</code>.
+ */
+public class MappedVectorStorage extends VectorStorage {
+
+	public static final int MAGIC = 0x56504d53;      // "SMPV" read little endian
+	public static final int VERSION = 1;
+	public static final int INTS = 1;
+	public static final int REALS = 2;
+	public static final int HEADER_SIZE = 24;
+
+	static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+	static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+	static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+	/**
+	 * The mapping itself, kept apart from the storage so the cleaner can
+	 * unmap it without keeping the storage reachable.
+	 */
+	static class Mapping implements Runnable {
+		final Arena arena;
+		final MemorySegment segment;
+
+		Mapping(Arena arena, MemorySegment segment) {
+			this.arena = arena;
+			this.segment = segment;
+		}
+
+		@Override
+		public void run() {
+			segment.force();
+			arena.close();
+		}
+	}
+
+	final boolean ints;
+	final int size;
+	MemorySegment segment;    // the whole file, header included
+	Cleaner.Cleanable cleanable;
+
+	MappedVectorStorage(Arena arena, MemorySegment segment, boolean ints, int size) {
+		this.segment = segment;
+		this.ints = ints;
+		this.size = size;
+		this.cleanable = OffHeapVectorStorage.CLEANER.register(this, new Mapping(arena, segment));
+	}
+
+	/**
+	 * Create the named file, replacing any existing one, holding a
+	 * vector of n zeroes of the given element type.
+	 */
+	public static MappedVectorStorage create(Path file, int type, int n) throws SmplException {
+		if (type != INTS && type != REALS)
+			throw new SmplException("Unknown element type " + type);
+		if (n < 0)
+			throw new SmplException("Negative vector length " + n);
+		long bytes = HEADER_SIZE + (long) n * (type == INTS ? Integer.BYTES : Double.BYTES);
+		MappedVectorStorage result = map(file, bytes, type == INTS, n,
+						 StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+		MemorySegment s = result.segment;
+		s.set(INT, 0, MAGIC);
+		s.set(INT, 4, VERSION);
+		s.set(INT, 8, type);
+		s.set(INT, 12, 0);
+		s.set(LONG, 16, n);
+		return result;
+	}
+
+	/**
+	 * Map a vector file written earlier.
+	 *
+	 * @exception SmplException if it cannot be read, or is not a vector file
+	 */
+	public static MappedVectorStorage open(Path file) throws SmplException {
+		long bytes;
+		try {
+			bytes = Files.size(file);
+		} catch (IOException e) {
+			throw new SmplException("Cannot open vector file " + file + ": " + e.getMessage());
+		}
+		if (bytes < HEADER_SIZE)
+			throw new SmplException(file + " is not a vector file");
+		MappedVectorStorage header = map(file, HEADER_SIZE, true, 0);
+		MemorySegment s = header.segment;
+		int magic = s.get(INT, 0), version = s.get(INT, 4), type = s.get(INT, 8);
+		long n = s.get(LONG, 16);
+		header.release();
+
+		if (magic != MAGIC)
+			throw new SmplException(file + " is not a vector file");
+		if (version != VERSION)
+			throw new SmplException(file + " has unsupported vector file version " + version);
+		if (type != INTS && type != REALS)
+			throw new SmplException(file + " has unknown element type " + type);
+		long expected = HEADER_SIZE + n * (type == INTS ? Integer.BYTES : Double.BYTES);
+		if (n < 0 || n > Integer.MAX_VALUE || bytes < expected)
+			throw new SmplException(file + " is truncated or corrupt");
+		return map(file, expected, type == INTS, (int) n);
+	}
+
+	protected static MappedVectorStorage map(Path file, long bytes, boolean ints, int n,
+						 OpenOption... extra) throws SmplException {
+		OpenOption[] options = new OpenOption[extra.length + 2];
+		options[0] = StandardOpenOption.READ;
+		options[1] = StandardOpenOption.WRITE;
+		System.arraycopy(extra, 0, options, 2, extra.length);
+		Arena arena = Arena.ofShared();
+		try (FileChannel ch = FileChannel.open(file, options)) {
+			MemorySegment s = ch.map(FileChannel.MapMode.READ_WRITE, 0, bytes, arena);
+			return new MappedVectorStorage(arena, s, ints, n);
+		} catch (IOException | RuntimeException e) {
+			arena.close();
+			throw new SmplException("Cannot map vector file " + file + ": " + e.getMessage());
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public SmplValue get(int i) {
+		if (ints)
+			return SmplInt.valueOf(segment.getAtIndex(INT, HEADER_SIZE / Integer.BYTES + i));
+		return new SmplReal(segment.getAtIndex(DOUBLE, HEADER_SIZE / Double.BYTES + i));
+	}
+
+	@Override
+	public boolean set(int i, SmplValue v) {
+		if (ints && v instanceof SmplInt)
+			segment.setAtIndex(INT, HEADER_SIZE / Integer.BYTES + i, ((SmplInt) v).value);
+		else if (!ints && v instanceof SmplReal)
+			segment.setAtIndex(DOUBLE, HEADER_SIZE / Double.BYTES + i, ((SmplReal) v).value);
+		else
+			return false;
+		return true;
+	}
+
+	@Override
+	public boolean append(SmplValue v) {
+		return false;
+	}
+
+	@Override
+	public VectorStorage generalize() {
+		// the file fixes the element type
+		return null;
+	}
+
+	@Override
+	public VectorStorage moveOffHeap() {
+		return this;
+	}
+
+	/**
+	 * Write any changes to the elements out to the file.
+	 */
+	public void sync() {
+		segment.force();
+	}
+
+	/**
+	 * Write out any changes and unmap the file.
+	 */
+	@Override
+	public void release() {
+		if (segment == null)
+			return;
+		cleanable.clean();
+		segment = null;
+	}
+}
@@ -0,0 +1,125 @@
+package smpl.values;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.ref.Cleaner;
+
+/**
+ * Vector storage for integers only or reals only, outside the Java heap,
+ * in a <code>MemorySegment</code>.  A numeric vector is moved here once
+ * it grows to <code>THRESHOLD</code> elements, so that very large
+ * vectors neither fill the heap nor lengthen garbage collections.
+ *
+ * The memory belongs to an arena of its own.  It is released when the
+ * vector is freed explicitly (see <code>SmplVector.free</code>), or
+ * else by a cleaner once the storage is no longer reachable.
+ */
+class OffHeapVectorStorage extends VectorStorage {
+
+	/** The number of elements at which a numeric vector moves off the heap; 0 never */
+	static final int THRESHOLD = Integer.getInteger("smpl.vector.offheap", 1 << 20);
+
+	static final Cleaner CLEANER = Cleaner.create();
+
+	/**
+	 * The memory itself, kept apart from the storage so the cleaner can
+	 * release it without keeping the storage reachable.
+	 */
+	static class Block implements Runnable {
+		Arena arena;
+		MemorySegment segment;
+
+		Block(long bytes) {
+			arena = Arena.ofShared();
+			segment = arena.allocate(bytes, 8);
+		}
+
+		@Override
+		public void run() {
+			arena.close();
+		}
+	}
+
+	final boolean ints;    // JAVA_INT elements if true, otherwise JAVA_DOUBLE
+	Block block;
+	Cleaner.Cleanable cleanable;
+	long capacity;
+	int size;
+
+	OffHeapVectorStorage(boolean ints, long capacity) {
+		this.ints = ints;
+		allocate(capacity);
+	}
+
+	/**
+	 * @return Off-heap storage holding the elements of the given int or
+	 * real storage, or the storage itself if it is neither
+	 */
+	static VectorStorage copyOf(VectorStorage s) {
+		OffHeapVectorStorage result;
+		if (s instanceof IntVectorStorage) {
+			IntVectorStorage is = (IntVectorStorage) s;
+			result = new OffHeapVectorStorage(true, (long) grow(is.size));
+			MemorySegment.copy(is.elements, 0, result.block.segment, ValueLayout.JAVA_INT, 0, is.size);
+			result.size = is.size;
+		} else if (s instanceof RealVectorStorage) {
+			RealVectorStorage rs = (RealVectorStorage) s;
+			result = new OffHeapVectorStorage(false, (long) grow(rs.size));
+			MemorySegment.copy(rs.elements, 0, result.block.segment, ValueLayout.JAVA_DOUBLE, 0, rs.size);
+			result.size = rs.size;
+		} else {
+			return s;
+		}
+		return result;
+	}
+
+	protected void allocate(long capacity) {
+		Block old = block;
+		Cleaner.Cleanable oldCleanable = cleanable;
+		block = new Block(capacity * (ints ? Integer.BYTES : Double.BYTES));
+		cleanable = CLEANER.register(this, block);
+		if (old != null) {
+			MemorySegment.copy(old.segment, 0, block.segment, 0, old.segment.byteSize());
+			oldCleanable.clean();
+		}
+		this.capacity = capacity;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public SmplValue get(int i) {
+		if (ints)
+			return SmplInt.valueOf(block.segment.getAtIndex(ValueLayout.JAVA_INT, i));
+		return new SmplReal(block.segment.getAtIndex(ValueLayout.JAVA_DOUBLE, i));
+	}
+
+	@Override
+	public boolean set(int i, SmplValue v) {
+		if (ints && v instanceof SmplInt)
+			block.segment.setAtIndex(ValueLayout.JAVA_INT, i, ((SmplInt) v).value);
+		else if (!ints && v instanceof SmplReal)
+			block.segment.setAtIndex(ValueLayout.JAVA_DOUBLE, i, ((SmplReal) v).value);
+		else
+			return false;
+		return true;
+	}
+
+	@Override
+	public boolean append(SmplValue v) {
+		if (ints ? !(v instanceof SmplInt) : !(v instanceof SmplReal))
+			return false;
+		if (size == capacity)
+			allocate(capacity + (capacity >> 1));
+		return set(size++, v);
+	}
+
+	@Override
+	public void release() {
+		cleanable.clean();
+	}
+}
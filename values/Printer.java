@@ -0,0 +1,362 @@
+package smpl.values;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import smpl.syntax.*;
+
+/**
+ * Writes the printed form of values and programs to an
+ * <code>Appendable</code> piece by piece, so that printing a long list,
+ * vector or string never builds its whole text as one Java string.
+ *
+ * Nested values and expressions are printed from an explicit stack of
+ * pending work rather than by recursion, so printing a deeply nested
+ * value or expression cannot overflow the Java stack.  Each entry on the stack is literal text, a
+ * value or AST node still to be printed, or a cursor part way through
+ * the elements of a list, vector or statement sequence.
+ *
+ * Printing a stream prints only the elements it has produced so far,
+ * followed by "..." if there may be more; it does not force the stream.
+ *
+ * The <code>toString</code> methods of the compound values and of
+ * statement sequences go through here too.
+ */
+public final class Printer {
+
+	private Printer() {
+	}
+
+	/**
+	 * Write the printed form of v to out.
+	 */
+	public static void print(SmplValue v, Appendable out) throws IOException {
+		run(v, out);
+	}
+
+	/**
+	 * Write the source form of node to out.
+	 */
+	public static void print(ASTNode node, Appendable out) throws IOException {
+		run(node, out);
+	}
+
+	/**
+	 * @return The printed form of v
+	 */
+	public static String toString(SmplValue v) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			run(v, sb);
+		} catch (IOException e) {
+			// a StringBuilder never throws
+			throw new UncheckedIOException(e);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @return The source form of node
+	 */
+	public static String toString(ASTNode node) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			run(node, sb);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return sb.toString();
+	}
+
+	private static void run(Object item, Appendable out) throws IOException {
+		ArrayDeque<Object> work = new ArrayDeque<>();
+		work.push(item);
+		while (!work.isEmpty()) {
+			Object x = work.pop();
+			if (x instanceof String)
+				out.append((String) x);
+			else if (x instanceof Cursor)
+				((Cursor) x).next(work, out);
+			else if (x instanceof SmplValue)
+				value((SmplValue) x, work, out);
+			else
+				node((ASTNode) x, work, out);
+		}
+	}
+
+	private static void value(SmplValue v, ArrayDeque<Object> work, Appendable out) throws IOException {
+		if (v instanceof SmplString) {
+			SmplString s = (SmplString) v;
+			String flat = s.val;
+			if (flat != null)
+				out.append(flat, s.offset, s.offset + s.length);
+			else {
+				// the leaves, left to right, without flattening
+				work.push(s.right);
+				work.push(s.left);
+			}
+		} else if (v instanceof SmplList) {
+			work.push(new ListCursor((SmplList) v));
+		} else if (v instanceof SmplStream) {
+			work.push(new StreamCursor(v));
+		} else if (v instanceof SmplPair) {
+			SmplPair p = (SmplPair) v;
+			out.append('(');
+			work.push(")");
+			work.push(p.val2);
+			work.push(" . ");
+			work.push(p.val1);
+		} else if (v instanceof SmplVector) {
+			out.append('[');
+			work.push(new VectorCursor((SmplVector) v));
+		} else if (v instanceof SmplBuiltin) {
+			// a builtin is a procedure with no ExpProc behind it
+			out.append(v.toString());
+		} else if (v instanceof SmplProcedure) {
+			procedure(((SmplProcedure) v).getProcExp(), work, out);
+		} else {
+			out.append(v.toString());
+		}
+	}
+
+	private static void procedure(ExpProc proc, ArrayDeque<Object> work, Appendable out) throws IOException {
+		out.append("[Procedure: (");
+		ArrayList<String> params = proc.getParameters();
+		for (int i = 0; i < params.size(); i++) {
+			if (i > 0)
+				out.append(", ");
+			out.append(params.get(i));
+		}
+		if (proc.getListVar() != null)
+			out.append(" . ").append(proc.getListVar());
+		out.append(") -> ");
+		work.push("]");
+		if (proc.getBody() != null)
+			work.push(proc.getBody());
+		else {
+			out.append('[');
+			work.push(new SeqCursor(proc.getExpressions().iterator(), ", ", "]"));
+		}
+	}
+
+	private static void node(ASTNode node, ArrayDeque<Object> work, Appendable out) throws IOException {
+		if (node instanceof SmplProgram)
+			work.push(((SmplProgram) node).getSeq());
+		else if (node instanceof StmtSequence)
+			work.push(new SeqCursor(((StmtSequence) node).getSeq().iterator(), null, null));
+		else if (node instanceof ExpBinaryOp) {
+			ExpBinaryOp op = (ExpBinaryOp) node;
+			infix(op.getExpL(), op.getOperator(), op.getExpR(), work);
+		} else if (node instanceof ExpLogicAnd)
+			infix(((ExpLogicAnd) node).getExpL(), "and", ((ExpLogicAnd) node).getExpR(), work);
+		else if (node instanceof ExpLogicOr)
+			infix(((ExpLogicOr) node).getExpL(), "or", ((ExpLogicOr) node).getExpR(), work);
+		else if (node instanceof ExpBitAnd)
+			infix(((ExpBitAnd) node).getExpL(), "&", ((ExpBitAnd) node).getExpR(), work);
+		else if (node instanceof ExpBitOr)
+			infix(((ExpBitOr) node).getExpL(), "|", ((ExpBitOr) node).getExpR(), work);
+		else if (node instanceof ExpConcat)
+			infix(((ExpConcat) node).getExpL(), "@", ((ExpConcat) node).getExpR(), work);
+		else if (node instanceof ExpLogicNot) {
+			out.append("not ");
+			work.push(((ExpLogicNot) node).getExp());
+		} else if (node instanceof ExpBitNot) {
+			out.append("~ ");
+			work.push(((ExpBitNot) node).getExp());
+		} else if (node instanceof ExpProcedureCall) {
+			ExpProcedureCall call = (ExpProcedureCall) node;
+			work.push(new SeqCursor(call.getArgs().iterator(), ", ", ")"));
+			work.push("(");
+			work.push(call.getProcExp());
+		} else if (node instanceof ExpCall) {
+			ExpCall call = (ExpCall) node;
+			out.append("call(");
+			work.push(")");
+			work.push(call.getExpR());
+			work.push(", ");
+			work.push(call.getExpL());
+		} else if (node instanceof StmtLet)
+			let((StmtLet) node, work, out);
+		else if (node instanceof SmplIf) {
+			SmplIf exp = (SmplIf) node;
+			conditional(exp.getCondition(), exp.getIfArg(), exp.getElseArg(), work, out);
+		} else if (node instanceof ExpIf) {
+			ExpIf exp = (ExpIf) node;
+			conditional(exp.getCondition(), exp.getIfArg(), exp.getElseArg(), work, out);
+		} else if (node instanceof ExpCase) {
+			// clauses are pairs of predicate and body; the else clause's
+			// predicate is the string "else", which prints as itself
+			List<ExpPair> clauses = ((ExpCase) node).getList();
+			out.append("case {");
+			work.push("}");
+			for (int i = clauses.size() - 1; i >= 0; i--) {
+				ExpPair clause = clauses.get(i);
+				work.push(clause.getExpR());
+				work.push(" : ");
+				work.push(clause.getExpL());
+				if (i > 0)
+					work.push(", ");
+			}
+		} else
+			out.append(node.toString());
+	}
+
+	/** Push l op r, to be printed left to right */
+	private static void infix(Exp l, String op, Exp r, ArrayDeque<Object> work) {
+		work.push(r);
+		work.push(" " + op + " ");
+		work.push(l);
+	}
+
+	private static void conditional(Exp con, Exp then, Exp otherwise, ArrayDeque<Object> work, Appendable out) throws IOException {
+		out.append("if ");
+		if (otherwise != null) {
+			work.push(otherwise);
+			work.push(" else ");
+		}
+		work.push(then);
+		work.push(" then ");
+		work.push(con);
+	}
+
+	private static void let(StmtLet let, ArrayDeque<Object> work, Appendable out) throws IOException {
+		out.append("let (");
+		ASTNode body = let.getBody();
+		if (body instanceof StmtSequence) {
+			work.push("}");
+			work.push(body);
+			work.push(") {");
+		} else {
+			work.push(body);
+			work.push(") ");
+		}
+		List<Binding> bindings = let.getBindings();
+		for (int i = bindings.size() - 1; i >= 0; i--) {
+			Binding b = bindings.get(i);
+			work.push(b.getValExp());
+			work.push(b.getVar() + " = ");
+			if (i > 0)
+				work.push(", ");
+		}
+	}
+
+	/**
+	 * Part of the work stack: prints some of what remains of a compound
+	 * value, pushing itself back if there is more.
+	 */
+	private interface Cursor {
+		void next(ArrayDeque<Object> work, Appendable out) throws IOException;
+	}
+
+	/** The elements of a list, each followed by an arrow, then #e */
+	private static final class ListCursor implements Cursor {
+		SmplList list;
+		int i;
+
+		ListCursor(SmplList list) {
+			this.list = list;
+			this.i = list.start;
+		}
+
+		public void next(ArrayDeque<Object> work, Appendable out) throws IOException {
+			if (list.length == 0) {
+				out.append(SmplEmptyList.EMPTY.toString());
+				return;
+			}
+			SmplValue v = list.chunk[i++];
+			if (i == list.chunk.length) {
+				list = list.next;
+				if (list.length > 0)
+					i = list.start;
+			}
+			work.push(this);
+			work.push(" -> ");
+			work.push(v);
+		}
+	}
+
+	/** The elements of a stream produced so far, each followed by an arrow */
+	private static final class StreamCursor implements Cursor {
+		SmplValue at;           // the rest of the stream; null if not produced yet
+
+		StreamCursor(SmplValue at) {
+			this.at = at;
+		}
+
+		public void next(ArrayDeque<Object> work, Appendable out) throws IOException {
+			if (at == null) {
+				out.append("...");
+				return;
+			}
+			if (!(at instanceof SmplStream)) {
+				// the end of the stream
+				work.push(at);
+				return;
+			}
+			SmplStream s = (SmplStream) at;
+			at = s.forcedTail();
+			work.push(this);
+			work.push(" -> ");
+			work.push(s.head);
+		}
+	}
+
+	/** The elements of a vector, separated by commas, then ] */
+	private static final class VectorCursor implements Cursor {
+		final SmplVector vector;
+		int i;
+
+		VectorCursor(SmplVector vector) {
+			this.vector = vector;
+		}
+
+		public void next(ArrayDeque<Object> work, Appendable out) throws IOException {
+			if (i == vector.size()) {
+				out.append(']');
+				return;
+			}
+			if (i > 0)
+				out.append(", ");
+			work.push(this);
+			work.push(vector.elementAt(i++));
+		}
+	}
+
+	/**
+	 * The nodes of a sequence: statements each on a line of its own, or
+	 * expressions separated by sep and followed by close
+	 */
+	private static final class SeqCursor implements Cursor {
+		final Iterator<? extends ASTNode> nodes;
+		final String sep, close;
+		boolean first = true;
+
+		SeqCursor(Iterator<? extends ASTNode> nodes, String sep, String close) {
+			this.nodes = nodes;
+			this.sep = sep;
+			this.close = close;
+		}
+
+		public void next(ArrayDeque<Object> work, Appendable out) throws IOException {
+			if (!nodes.hasNext()) {
+				if (close != null)
+					out.append(close);
+				return;
+			}
+			if (sep == null) {
+				// a statement sequence: one statement per line
+				work.push(this);
+				work.push("\n");
+			} else {
+				if (!first)
+					out.append(sep);
+				work.push(this);
+			}
+			first = false;
+			work.push(nodes.next());
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package smpl.values;
+
+import java.util.Arrays;
+
+/**
+ * Vector storage for reals only, in a <code>double[]</code>.
+ */
+class RealVectorStorage extends VectorStorage {
+
+	double[] elements;
+	int size;
+
+	RealVectorStorage(int capacity) {
+		elements = new double[capacity];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public SmplValue get(int i) {
+		return new SmplReal(elements[i]);
+	}
+
+	@Override
+	public boolean set(int i, SmplValue v) {
+		if (!(v instanceof SmplReal))
+			return false;
+		elements[i] = ((SmplReal) v).value;
+		return true;
+	}
+
+	@Override
+	public boolean append(SmplValue v) {
+		if (!(v instanceof SmplReal))
+			return false;
+		if (size == elements.length)
+			elements = Arrays.copyOf(elements, grow(size));
+		elements[size++] = ((SmplReal) v).value;
+		return true;
+	}
+}
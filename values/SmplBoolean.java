@@ -5,6 +5,9 @@ import smpl.sys.SmplTypeException;
 
 public class SmplBoolean extends SmplValue{
 
+	public static final SmplBoolean TRUE = new SmplBoolean(true);
+	public static final SmplBoolean FALSE = new SmplBoolean(false);
+
 	boolean val;
 
 	public SmplBoolean(boolean v){
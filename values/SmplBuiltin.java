@@ -0,0 +1,62 @@
+package smpl.values;
+
+import smpl.sys.SmplException;
+import smpl.jit.CompiledBody;
+import smpl.semantics.SmplEvaluator;
+
+/**
+ * A procedure implemented in Java rather than in SMPL, such as those
+ * installed in every global environment by <code>Builtins</code>.  It
+ * has no procedure expression or closing environment: callers check for
+ * it and pass it its evaluated arguments directly.
+ */
+public class SmplBuiltin extends SmplProcedure {
+
+	public interface Body {
+		SmplValue apply(SmplEvaluator ev, SmplValue[] args) throws SmplException;
+	}
+
+	public static final int VARIADIC = -1;
+
+	String name;
+	int arity;
+	Body body;
+
+	/**
+	 * @param name the name the builtin is bound to
+	 * @param arity the number of arguments it takes, or VARIADIC
+	 * @param body its implementation
+	 */
+	public SmplBuiltin(String name, int arity, Body body){
+		super(null, null);
+		this.name = name;
+		this.arity = arity;
+		this.body = body;
+	}
+
+	public String getName(){
+		return name;
+	}
+
+	/**
+	 * Apply this builtin to the given arguments.
+	 *
+	 * @exception SmplException if it is given the wrong number of
+	 * arguments, or it fails
+	 */
+	public SmplValue call(SmplEvaluator ev, SmplValue[] args) throws SmplException {
+		if(arity != VARIADIC && args.length != arity)
+			throw new SmplException(name + " expects " + arity + " argument(s), got " + args.length);
+		return body.apply(ev, args);
+	}
+
+	@Override
+	public CompiledBody getCompiled(){
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "[Builtin: " + name + "]";
+	}
+}
@@ -0,0 +1,35 @@
+package smpl.values;
+
+/**
+ * The empty list.  There is only one, <code>EMPTY</code>, which ends
+ * every list.  It has no first element and no rest: car and cdr of it
+ * are errors, which the evaluators report before asking it.
+ */
+public class SmplEmptyList extends SmplList {
+
+	public static final SmplEmptyList EMPTY = new SmplEmptyList();
+
+	private SmplEmptyList(){
+		super(null, 0, null);
+	}
+
+	@Override
+	public SmplValue getFirstValue(){
+		return null;
+	}
+
+	@Override
+	public SmplList getNextValue(){
+		return null;
+	}
+
+	@Override
+	public SmplTypes getType(){
+		return SmplTypes.EMPTYLIST;
+	}
+
+	@Override
+	public String toString() {
+		return "#e";
+	}
+}
@@ -0,0 +1,102 @@
+package smpl.values;
+
+import java.util.concurrent.RecursiveTask;
+import smpl.semantics.Environment;
+import smpl.semantics.SmplEvaluator;
+import smpl.sys.SmplException;
+import smpl.syntax.Exp;
+
+/**
+ * The value of <code>future(e)</code>: e, being evaluated in parallel
+ * with the code that made the future, in the environment it appeared in.
+ * <code>touch</code> waits for its value (see
+ * <code>smpl.semantics.Parallel</code>, which schedules the evaluation).
+ *
+ * If evaluating e fails, the error is kept and raised again by every
+ * touch, in the thread that touched the future.
+ */
+public class SmplFuture extends SmplValue {
+
+	final Task task;
+
+	public SmplFuture(Exp exp, Environment env, SmplEvaluator evaluator) {
+		super(SmplTypes.FUTURE);
+		this.task = new Task(exp, env, evaluator);
+	}
+
+	@Override
+	public SmplTypes getType() {
+		return SmplTypes.FUTURE;
+	}
+
+	/**
+	 * @return The fork/join task evaluating this future
+	 */
+	public RecursiveTask<SmplValue> getTask() {
+		return task;
+	}
+
+	/**
+	 * @return v itself, or its value, once known, if it is a future
+	 */
+	public static SmplValue touch(SmplValue v) throws SmplException {
+		return v instanceof SmplFuture ? ((SmplFuture) v).touch() : v;
+	}
+
+	/**
+	 * Wait until the value of this future is known.  Touched from a pool
+	 * thread, the task is run there if no other thread has taken it yet.
+	 *
+	 * @return The value of this future's expression
+	 */
+	public SmplValue touch() throws SmplException {
+		SmplValue v = task.join();
+		Throwable e = task.error;
+		if (e instanceof SmplException)
+			throw (SmplException) e;
+		if (e instanceof RuntimeException)
+			throw (RuntimeException) e;
+		if (e instanceof Error)
+			throw (Error) e;
+		return v;
+	}
+
+	@Override
+	public String toString() {
+		if (task.isDone() && task.error == null)
+			return String.valueOf(task.getRawResult());
+		return "#future";
+	}
+
+	/**
+	 * Evaluates the future's expression.  Errors are kept rather than
+	 * thrown, since the pool would rethrow them wrapped or copied.
+	 */
+	static final class Task extends RecursiveTask<SmplValue> {
+		// what to evaluate; dropped once evaluated
+		Exp exp;
+		Environment env;
+		SmplEvaluator evaluator;
+		Throwable error;
+
+		Task(Exp exp, Environment env, SmplEvaluator evaluator) {
+			this.exp = exp;
+			this.env = env;
+			this.evaluator = evaluator;
+		}
+
+		@Override
+		protected SmplValue compute() {
+			try {
+				return evaluator.eval(exp, env);
+			} catch (SmplException | RuntimeException | Error e) {
+				error = e;
+				return null;
+			} finally {
+				exp = null;
+				env = null;
+				evaluator = null;
+			}
+		}
+	}
+}
@@ -4,7 +4,26 @@ import smpl.sys.SmplException;
 import smpl.sys.SmplTypeException;
 
 public class SmplInt extends SmplValue {
+    // the integers in [CACHE_LOW, CACHE_HIGH] are preallocated
+    static final int CACHE_LOW = -128;
+    static final int CACHE_HIGH = 1023;
+    static final SmplInt[] CACHE = new SmplInt[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new SmplInt(CACHE_LOW + i);
+    }
+
     int value;
+
+    /**
+     * @return An SmplInt for the given integer, shared if it is small
+     */
+    public static SmplInt valueOf(int val) {
+        if (val >= CACHE_LOW && val <= CACHE_HIGH)
+            return CACHE[val - CACHE_LOW];
+        return new SmplInt(val);
+    }
     
     public SmplInt(int val) {
         super(SmplTypes.INTEGER);
@@ -25,13 +44,18 @@ public class SmplInt extends SmplValue {
     public double realValue() {
         return value;
     }
+
+    @Override
+    public String toString() {
+        return Integer.toString(value);
+    }
     
     @Override
     public SmplValue add(SmplValue val) throws SmplException {
         if (! val.isNumber()) {
             throw new SmplTypeException(SmplTypes.REAL, val.getType());
         } else if (val.isInt()) {
-            return new SmplInt(intValue() + val.intValue());
+            return valueOf(intValue() + val.intValue());
         } else {
             return new SmplReal(realValue() + val.realValue());
         }
@@ -42,7 +66,7 @@ public class SmplInt extends SmplValue {
         if (! val.isNumber()) {
             throw new SmplTypeException(SmplTypes.REAL, val.getType());
         } else if (val.isInt()) {
-            return new SmplInt(intValue() - val.intValue());
+            return valueOf(intValue() - val.intValue());
         } else {
             return new SmplReal(realValue() - val.realValue());
         }
@@ -52,7 +76,7 @@ public class SmplInt extends SmplValue {
         if (! val.isNumber()) {
             throw new SmplTypeException(SmplTypes.REAL, val.getType());
         } else if (val.isInt()) {
-            return new SmplInt(intValue() * val.intValue());
+            return valueOf(intValue() * val.intValue());
         } else {
             return new SmplReal(realValue() * val.realValue());
         }
@@ -62,7 +86,7 @@ public class SmplInt extends SmplValue {
         if (! val.isNumber()) {
             throw new SmplTypeException(SmplTypes.REAL, val.getType());
         } else if (val.isInt()) {
-            return new SmplInt(intValue() / val.intValue());
+            return valueOf(intValue() / val.intValue());
         } else {
             return new SmplReal(realValue() / val.realValue());
         }
@@ -73,9 +97,75 @@ public class SmplInt extends SmplValue {
         if (! val.isNumber()) {
             throw new SmplTypeException(SmplTypes.REAL, val.getType());
         } else if (val.isInt()) {
-            return new SmplInt(intValue() % val.intValue());
+            return valueOf(intValue() % val.intValue());
         } else {
             return new SmplReal(realValue() % val.realValue());
         }
     }
+
+    @Override
+    public SmplValue eq(SmplValue val) throws SmplException {
+        if (! val.isNumber()) {
+            return make(false);
+        } else if (val.isInt()) {
+            return make(intValue() == val.intValue());
+        } else {
+            return make(realValue() == val.realValue());
+        }
+    }
+
+    @Override
+    public SmplValue neq(SmplValue val) throws SmplException {
+        if (! val.isNumber()) {
+            return make(true);
+        } else if (val.isInt()) {
+            return make(intValue() != val.intValue());
+        } else {
+            return make(realValue() != val.realValue());
+        }
+    }
+
+    @Override
+    public SmplValue lt(SmplValue val) throws SmplException {
+        if (! val.isNumber()) {
+            throw new SmplTypeException(SmplTypes.REAL, val.getType());
+        } else if (val.isInt()) {
+            return make(intValue() < val.intValue());
+        } else {
+            return make(realValue() < val.realValue());
+        }
+    }
+
+    @Override
+    public SmplValue le(SmplValue val) throws SmplException {
+        if (! val.isNumber()) {
+            throw new SmplTypeException(SmplTypes.REAL, val.getType());
+        } else if (val.isInt()) {
+            return make(intValue() <= val.intValue());
+        } else {
+            return make(realValue() <= val.realValue());
+        }
+    }
+
+    @Override
+    public SmplValue gt(SmplValue val) throws SmplException {
+        if (! val.isNumber()) {
+            throw new SmplTypeException(SmplTypes.REAL, val.getType());
+        } else if (val.isInt()) {
+            return make(intValue() > val.intValue());
+        } else {
+            return make(realValue() > val.realValue());
+        }
+    }
+
+    @Override
+    public SmplValue ge(SmplValue val) throws SmplException {
+        if (! val.isNumber()) {
+            throw new SmplTypeException(SmplTypes.REAL, val.getType());
+        } else if (val.isInt()) {
+            return make(intValue() >= val.intValue());
+        } else {
+            return make(realValue() >= val.realValue());
+        }
+    }
 }
@@ -1,32 +1,116 @@
 package smpl.values;
 
+import java.util.ArrayList;
 import smpl.sys.SmplException;
+import smpl.sys.SmplTypeException;
 import static smpl.values.SmplValue.make;
 
+/**
+ * A proper list.  Rather than one cons cell per element, a list is an
+ * unrolled chain of chunks: this list's elements are those of
+ * <code>chunk</code> from <code>start</code> on, followed by the
+ * elements of <code>next</code>.  A list built all at once (by
+ * <code>SmplValue.makeList</code>) is a single chunk; consing onto a
+ * list adds a chunk of one element in front of it.
+ *
+ * It still behaves as a chain of pairs: its first value is its car and
+ * its second value, the list without its first element, is its cdr.  A
+ * cdr within a chunk is a new view of the same array, so taking it costs
+ * one small object and no copying.  Every list knows its length.
+ */
 public class SmplList extends SmplPair {
 
+	SmplValue[] chunk;
+	int start;
+	SmplList next;
+	int length;
+
+	/**
+	 * Make the list whose first element is val and whose remaining
+	 * elements are those of next.
+	 */
 	public SmplList(SmplValue val, SmplList next){
-		super(val, next);
+		this(new SmplValue[] { val }, 0, next);
+	}
+
+	/**
+	 * Make the list of the elements of chunk from start on, followed by
+	 * those of next.  The array is shared, not copied, so it must not
+	 * change afterwards.
+	 */
+	public SmplList(SmplValue[] chunk, int start, SmplList next){
+		super(null, null);
+		this.chunk = chunk;
+		this.start = start;
+		this.next = next;
+		this.length = next == null ? 0 : chunk.length - start + next.length;
 	}
 
 	public SmplTypes getType(){
 		return SmplTypes.LIST;
 	}
 
+	@Override
 	public SmplList listValue(){
 		return this;
 	}
 
+	/**
+	 * @return The number of elements in this list
+	 */
+	public int size(){
+		return length;
+	}
+
+	@Override
+	public SmplValue getFirstValue(){
+		return chunk[start];
+	}
+
+	@Override
+	public SmplValue getSecondValue(){
+		return getNextValue();
+	}
+
 	public SmplValue getCurrentValue(){
-		return getFirstValue();
+		return chunk[start];
 	}
 
 	public SmplList getNextValue(){
-		return (SmplList) getSecondValue();
+		if (start + 1 < chunk.length)
+			return new SmplList(chunk, start + 1, next);
+		return next;
+	}
+
+	/**
+	 * Append a list to this one.  The elements of this list are copied
+	 * into a single chunk; those of the other are shared.
+	 */
+	@Override
+	public SmplValue concat(SmplValue arg) throws SmplException {
+		if (arg.getType() != SmplTypes.LIST && arg.getType() != SmplTypes.EMPTYLIST)
+			throw new SmplTypeException(SmplTypes.LIST, arg.getType());
+		if (length == 0)
+			return arg;
+		return new SmplList(toArray(), 0, (SmplList) arg);
+	}
+
+	/**
+	 * @return The elements of this list, in a new array
+	 */
+	public SmplValue[] toArray(){
+		SmplValue[] result = new SmplValue[length];
+		int n = 0;
+		for (SmplList l = this; l.length > 0; l = l.next) {
+			int k = l.chunk.length - l.start;
+			System.arraycopy(l.chunk, l.start, result, n, k);
+			n += k;
+		}
+		return result;
 	}
 
 	@Override
 	public String toString() {
-		return val1.toString() + " -> " + val2.toString();
+		return Printer.toString(this);
 	}
-}
\ No newline at end of file
+}
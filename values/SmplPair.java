@@ -9,18 +9,20 @@ public class SmplPair extends SmplValue {
 
 	public SmplPair(SmplValue val1, SmplValue val2){
 		super(SmplTypes.PAIR);
+		this.val1 = val1;
+		this.val2 = val2;
 	}
 
 	public SmplValue getFirstValue(){
 		return val1;
 	}
 
-	public SmplValue getSecondValue(){
+	public SmplValue getSecondValue() throws SmplException {
 		return val2;
 	}
 
 	@Override
 	public String toString() {
-		return "(" + val1.toString() + " . " + val2.toString() + ")";
+		return Printer.toString(this);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package smpl.values;
+
+import java.util.Arrays;
+import smpl.sys.SmplException;
+
+/**
+ * An immutable vector.  Indexing and <code>size</code> work on it as on
+ * any vector, but assigning to an element is an error; instead the
+ * builtins <code>set</code>, <code>push</code> and <code>slice</code>
+ * return new vectors that share most of their structure with the old
+ * one, so each costs O(log n) rather than a copy.
+ *
+ * The elements are kept in a trie of 32-way nodes, with the last (up to)
+ * 32 elements in a separate tail array so that pushing is usually just a
+ * copy of the tail.  A slice is a view of a range of a trie; pushing onto
+ * a slice that ends before its trie does overwrites the element after
+ * the slice in a new trie, which is safe because the old one is
+ * unchanged.  A slice keeps its whole trie reachable.
+ */
+public class SmplPersistentVector extends SmplVector {
+
+	static final int BITS = 5;
+	static final int WIDTH = 1 << BITS;
+	static final int MASK = WIDTH - 1;
+
+	static final Object[] EMPTY_NODE = new Object[WIDTH];
+
+	public static final SmplPersistentVector EMPTY =
+		new SmplPersistentVector(0, BITS, EMPTY_NODE, new Object[0], 0, 0);
+
+	// the trie
+	final int count;       // number of elements in the trie
+	final int shift;       // BITS times the depth of the root
+	final Object[] root;   // inner nodes hold Object[] children, leaves SmplValue elements
+	final Object[] tail;
+
+	// the view of it that is this vector
+	final int offset;
+	final int length;
+
+	SmplPersistentVector(int count, int shift, Object[] root, Object[] tail, int offset, int length) {
+		super(null);
+		this.count = count;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * @return A persistent vector with the same elements as the given one
+	 */
+	public static SmplPersistentVector copyOf(SmplVector v) throws SmplException {
+		if (v instanceof SmplPersistentVector)
+			return (SmplPersistentVector) v;
+		SmplPersistentVector result = EMPTY;
+		int n = v.size();
+		for (int i = 0; i < n; i++)
+			result = result.push(v.get(i));
+		return result;
+	}
+
+	@Override
+	public int size() {
+		return length;
+	}
+
+	@Override
+	public SmplValue get(int i) throws SmplException {
+		checkIndex(i);
+		return (SmplValue) leafFor(offset + i)[(offset + i) & MASK];
+	}
+
+	@Override
+	public void set(int i, SmplValue v) throws SmplException {
+		throw new SmplException("Cannot assign to an element of an immutable vector; use set");
+	}
+
+	@Override
+	public void append(SmplValue v) throws SmplException {
+		throw new SmplException("Cannot extend an immutable vector; use push");
+	}
+
+	@Override
+	public void free() {
+	}
+
+	/**
+	 * @return A copy of this vector with element i replaced by v
+	 */
+	public SmplPersistentVector with(int i, SmplValue v) throws SmplException {
+		checkIndex(i);
+		return assoc(offset + i, v);
+	}
+
+	/**
+	 * @return A copy of this vector with v added at the end
+	 */
+	public SmplPersistentVector push(SmplValue v) {
+		int end = offset + length;
+		if (end < count)
+			// a slice: overwrite the element after it
+			return new SmplPersistentVector(count, shift, root, tail, offset, length + 1).assoc(end, v);
+
+		int tailOff = tailOffset();
+		if (count - tailOff < WIDTH) {
+			Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+			newTail[tail.length] = v;
+			return new SmplPersistentVector(count + 1, shift, root, newTail, offset, length + 1);
+		}
+
+		// the tail is full: push it into the trie, growing the root if need be
+		Object[] newRoot;
+		int newShift = shift;
+		if ((count >>> BITS) > (1 << shift)) {
+			newRoot = new Object[WIDTH];
+			newRoot[0] = root;
+			newRoot[1] = newPath(shift, tail);
+			newShift += BITS;
+		} else {
+			newRoot = pushTail(shift, root, tail);
+		}
+		return new SmplPersistentVector(count + 1, newShift, newRoot, new Object[] { v }, offset, length + 1);
+	}
+
+	/**
+	 * @return The elements of this vector from index lo up to, but not
+	 * including, index hi
+	 */
+	public SmplPersistentVector slice(int lo, int hi) throws SmplException {
+		if (lo < 0 || hi > length || lo > hi)
+			throw new SmplException("Slice [" + lo + ", " + hi + ") outside of bounds of vector[" + length + "]");
+		return new SmplPersistentVector(count, shift, root, tail, offset + lo, hi - lo);
+	}
+
+	// the trie
+
+	protected int tailOffset() {
+		return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+	}
+
+	protected Object[] leafFor(int i) {
+		if (i >= tailOffset())
+			return tail;
+		Object[] node = root;
+		for (int level = shift; level > 0; level -= BITS)
+			node = (Object[]) node[(i >>> level) & MASK];
+		return node;
+	}
+
+	/**
+	 * @return A copy of this vector with element i (an index into the
+	 * trie) replaced by v
+	 */
+	protected SmplPersistentVector assoc(int i, SmplValue v) {
+		if (i >= tailOffset()) {
+			Object[] newTail = tail.clone();
+			newTail[i & MASK] = v;
+			return new SmplPersistentVector(count, shift, root, newTail, offset, length);
+		}
+		return new SmplPersistentVector(count, shift, assoc(shift, root, i, v), tail, offset, length);
+	}
+
+	protected static Object[] assoc(int level, Object[] node, int i, SmplValue v) {
+		Object[] copy = node.clone();
+		if (level == 0)
+			copy[i & MASK] = v;
+		else {
+			int sub = (i >>> level) & MASK;
+			copy[sub] = assoc(level - BITS, (Object[]) node[sub], i, v);
+		}
+		return copy;
+	}
+
+	protected Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+		int sub = ((count - 1) >>> level) & MASK;
+		Object[] copy = parent.clone();
+		Object[] insert;
+		if (level == BITS)
+			insert = tailNode;
+		else {
+			Object[] child = (Object[]) parent[sub];
+			insert = child != null ? pushTail(level - BITS, child, tailNode)
+					       : newPath(level - BITS, tailNode);
+		}
+		copy[sub] = insert;
+		return copy;
+	}
+
+	protected static Object[] newPath(int level, Object[] node) {
+		if (level == 0)
+			return node;
+		Object[] path = new Object[WIDTH];
+		path[0] = newPath(level - BITS, node);
+		return path;
+	}
+
+	@Override
+	SmplValue elementAt(int i) {
+		int j = offset + i;
+		return (SmplValue) leafFor(j)[j & MASK];
+	}
+}
@@ -1,6 +1,7 @@
 package smpl.values;
 
 import smpl.sys.SmplException;
+import smpl.jit.CompiledBody;
 import smpl.semantics.Environment;
 import smpl.syntax.ExpProc;
 import static smpl.values.SmplValue.make;
@@ -12,6 +13,7 @@ public class SmplProcedure extends SmplValue {
 	Environment closingEnv;
 
 	public SmplProcedure(ExpProc procExp, Environment closingEnv){
+		super(SmplTypes.PROCEDURE);
 		this.procExp = procExp;
 		this.closingEnv = closingEnv;
 	}
@@ -33,30 +35,17 @@ public class SmplProcedure extends SmplValue {
 		return closingEnv;
 	}
 
+	/**
+	 * Return the compiled form of this procedure's body, or null while
+	 * it is still interpreted.  It is shared by all closures of the same
+	 * procedure expression.
+	 */
+	public CompiledBody getCompiled(){
+		return procExp.getCompiled();
+	}
+
 	@Override
-	public String toString() {
-		String params;
-		ArrayList<String> paramList = procExp.getParameters();
-		String listvar = procExp.getListVar();
-		int n = paramList.size();
-		switch (n) {
-			case 0: params = ""; break;
-			case 1: params = paramList.get(0); break;
-			default:
-				params = paramList.get(0);
-				for(int i=1; i<n; i++)
-					params += ", " + paramList.get(i);
-		}
-		if(listvar != null)
-			params += " . " + listvar;
-
-		String body;
-
-		if(procExp.getBody() != null)
-			body = procExp.getBody().toString();
-		else
-			body = procExp.getExpressions().toString();
-
-		return "[Procedure: (" + params + ") -> " + body + "]";
+	public String toString(){
+		return Printer.toString(this);
 	}
 }
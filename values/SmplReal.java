@@ -25,6 +25,11 @@ public class SmplReal extends SmplValue {
     public int intValue() {
         return (int) value;
     }
+
+    @Override
+    public String toString() {
+        return Double.toString(value);
+    }
     
     @Override
     public SmplValue add(SmplValue val) throws SmplException {
@@ -70,4 +75,58 @@ public class SmplReal extends SmplValue {
             throw new SmplTypeException(SmplTypes.REAL, val.getType());
         }
     }
+
+    @Override
+    public SmplValue eq(SmplValue val) throws SmplException {
+        if (val.isNumber()) {
+            return make(realValue() == val.realValue());
+        } else {
+            return make(false);
+        }
+    }
+
+    @Override
+    public SmplValue neq(SmplValue val) throws SmplException {
+        if (val.isNumber()) {
+            return make(realValue() != val.realValue());
+        } else {
+            return make(true);
+        }
+    }
+
+    @Override
+    public SmplValue lt(SmplValue val) throws SmplException {
+        if (val.isNumber()) {
+            return make(realValue() < val.realValue());
+        } else {
+            throw new SmplTypeException(SmplTypes.REAL, val.getType());
+        }
+    }
+
+    @Override
+    public SmplValue le(SmplValue val) throws SmplException {
+        if (val.isNumber()) {
+            return make(realValue() <= val.realValue());
+        } else {
+            throw new SmplTypeException(SmplTypes.REAL, val.getType());
+        }
+    }
+
+    @Override
+    public SmplValue gt(SmplValue val) throws SmplException {
+        if (val.isNumber()) {
+            return make(realValue() > val.realValue());
+        } else {
+            throw new SmplTypeException(SmplTypes.REAL, val.getType());
+        }
+    }
+
+    @Override
+    public SmplValue ge(SmplValue val) throws SmplException {
+        if (val.isNumber()) {
+            return make(realValue() >= val.realValue());
+        } else {
+            throw new SmplTypeException(SmplTypes.REAL, val.getType());
+        }
+    }
 }
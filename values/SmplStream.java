@@ -0,0 +1,98 @@
+package smpl.values;
+
+import java.util.concurrent.locks.ReentrantLock;
+import smpl.sys.SmplException;
+
+/**
+ * A stream: a list whose elements are produced one at a time, only when
+ * they are needed.  A stream is a chain of pairs, like a list, ending in
+ * the empty list, so <code>car</code>, <code>cdr</code> and
+ * <code>pair?</code> work on it as on any pair.  But the cdr of each
+ * pair is only made, by asking the stream's <code>Source</code> for the
+ * next element, the first time it is taken.
+ *
+ * Only the pair holding the last element produced so far keeps a
+ * reference to the source, so pairs that a program has moved past can
+ * be collected: a program that walks down a stream of the lines of a
+ * file holds only the line it is at, however large the file.
+ *
+ * Forcing a tail is guarded by a ReentrantLock, shared by all the pairs
+ * of one stream, rather than by synchronized: forcing the tail of a
+ * generator's stream blocks until its producer yields, and a virtual
+ * thread blocked inside a monitor stays pinned to its carrier, so a
+ * generator consuming another generator would pin its carrier.
+ */
+public class SmplStream extends SmplPair {
+
+	/**
+	 * Produces the elements of a stream, in order.
+	 */
+	public interface Source {
+		/**
+		 * @return The next element, or null if there are no more
+		 */
+		SmplValue next() throws SmplException;
+	}
+
+	final SmplValue head;
+	volatile SmplValue tail;        // null until forced
+	Source source;                  // until then, where the rest comes from
+	final ReentrantLock lock;       // held while forcing the tail
+
+	protected SmplStream(SmplValue head, Source source, ReentrantLock lock) {
+		super(null, null);
+		this.head = head;
+		this.source = source;
+		this.lock = lock;
+	}
+
+	/**
+	 * @return The stream of the elements produced by source, or the empty
+	 * list if it produces none.  The first element is produced now.
+	 */
+	public static SmplValue of(Source source) throws SmplException {
+		return of(source, new ReentrantLock());
+	}
+
+	private static SmplValue of(Source source, ReentrantLock lock) throws SmplException {
+		SmplValue first = source.next();
+		if (first == null)
+			return SmplEmptyList.EMPTY;
+		return new SmplStream(first, source, lock);
+	}
+
+	@Override
+	public SmplValue getFirstValue() {
+		return head;
+	}
+
+	@Override
+	public SmplValue getSecondValue() throws SmplException {
+		SmplValue t = tail;
+		if (t != null)
+			return t;
+		lock.lock();
+		try {
+			if (tail == null) {
+				tail = of(source, lock);
+				source = null;
+			}
+			return tail;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return The rest of the stream if it has been produced already,
+	 * otherwise null
+	 */
+	public SmplValue forcedTail() {
+		return tail;
+	}
+
+	@Override
+	public String toString() {
+		return Printer.toString(this);
+	}
+}
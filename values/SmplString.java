@@ -4,21 +4,164 @@ import smpl.sys.SmplException;
 import smpl.sys.SmplTypeException;
 import smpl.values.*;
 
+/**
+ * A string, represented as a rope so that neither taking a substring nor
+ * concatenating copies characters.
+ *
+ * A string is either a leaf, the characters of a Java string from
+ * <code>offset</code> for <code>length</code> characters, or the
+ * concatenation of two strings <code>left</code> and
+ * <code>right</code>.  A substring of a leaf is another view of the same
+ * Java string; a substring of a concatenation is built from substrings
+ * of its halves.  Concatenations of short strings are copied into a leaf
+ * instead.  Longer ones are joined as AVL trees are: the depths of the
+ * two halves of every concatenation differ by at most one, so strings
+ * built by repeated appending stay O(log n) deep.
+ *
+ * The characters are gathered into one Java string only when needed (to
+ * print or compare the string, say); the string then becomes a leaf of
+ * that Java string, so this happens at most once.
+ */
 public class SmplString extends SmplValue {
 
+	static final int SHORT = 64;       // concatenations shorter than this are copied
+
+	// a leaf, or a concatenation that has been flattened
 	String val;
+	int offset;
+	// a concatenation
+	SmplString left, right;
+	int depth;
+
+	int length;
 
 	public SmplString(String v){
+		this(v, 0, v.length());
+	}
+
+	SmplString(String v, int offset, int length){
 		super(SmplTypes.STRING);
 		val = v;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	SmplString(SmplString left, SmplString right){
+		super(SmplTypes.STRING);
+		this.left = left;
+		this.right = right;
+		this.length = left.length + right.length;
+		this.depth = Math.max(left.depth, right.depth) + 1;
 	}
 
 	public SmplTypes getType(){
 		return SmplTypes.STRING;
 	}
 
+	/**
+	 * @return The number of characters in this string
+	 */
+	public int length(){
+		return length;
+	}
+
+	@Override
+	public SmplValue concat(SmplValue arg) throws SmplException {
+		if (arg.getType() != SmplTypes.STRING)
+			throw new SmplTypeException(SmplTypes.STRING, arg.getType());
+		return concat((SmplString) arg);
+	}
+
+	/**
+	 * @return This string followed by s
+	 */
+	public SmplString concat(SmplString s){
+		if (s.length == 0)
+			return this;
+		if (length == 0)
+			return s;
+		if (length + s.length < SHORT)
+			return new SmplString(stringValue() + s.stringValue());
+		return join(this, s);
+	}
+
+	/**
+	 * @return The characters of this string from index lo up to, but not
+	 * including, index hi, which must be in bounds
+	 */
+	public SmplString substring(int lo, int hi){
+		if (lo == 0 && hi == length)
+			return this;
+		String flat = val;
+		if (flat != null)
+			return new SmplString(flat, offset + lo, hi - lo);
+		int split = left.length;
+		if (hi <= split)
+			return left.substring(lo, hi);
+		if (lo >= split)
+			return right.substring(lo - split, hi - split);
+		return join(left.substring(lo, split), right.substring(0, hi - split));
+	}
+
+	/**
+	 * @return The balanced concatenation of a and b
+	 */
+	protected static SmplString join(SmplString a, SmplString b){
+		if (a.depth > b.depth + 1)
+			return balance(a.left, join(a.right, b));
+		if (b.depth > a.depth + 1)
+			return balance(join(a, b.left), b.right);
+		return new SmplString(a, b);
+	}
+
+	/**
+	 * @return The concatenation of l and r, whose depths differ by at
+	 * most two, rotated so that its halves differ by at most one
+	 */
+	protected static SmplString balance(SmplString l, SmplString r){
+		if (l.depth > r.depth + 1) {
+			if (l.left.depth >= l.right.depth)
+				return new SmplString(l.left, new SmplString(l.right, r));
+			return new SmplString(new SmplString(l.left, l.right.left),
+					      new SmplString(l.right.right, r));
+		}
+		if (r.depth > l.depth + 1) {
+			if (r.right.depth >= r.left.depth)
+				return new SmplString(new SmplString(l, r.left), r.right);
+			return new SmplString(new SmplString(l, r.left.left),
+					      new SmplString(r.left.right, r.right));
+		}
+		return new SmplString(l, r);
+	}
+
+	@Override
+	public String stringValue(){
+		String flat = val;
+		if (flat == null) {
+			char[] chars = new char[length];
+			fill(chars, 0);
+			flat = new String(chars);
+			// from now on this is a leaf; its halves are kept for any
+			// thread still walking them
+			val = flat;
+		} else if (offset != 0 || length != flat.length()) {
+			flat = flat.substring(offset, offset + length);
+		}
+		return flat;
+	}
+
+	protected void fill(char[] chars, int at){
+		String flat = val;
+		if (flat != null)
+			flat.getChars(offset, offset + length, chars, at);
+		else {
+			left.fill(chars, at);
+			right.fill(chars, at + left.length);
+		}
+	}
+
 	@Override
 	public String toString() {
-		return val;
+		return stringValue();
 	}
 }
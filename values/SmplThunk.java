@@ -0,0 +1,100 @@
+package smpl.values;
+
+import smpl.semantics.Environment;
+import smpl.semantics.SmplEvaluator;
+import smpl.sys.SmplException;
+import smpl.syntax.Exp;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The value of <code>lazy(e)</code>: e, unevaluated, with the
+ * environment it appeared in.  It is evaluated the first time the value
+ * is demanded, which is when a variable bound to it is looked up (see
+ * <code>demand</code>), and the value is kept, so e is evaluated at most
+ * once.  Until then, the thunk can be passed around and bound to other
+ * variables like any value.
+ *
+ * Once forced, a thunk costs one volatile read to demand.  Forcing
+ * holds the thunk's lock, so a thunk demanded by several threads at once
+ * is still evaluated only once; the others wait for its value.  The lock
+ * is a <code>ReentrantLock</code> rather than a monitor, so that a
+ * virtual thread waiting for it, or evaluating e while holding it, does
+ * not pin its carrier thread.  If evaluating e fails, the thunk is left
+ * unforced and the next demand tries again.
+ *
+ * Any construct that needs the value itself (an operand, a condition, a
+ * vector index, the procedure of a call, ...) demands it; a thunk passed
+ * to a procedure, stored in a pair or returned stays unforced.
+ */
+public class SmplThunk extends SmplValue {
+
+	volatile SmplValue value;       // null until forced
+	// what to evaluate; dropped once the value is known
+	Exp exp;
+	Environment env;
+	SmplEvaluator evaluator;
+	boolean forcing;
+	final ReentrantLock lock = new ReentrantLock();   // held while forcing
+
+	public SmplThunk(Exp exp, Environment env, SmplEvaluator evaluator) {
+		super(SmplTypes.THUNK);
+		this.exp = exp;
+		this.env = env;
+		this.evaluator = evaluator;
+	}
+
+	@Override
+	public SmplTypes getType() {
+		return SmplTypes.THUNK;
+	}
+
+	/**
+	 * @return v itself, or its value if it is a thunk
+	 */
+	public static SmplValue demand(SmplValue v) throws SmplException {
+		return v instanceof SmplThunk ? ((SmplThunk) v).force() : v;
+	}
+
+	/**
+	 * @return The value of this thunk's expression, evaluating it if
+	 * this is the first time it is needed
+	 */
+	public SmplValue force() throws SmplException {
+		SmplValue v = value;
+		if (v != null)
+			return v;
+		lock.lock();
+		try {
+			if (value == null) {
+				if (forcing)
+					throw new SmplException("Lazy value depends on itself: " + exp);
+				forcing = true;
+				try {
+					value = demand(evaluator.eval(exp, env));
+				} finally {
+					forcing = false;
+				}
+				exp = null;
+				env = null;
+				evaluator = null;
+			}
+			return value;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return The value of this thunk if it has been forced, otherwise
+	 * null
+	 */
+	public SmplValue forcedValue() {
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		SmplValue v = value;
+		return v != null ? v.toString() : "#lazy";
+	}
+}
@@ -10,5 +10,7 @@ public enum SmplTypes {
     PAIR,
     PROCEDURE,
     EMPTYLIST,
-    LIST;
+    LIST,
+    THUNK,
+    FUTURE;
 }
@@ -12,8 +12,14 @@ public class SmplValue {
 //    private Object val;
     private SmplTypes type;
     
+    /**
+     * Small integers and the two booleans are shared rather than
+     * allocated afresh, so the factories below may return the same
+     * object for equal arguments.  Values are immutable, so nothing
+     * can tell the difference, except by <code>eqv?</code>.
+     */
     public static SmplValue make(int val) {
-        return new SmplInt(val);
+        return SmplInt.valueOf(val);
     }
     
     public static SmplValue make(double val) {
@@ -21,7 +27,7 @@ public class SmplValue {
     }
 
     public static SmplValue make(boolean val) {
-        return new SmplBoolean(val);
+        return val ? SmplBoolean.TRUE : SmplBoolean.FALSE;
     }
 
     public static SmplValue make(char val) {
@@ -36,6 +42,42 @@ public class SmplValue {
         return new SmplList(val,next);
     }
 
+    /**
+     * Make a list of the given values, in order.
+     */
+    public static SmplList makeList(ArrayList<SmplValue> vals) {
+        if (vals.isEmpty())
+            return SmplEmptyList.EMPTY;
+        return new SmplList(vals.toArray(new SmplValue[vals.size()]), 0, SmplEmptyList.EMPTY);
+    }
+
+    /**
+     * Make a list of the given values, in order.  The array becomes part
+     * of the list, so it must not change afterwards.
+     */
+    public static SmplList makeList(SmplValue[] vals) {
+        if (vals.length == 0)
+            return SmplEmptyList.EMPTY;
+        return new SmplList(vals, 0, SmplEmptyList.EMPTY);
+    }
+
+    /**
+     * @return The empty list
+     */
+    public static SmplList makeEmptyList() {
+        return SmplEmptyList.EMPTY;
+    }
+
+    /**
+     * Make a vector of the given values, in order.
+     */
+    public static SmplVector makeVector(ArrayList<SmplValue> vals) throws SmplException {
+        SmplVector result = new SmplVector();
+        for (SmplValue v : vals)
+            result.append(v);
+        return result;
+    }
+
     public static SmplValue makePair(SmplValue val1, SmplValue val2) {
         return new SmplPair(val1, val2);
     }
@@ -94,6 +136,24 @@ public class SmplValue {
         throw new SmplTypeException(SmplTypes.BOOLEAN, type);
     }
 
+    /**
+     *
+     * @return The list that this value represents
+     * @throws SmplException if this value is not a list
+     */
+    public SmplList listValue() throws SmplException {
+        throw new SmplTypeException(SmplTypes.LIST, type);
+    }
+
+    /**
+     *
+     * @return The string that this value represents
+     * @throws SmplException if this value does not represent a string
+     */
+    public String stringValue() throws SmplException {
+        throw new SmplTypeException(SmplTypes.STRING, type);
+    }
+
     /*public static ExpList makeList(SmplValue val1, SmplValue val2) {
         return new ExpList(val1, val2);
     }
@@ -221,5 +281,9 @@ public class SmplValue {
 	public SmplValue bitand(SmplValue arg) throws SmplException {
 		throw new SmplTypeException("Operator not applicable: &");
 	}
+
+	public SmplValue concat(SmplValue arg) throws SmplException {
+		throw new SmplTypeException("Operator not applicable: @");
+	}
     
 }
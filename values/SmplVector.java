@@ -0,0 +1,162 @@
+package smpl.values;
+
+import smpl.sys.SmplException;
+
+/**
+ * A vector: a fixed length sequence of values, indexed from 0.
+ *
+ * The elements are kept in a <code>VectorStorage</code> chosen by the
+ * first element stored: a vector of integers is an <code>int[]</code>,
+ * a vector of reals a <code>double[]</code>, and anything else a
+ * <code>SmplValue[]</code>.  Storing an element the current storage
+ * cannot hold (a real into a vector of integers, say) switches the
+ * vector to <code>SmplValue[]</code> storage for good.  An integer
+ * vector never becomes a real one, since its elements must still read
+ * back as integers.
+ *
+ * A vector of integers or reals that grows to
+ * <code>OffHeapVectorStorage.THRESHOLD</code> elements (set by the
+ * system property <code>smpl.vector.offheap</code>) is moved off the
+ * Java heap; one whose length is known beforehand (see
+ * <code>reserve</code>) starts there.  Its memory is released by <code>free</code>, or when the
+ * vector is garbage collected.
+ *
+ * A vector may also be kept in a file (see
+ * <code>MappedVectorStorage</code>), in which case its length and element
+ * type are fixed.
+ */
+public class SmplVector extends SmplValue {
+
+	VectorStorage storage;
+	int reserved;     // the length the vector is expected to reach
+
+	/**
+	 * Make an empty vector, to be filled with <code>append</code>.
+	 */
+	public SmplVector() {
+		this(null);
+	}
+
+	public SmplVector(VectorStorage storage) {
+		super(SmplTypes.VECTOR);
+		this.storage = storage;
+	}
+
+	public VectorStorage getStorage() {
+		return storage;
+	}
+
+	/**
+	 * @return The number of elements in this vector
+	 */
+	public int size() {
+		return storage == null ? 0 : storage.size();
+	}
+
+	/**
+	 * @return The element at index i
+	 * @throws SmplException if i is out of bounds
+	 */
+	public SmplValue get(int i) throws SmplException {
+		checkIndex(i);
+		return storage.get(i);
+	}
+
+	/**
+	 * @return The element at index i, which must be in bounds
+	 */
+	SmplValue elementAt(int i) {
+		return storage.get(i);
+	}
+
+	/**
+	 * Replace the element at index i with v.
+	 * @throws SmplException if i is out of bounds
+	 */
+	public void set(int i, SmplValue v) throws SmplException {
+		checkIndex(i);
+		if (!storage.set(i, v)) {
+			generalize(v);
+			storage.set(i, v);
+		}
+	}
+
+	/**
+	 * Append v to this vector; only used while it is being built.
+	 */
+	public void append(SmplValue v) throws SmplException {
+		if (storage == null)
+			storage = storageFor(v);
+		if (!storage.append(v)) {
+			generalize(v);
+			storage.append(v);
+		}
+		if (storage.size() == OffHeapVectorStorage.THRESHOLD)
+			storage = storage.moveOffHeap();
+	}
+
+	/**
+	 * Note that n more elements are about to be appended, as by a builder
+	 * <code>[: n : proc :]</code>, so the storage can be sized for them.
+	 * A numeric vector that will reach <code>THRESHOLD</code> elements
+	 * goes off the heap now, rather than being built on it and copied.
+	 */
+	public void reserve(int n) {
+		reserved = (int) Math.min(Integer.MAX_VALUE, (long) size() + Math.max(n, 0));
+		if (storage != null && offHeap(reserved))
+			storage = storage.moveOffHeap();
+	}
+
+	/**
+	 * Replace the storage of this vector with one that can hold v.
+	 * @throws SmplException if its storage cannot be replaced
+	 */
+	protected void generalize(SmplValue v) throws SmplException {
+		VectorStorage old = storage, general = old.generalize();
+		if (general == null)
+			throw new SmplException("Cannot store " + v + " in a vector whose element type is fixed");
+		storage = general;
+		if (general != old)
+			old.release();
+	}
+
+	/**
+	 * Release the memory this vector holds outside the Java heap, if any,
+	 * leaving it empty.
+	 */
+	public void free() {
+		if (storage != null)
+			storage.release();
+		storage = null;
+	}
+
+	/**
+	 * @return An empty storage suited to vectors whose first element is v
+	 */
+	protected VectorStorage storageFor(SmplValue v) {
+		int capacity = Math.max(reserved, 8);
+		if (v instanceof SmplInt)
+			return offHeap(capacity) ? new OffHeapVectorStorage(true, capacity) : new IntVectorStorage(capacity);
+		if (v instanceof SmplReal)
+			return offHeap(capacity) ? new OffHeapVectorStorage(false, capacity) : new RealVectorStorage(capacity);
+		return new ValueVectorStorage(new SmplValue[capacity], 0);
+	}
+
+	/**
+	 * @return <code>true</code> if a numeric vector of the given length
+	 * belongs off the heap
+	 */
+	static boolean offHeap(int length) {
+		return OffHeapVectorStorage.THRESHOLD > 0 && length >= OffHeapVectorStorage.THRESHOLD;
+	}
+
+	protected void checkIndex(int i) throws SmplException {
+		if (i < 0 || i >= size())
+			throw new SmplException("Reference to index [" + i + "] outside of bounds of vector[" + size() + "]");
+	}
+
+	@Override
+	public String toString() {
+		return Printer.toString(this);
+	}
+}
@@ -0,0 +1,46 @@
+package smpl.values;
+
+import java.util.Arrays;
+
+/**
+ * Vector storage for values of any type, in a <code>SmplValue[]</code>.
+ */
+class ValueVectorStorage extends VectorStorage {
+
+	SmplValue[] elements;
+	int size;
+
+	ValueVectorStorage(SmplValue[] elements, int size) {
+		this.elements = elements;
+		this.size = size;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public SmplValue get(int i) {
+		return elements[i];
+	}
+
+	@Override
+	public boolean set(int i, SmplValue v) {
+		elements[i] = v;
+		return true;
+	}
+
+	@Override
+	public boolean append(SmplValue v) {
+		if (size == elements.length)
+			elements = Arrays.copyOf(elements, grow(size));
+		elements[size++] = v;
+		return true;
+	}
+
+	@Override
+	public VectorStorage generalize() {
+		return this;
+	}
+}
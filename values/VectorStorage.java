@@ -0,0 +1,70 @@
+package smpl.values;
+
+/**
+ * The elements of a vector.  A storage strategy may hold only some kinds
+ * of value (ints, say, in an <code>int[]</code>); when asked to store
+ * another kind it refuses, and the vector replaces it with a storage
+ * general enough to hold every element (see <code>SmplVector</code>).
+ */
+public abstract class VectorStorage {
+
+	/**
+	 * @return The number of elements stored
+	 */
+	public abstract int size();
+
+	/**
+	 * @return The element at index i, which must be in bounds
+	 */
+	public abstract SmplValue get(int i);
+
+	/**
+	 * Store v at index i, which must be in bounds.
+	 *
+	 * @return <code>false</code>, leaving this storage unchanged, if it
+	 * cannot hold v
+	 */
+	public abstract boolean set(int i, SmplValue v);
+
+	/**
+	 * Append v to the elements stored.
+	 *
+	 * @return <code>false</code>, leaving this storage unchanged, if it
+	 * cannot hold v
+	 */
+	public abstract boolean append(SmplValue v);
+
+	/**
+	 * @return A storage for the same elements that keeps them off the
+	 * Java heap, or this storage if it cannot
+	 */
+	public VectorStorage moveOffHeap() {
+		return OffHeapVectorStorage.copyOf(this);
+	}
+
+	/**
+	 * Give back any memory this storage holds outside the Java heap.  It
+	 * must not be used afterwards.
+	 */
+	public void release() {
+	}
+
+	/**
+	 * @return A storage that can hold any value, with the same elements
+	 * as this one, or null if this storage cannot be replaced
+	 */
+	public VectorStorage generalize() {
+		int n = size();
+		SmplValue[] vals = new SmplValue[Math.max(n, 8)];
+		for (int i = 0; i < n; i++)
+			vals[i] = get(i);
+		return new ValueVectorStorage(vals, n);
+	}
+
+	/**
+	 * @return The capacity to grow an array of the given length to
+	 */
+	static int grow(int length) {
+		return Math.max(8, length + (length >> 1));
+	}
+}
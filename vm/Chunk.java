@@ -0,0 +1,46 @@
+package smpl.vm;
+
+import smpl.syntax.ExpProc;
+import smpl.values.SmplValue;
+
+/**
+ * A <code>Chunk</code> is the compiled form of a program or of the body
+ * of one procedure: its instructions, its pools and the number of
+ * registers an activation of it needs.
+ */
+public class Chunk {
+
+    String name;            // for error messages
+    ExpProc proc;           // procedure compiled, or null for a program
+    int[] code;             // instructions (see Op)
+    SmplValue[] values;     // literal pool, from ExpLit nodes
+    Object[] constants;     // names, nested procedures and AST nodes
+    int numRegs;            // registers per activation
+    int frameSize;          // slots of the frame the chunk runs in
+
+    Chunk(String name, int[] code, SmplValue[] values, Object[] constants, int numRegs, int frameSize) {
+	this.name = name;
+	this.code = code;
+	this.values = values;
+	this.constants = constants;
+	this.numRegs = numRegs;
+	this.frameSize = frameSize;
+    }
+
+    public String getName() {
+	return name;
+    }
+
+    public ExpProc getProc() {
+	return proc;
+    }
+
+    public int getFrameSize() {
+	return frameSize;
+    }
+
+    @Override
+    public String toString() {
+	return "[Chunk " + name + ": " + code.length + " words, " + numRegs + " registers]";
+    }
+}
@@ -0,0 +1,612 @@
+package smpl.vm;
+
+import smpl.semantics.*;
+import smpl.syntax.*;
+import smpl.sys.SmplException;
+import smpl.values.*;
+import java.util.*;
+
+/**
+ * The <code>Compiler</code> translates a resolved program into register
+ * machine code (see <code>Op</code>).  Each visit method compiles its
+ * node so that the node's value ends up in the register it is given.
+ * Temporaries are allocated from a stack of registers above the ones
+ * in use.  Variables stay in <code>Environment</code> frames, addressed
+ * by the slots the <code>Resolver</code> assigned, so that closures and
+ * fallbacks to the tree walking evaluator share bindings with compiled
+ * code.  Constructs without instructions of their own (vectors, lists,
+ * strings, lazy, input) are compiled to an EVAL of their AST.
+ */
+public class Compiler implements Visitor<Integer, Void> {
+
+	String name;
+	ExpProc proc;
+	int[] code = new int[64];
+	int size;
+	ArrayList<SmplValue> values = new ArrayList<>();
+	ArrayList<Object> constants = new ArrayList<>();
+	int nextReg, maxReg;
+
+	protected Compiler(String name, ExpProc proc) {
+		this.name = name;
+		this.proc = proc;
+	}
+
+	/**
+	 * Compile the given program, resolving it first if need be.
+	 *
+	 * @param p the program
+	 * @return its compiled form, to be run in a global environment
+	 * @exception SmplException if the program is malformed
+	 */
+	public static Chunk compile(SmplProgram p) throws SmplException {
+		Resolver.resolve(p);
+		Compiler c = new Compiler("program", null);
+		int r = c.alloc();
+		p.getSeq().visit(c, r);
+		c.emit(Op.RET, r);
+		return c.finish(p.getFrameSize());
+	}
+
+	/**
+	 * Compile the body of a (resolved) procedure.
+	 */
+	protected static Chunk compile(ExpProc proc) throws SmplException {
+		Compiler c = new Compiler(proc.toString(), proc);
+		int r = c.alloc();
+		if (proc.getBody() != null) {
+			c.compileBody(proc.getBody(), r);
+		} else {
+			ArrayList<Exp> exps = proc.getExpressions();
+			for (int i = 0; i < exps.size(); i++) {
+				if (i == exps.size() - 1)
+					c.compileBody(exps.get(i), r);
+				else
+					exps.get(i).visit(c, r);
+			}
+		}
+		c.emit(Op.RET, r);
+		return c.finish(proc.getFrameSize());
+	}
+
+	protected Chunk finish(int frameSize) {
+		Chunk chunk = new Chunk(name, Arrays.copyOf(code, size),
+					values.toArray(new SmplValue[0]),
+					constants.toArray(), maxReg, frameSize);
+		chunk.proc = proc;
+		return chunk;
+	}
+
+	// code generation helpers
+
+	protected void emit(int... words) {
+		if (size + words.length > code.length)
+			code = Arrays.copyOf(code, Math.max(code.length * 2, size + words.length));
+		for (int w : words)
+			code[size++] = w;
+	}
+
+	/** Emit a jump instruction with an unknown target; return where to patch. */
+	protected int emitJump(int... words) {
+		emit(words);
+		return size - 1;
+	}
+
+	protected void patch(int at) {
+		code[at] = size;
+	}
+
+	protected int alloc() {
+		int r = nextReg++;
+		if (nextReg > maxReg)
+			maxReg = nextReg;
+		return r;
+	}
+
+	protected void free(int n) {
+		nextReg -= n;
+	}
+
+	protected int value(SmplValue v) {
+		values.add(v);
+		return values.size() - 1;
+	}
+
+	protected int constant(Object o) {
+		int i = constants.indexOf(o);
+		if (i < 0) {
+			constants.add(o);
+			i = constants.size() - 1;
+		}
+		return i;
+	}
+
+	/**
+	 * Compile an expression whose value is needed itself, as an operand,
+	 * a condition or the procedure of a call, say: unless it can never be
+	 * lazy, it is followed by a FORCE.
+	 */
+	protected void strict(Exp e, int dst) throws SmplException {
+		e.visit(this, dst);
+		if (!e.neverLazy())
+			emit(Op.FORCE, dst);
+	}
+
+	protected Void binary(int op, Exp l, Exp r, int dst) throws SmplException {
+		int a = alloc();
+		strict(l, a);
+		int b = alloc();
+		strict(r, b);
+		emit(op, dst, a, b);
+		free(2);
+		return null;
+	}
+
+	protected Void unary(int op, Exp e, int dst) throws SmplException {
+		int a = alloc();
+		strict(e, a);
+		emit(op, dst, a);
+		free(1);
+		return null;
+	}
+
+	/** Hand the given node to the tree walking evaluator at run time. */
+	protected Void fallback(ASTNode node, int dst) {
+		emit(Op.EVAL, dst, constant(node));
+		return null;
+	}
+
+	protected void load(String id, int depth, int index, int dst) {
+		if (index < 0)
+			emit(Op.GETNAME, dst, constant(id));
+		else if (depth == 0)
+			emit(Op.LOADL, dst, index, constant(id));
+		else
+			emit(Op.GETVAR, dst, depth, index, constant(id));
+	}
+
+	/**
+	 * Compile an expression in tail position of a procedure body: calls
+	 * marked by the Resolver become TAILCALLs.
+	 */
+	protected void compileBody(ASTNode body, int dst) throws SmplException {
+		if (body instanceof ExpProcedureCall && ((ExpProcedureCall) body).isTail()) {
+			ExpProcedureCall call = (ExpProcedureCall) body;
+			int f = alloc();
+			strict(call.getProcExp(), f);
+			int base = compileArgs(call.getArgs());
+			emit(Op.TAILCALL, f, base, call.getArgs().size());
+			free(call.getArgs().size() + 1);
+		} else if (body instanceof ExpIf || body instanceof SmplIf) {
+			Exp con, ifArg, elseArg;
+			if (body instanceof ExpIf) {
+				ExpIf e = (ExpIf) body;
+				con = e.getCondition(); ifArg = e.getIfArg(); elseArg = e.getElseArg();
+			} else {
+				SmplIf e = (SmplIf) body;
+				con = e.getCondition(); ifArg = e.getIfArg(); elseArg = e.getElseArg();
+			}
+			compileIf(con, ifArg, elseArg, dst, true);
+		} else if (body instanceof ExpCase) {
+			compileCase((ExpCase) body, dst, true);
+		} else if (body instanceof StmtLet) {
+			compileLet((StmtLet) body, dst, true);
+		} else if (body instanceof StmtSequence) {
+			ArrayList<Statement> seq = ((StmtSequence) body).getSeq();
+			for (int i = 0; i < seq.size() - 1; i++)
+				seq.get(i).visit(this, dst);
+			if (seq.isEmpty())
+				body.visit(this, dst);
+			else
+				compileBody(seq.get(seq.size() - 1), dst);
+		} else {
+			body.visit(this, dst);
+		}
+	}
+
+	protected int compileArgs(ArrayList<Exp> args) throws SmplException {
+		int base = nextReg;
+		for (Exp arg : args)
+			arg.visit(this, alloc());
+		return base;
+	}
+
+	protected void compileIf(Exp con, Exp ifArg, Exp elseArg, int dst, boolean tail) throws SmplException {
+		strict(con, dst);
+		int toElse = emitJump(Op.JMPF, dst, -1);
+		if (tail)
+			compileBody(ifArg, dst);
+		else
+			ifArg.visit(this, dst);
+		if (elseArg != null) {
+			int toEnd = emitJump(Op.JMP, -1);
+			patch(toElse);
+			if (tail)
+				compileBody(elseArg, dst);
+			else
+				elseArg.visit(this, dst);
+			patch(toEnd);
+		} else {
+			// the value of a one armed if with a false condition is the condition
+			patch(toElse);
+		}
+	}
+
+	protected boolean isElse(Exp cond) {
+		if (cond instanceof ExpVar)
+			return ((ExpVar) cond).getVar().equals("else");
+		if (cond instanceof ExpLit) {
+			SmplValue v = ((ExpLit) cond).getVal();
+			return v.getType() == SmplTypes.STRING && v.toString().equals("else");
+		}
+		return false;
+	}
+
+	protected void compileCase(ExpCase exp, int dst, boolean tail) throws SmplException {
+		ArrayList<Integer> toEnd = new ArrayList<>();
+		emit(Op.LOADK, dst, value(SmplValue.make(false)));
+		for (ExpPair c : exp.getList()) {
+			int toNext = -1;
+			if (!isElse(c.getExpL())) {
+				strict(c.getExpL(), dst);
+				toNext = emitJump(Op.JMPF, dst, -1);
+			}
+			if (tail)
+				compileBody(c.getExpR(), dst);
+			else
+				c.getExpR().visit(this, dst);
+			toEnd.add(emitJump(Op.JMP, -1));
+			if (toNext < 0)
+				break;
+			patch(toNext);
+		}
+		for (int at : toEnd)
+			patch(at);
+	}
+
+	// program
+
+	@Override
+	public Void visitSmplProgram(SmplProgram p, Integer dst) throws SmplException {
+		return p.getSeq().visit(this, dst);
+	}
+
+	// statements
+
+	@Override
+	public Void visitBinding(Binding b, Integer dst) throws SmplException {
+		return b.getValExp().visit(this, dst);
+	}
+
+	@Override
+	public Void visitStmtSequence(StmtSequence sseq, Integer dst) throws SmplException {
+		ArrayList<Statement> seq = sseq.getSeq();
+		if (seq.isEmpty())
+			emit(Op.LOADK, dst, value(SmplValue.make(0)));
+		for (ASTNode s : seq)
+			s.visit(this, dst);
+		return null;
+	}
+
+	@Override
+	public Void visitStatement(Statement s, Integer dst) throws SmplException {
+		return fallback(s, dst);
+	}
+
+	@Override
+	public Void visitStmtDefinition(StmtDefinition sd, Integer dst) throws SmplException {
+		int[] slots = sd.getSlots();
+		if (sd.getVectorRef() != null || slots == null || sd.getExps().size() != slots.length)
+			return fallback(sd, dst);
+
+		ArrayList<Exp> exps = sd.getExps();
+		for (int i = 0; i < slots.length; i++) {
+			exps.get(i).visit(this, dst);
+			emit(Op.DEFINE, slots[i], dst);
+		}
+		emit(Op.LOADK, dst, value(SmplValue.make(true)));
+		return null;
+	}
+
+	@Override
+	public Void visitStmtLet(StmtLet let, Integer dst) throws SmplException {
+		compileLet(let, dst, false);
+		return null;
+	}
+
+	protected void compileLet(StmtLet let, int dst, boolean tail) throws SmplException {
+		ArrayList<Binding> bindings = let.getBindings();
+		// evaluate the bindings in the enclosing frame
+		int base = nextReg;
+		for (Binding b : bindings)
+			b.getValExp().visit(this, alloc());
+		emit(Op.ENTER, let.getFrameSize());
+		for (int i = 0; i < bindings.size(); i++)
+			emit(Op.DEFINE, i, base + i);
+		free(bindings.size());
+		// a tail call out of the body replaces the let frame along with the rest
+		if (tail)
+			compileBody(let.getBody(), dst);
+		else
+			let.getBody().visit(this, dst);
+		emit(Op.LEAVE);
+	}
+
+	@Override
+	public Void visitPrintStmt(StmtPrint sp, Integer dst) throws SmplException {
+		sp.getExp().visit(this, dst);
+		emit(Op.PRINT, dst);
+		return null;
+	}
+
+	@Override
+	public Void visitPrintLnStmt(StmtPrintLn sp, Integer dst) throws SmplException {
+		sp.getExp().visit(this, dst);
+		emit(Op.PRINTLN, dst);
+		return null;
+	}
+
+	// expressions
+
+	@Override
+	public Void visitExp(Exp exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpAdd(ExpAdd exp, Integer dst) throws SmplException {
+		return binary(Op.ADD, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpSub(ExpSub exp, Integer dst) throws SmplException {
+		return binary(Op.SUB, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpMul(ExpMul exp, Integer dst) throws SmplException {
+		return binary(Op.MUL, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpDiv(ExpDiv exp, Integer dst) throws SmplException {
+		return binary(Op.DIV, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpMod(ExpMod exp, Integer dst) throws SmplException {
+		return binary(Op.MOD, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpPow(ExpPow exp, Integer dst) throws SmplException {
+		return binary(Op.POW, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpLit(ExpLit exp, Integer dst) throws SmplException {
+		emit(Op.LOADK, dst, value(exp.getVal()));
+		return null;
+	}
+
+	@Override
+	public Void visitExpVar(ExpVar exp, Integer dst) throws SmplException {
+		load(exp.getVar(), exp.getDepth(), exp.getIndex(), dst);
+		return null;
+	}
+
+	@Override
+	public Void visitExpProcedure(ExpProc proc, Integer dst) throws SmplException {
+		emit(Op.CLOSURE, dst, constant(compile(proc)));
+		return null;
+	}
+
+	@Override
+	public Void visitExpProcedureCall(ExpProcedureCall exp, Integer dst) throws SmplException {
+		int f = alloc();
+		strict(exp.getProcExp(), f);
+		int base = compileArgs(exp.getArgs());
+		emit(Op.CALL, dst, f, base, exp.getArgs().size());
+		free(exp.getArgs().size() + 1);
+		return null;
+	}
+
+	@Override
+	public Void visitExpPair(ExpPair exp, Integer dst) throws SmplException {
+		// the parts of a pair are not forced
+		int a = alloc();
+		exp.getExpL().visit(this, a);
+		int b = alloc();
+		exp.getExpR().visit(this, b);
+		emit(Op.PAIR, dst, a, b);
+		free(2);
+		return null;
+	}
+
+	@Override
+	public Void visitExpList(ExpList exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpVector(ExpVector exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpSubVector(ExpSubVector exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpSize(ExpSize exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpVectorRef(ExpVectorRef exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpPairCheck(ExpPairCheck exp, Integer dst) throws SmplException {
+		return unary(Op.PAIRQ, exp.getExp(), dst);
+	}
+
+	@Override
+	public Void visitExpCar(ExpCar exp, Integer dst) throws SmplException {
+		return unary(Op.CAR, exp.getExp(), dst);
+	}
+
+	@Override
+	public Void visitExpCdr(ExpCdr exp, Integer dst) throws SmplException {
+		return unary(Op.CDR, exp.getExp(), dst);
+	}
+
+	@Override
+	public Void visitExpEqual(ExpEqual exp, Integer dst) throws SmplException {
+		return binary(Op.EQ, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpGreater(ExpGreater exp, Integer dst) throws SmplException {
+		return binary(Op.GT, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpLess(ExpLess exp, Integer dst) throws SmplException {
+		return binary(Op.LT, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpLessEq(ExpLessEq exp, Integer dst) throws SmplException {
+		return binary(Op.LE, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpGreatEqe(ExpGreatEq exp, Integer dst) throws SmplException {
+		return binary(Op.GE, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpNotEqual(ExpNotEqual exp, Integer dst) throws SmplException {
+		return binary(Op.NE, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpLogicNot(ExpLogicNot exp, Integer dst) throws SmplException {
+		return unary(Op.NOT, exp.getExp(), dst);
+	}
+
+	@Override
+	public Void visitExpLogicAnd(ExpLogicAnd exp, Integer dst) throws SmplException {
+		return binary(Op.AND, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpLogicOr(ExpLogicOr exp, Integer dst) throws SmplException {
+		return binary(Op.OR, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpBitNot(ExpBitNot exp, Integer dst) throws SmplException {
+		return unary(Op.BITNOT, exp.getExp(), dst);
+	}
+
+	@Override
+	public Void visitExpBitAnd(ExpBitAnd exp, Integer dst) throws SmplException {
+		return binary(Op.BITAND, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpBitOr(ExpBitOr exp, Integer dst) throws SmplException {
+		return binary(Op.BITOR, exp.getExpL(), exp.getExpR(), dst);
+	}
+
+	@Override
+	public Void visitExpSubStr(ExpSubStr exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpConcat(ExpConcat exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpEqv(ExpEqv exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpAssign(ExpAssign exp, Integer dst) throws SmplException {
+		if (!(exp.getExpL() instanceof ExpVar))
+			return fallback(exp, dst);
+
+		ExpVar var = (ExpVar) exp.getExpL();
+		exp.getExpR().visit(this, dst);
+		if (var.isResolved())
+			emit(Op.SETVAR, var.getDepth(), var.getIndex(), dst);
+		else
+			emit(Op.SETNAME, constant(var.getVar()), dst);
+		return null;
+	}
+
+	@Override
+	public Void visitExpCall(ExpCall exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpLazy(ExpLazy exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpFuture(ExpFuture exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpPCall(ExpPCall exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpDef(ExpDef exp, Integer dst) throws SmplException {
+		exp.getExp().visit(this, dst);
+		if (exp.getSlot() >= 0)
+			emit(Op.DEFINE, exp.getSlot(), dst);
+		else
+			emit(Op.SETNAME, constant(exp.getVar()), dst);
+		return null;
+	}
+
+	@Override
+	public Void visitExpRead(ExpRead exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitExpReadInt(ExpReadInt exp, Integer dst) throws SmplException {
+		return fallback(exp, dst);
+	}
+
+	@Override
+	public Void visitSmplIf(SmplIf exp, Integer dst) throws SmplException {
+		compileIf(exp.getCondition(), exp.getIfArg(), exp.getElse() ? exp.getElseArg() : null, dst, false);
+		return null;
+	}
+
+	@Override
+	public Void visitExpIf(ExpIf exp, Integer dst) throws SmplException {
+		compileIf(exp.getCondition(), exp.getIfArg(), exp.getElse() ? exp.getElseArg() : null, dst, false);
+		return null;
+	}
+
+	@Override
+	public Void visitExpCase(ExpCase exp, Integer dst) throws SmplException {
+		compileCase(exp, dst, false);
+		return null;
+	}
+}
@@ -0,0 +1,63 @@
+package smpl.vm;
+
+/**
+ * Opcodes of the SMPL register machine.  Each instruction is an opcode
+ * followed by its operands, all stored in one <code>int[]</code>.  In
+ * the comments below R[x] is register x of the current activation, L[x]
+ * is slot x of the current frame, V[x] is entry x of the literal pool and
+ * K[x] is entry x of the constant pool.
+ */
+public final class Op {
+
+    private Op() {
+    }
+
+    public static final int LOADK = 0;      // a v       R[a] = V[v]
+    public static final int LOADL = 1;      // a i k     R[a] = L[i] (K[k] names it)
+    public static final int GETVAR = 2;     // a d i k   R[a] = slot i, d frames out
+    public static final int GETNAME = 3;    // a k       R[a] = lookup of name K[k]
+    public static final int DEFINE = 4;     // i a       L[i] = R[a]
+    public static final int SETVAR = 5;     // d i a     slot i, d frames out = R[a]
+    public static final int SETNAME = 6;    // k a       bind name K[k] to R[a]
+    public static final int MOVE = 7;       // a b       R[a] = R[b]
+
+    public static final int ADD = 8;        // a b c     R[a] = R[b] + R[c]
+    public static final int SUB = 9;
+    public static final int MUL = 10;
+    public static final int DIV = 11;
+    public static final int MOD = 12;
+    public static final int POW = 13;
+    public static final int EQ = 14;
+    public static final int NE = 15;
+    public static final int LT = 16;
+    public static final int LE = 17;
+    public static final int GT = 18;
+    public static final int GE = 19;
+    public static final int AND = 20;
+    public static final int OR = 21;
+    public static final int BITAND = 22;
+    public static final int BITOR = 23;
+    public static final int NOT = 24;       // a b       R[a] = not R[b]
+    public static final int BITNOT = 25;    // a b       R[a] = ~R[b]
+
+    public static final int JMP = 26;       // t         pc = t
+    public static final int JMPF = 27;      // a t       if R[a] is false, pc = t
+
+    public static final int CLOSURE = 28;   // a k       R[a] = procedure K[k] closed over frame
+    public static final int CALL = 29;      // a f b n   R[a] = R[f](R[b], ..., R[b+n-1])
+    public static final int TAILCALL = 30;  // f b n     return R[f](R[b], ..., R[b+n-1])
+    public static final int RET = 31;       // a         return R[a]
+
+    public static final int ENTER = 32;     // n         frame = new frame of n slots
+    public static final int LEAVE = 33;     //           frame = parent of frame
+
+    public static final int PAIR = 34;      // a b c     R[a] = pair(R[b], R[c])
+    public static final int CAR = 35;       // a b       R[a] = car(R[b])
+    public static final int CDR = 36;       // a b       R[a] = cdr(R[b])
+    public static final int PAIRQ = 37;     // a b       R[a] = pair?(R[b])
+
+    public static final int PRINT = 38;     // a         print R[a]
+    public static final int PRINTLN = 39;   // a         print R[a] and a newline
+    public static final int EVAL = 40;      // a k       R[a] = tree walk of AST K[k]
+    public static final int FORCE = 41;     // a         R[a] = value of R[a], if it is lazy
+}
@@ -0,0 +1,321 @@
+package smpl.vm;
+
+import smpl.semantics.*;
+import smpl.syntax.*;
+import smpl.sys.SmplException;
+import smpl.sys.SmplTypeException;
+import smpl.values.*;
+import java.util.*;
+
+/**
+ * The SMPL register machine.  It runs code produced by the
+ * <code>Compiler</code> in a single dispatch loop per activation, and is
+ * an alternative to evaluating a program with <code>SmplEvaluator</code>.
+ * Calls to procedures compiled for the machine run on the Java stack,
+ * except tail calls, which replace the current activation.  Anything the
+ * compiler left as an EVAL, and any procedure not created by the machine,
+ * is handed to a tree walking evaluator.
+ */
+public class SmplVM {
+
+    SmplEvaluator evaluator;
+
+    public SmplVM() {
+	this(new SmplEvaluator());
+    }
+
+    public SmplVM(SmplEvaluator evaluator) {
+	this.evaluator = evaluator;
+    }
+
+    /**
+     * Compile and run the given program in the given global environment.
+     *
+     * @return the value of the last statement of the program
+     */
+    public SmplValue run(SmplProgram p, Environment env) throws SmplException {
+	return run(Compiler.compile(p), env);
+    }
+
+    /**
+     * Run an already compiled program in the given global environment.
+     *
+     * @return the value of the last statement of the program
+     */
+    public SmplValue run(Chunk program, Environment env) throws SmplException {
+	env.ensureSlots(program.getFrameSize());
+	SmplValue result = execute(program, env);
+	evaluator.flushOutput();
+	return result;
+    }
+
+    protected SmplProcedure checkProc(SmplValue f) throws SmplException {
+	if (f.getType() != SmplTypes.PROCEDURE)
+	    throw new SmplTypeException(SmplTypes.PROCEDURE, f.getType());
+	return (SmplProcedure) f;
+    }
+
+    /**
+     * Bind n arguments, starting at register base, into a new frame for
+     * the given procedure.
+     */
+    protected Environment bind(SmplProcedure proc, SmplValue[] r, int base, int n) {
+	ExpProc exp = proc.getProcExp();
+	int p_size = exp.getParameters().size();
+	Environment frame = Frame.make(exp.getFrameSize(), proc.getClosingEnv());
+	for (int i = 0; i < p_size && i < n; i++)
+	    frame.putLocal(i, r[base + i]);
+	if (exp.getListVar() != null) {
+	    ArrayList extras = new ArrayList();
+	    for (int i = p_size; i < n; i++)
+		extras.add(r[base + i]);
+	    frame.putLocal(p_size, SmplValue.makeList(extras));
+	}
+	return frame;
+    }
+
+    protected SmplValue call(SmplValue f, SmplValue[] r, int base, int n) throws SmplException {
+	if (f instanceof VMProcedure) {
+	    VMProcedure proc = (VMProcedure) f;
+	    return execute(proc.chunk, bind(proc, r, base, n));
+	}
+	return evaluator.apply(checkProc(f), Arrays.copyOfRange(r, base, base + n));
+    }
+
+    protected SmplValue unbound(Object name) throws SmplException {
+	throw new SmplException("Unbound variable " + name);
+    }
+
+    protected SmplValue car(SmplValue v) throws SmplException {
+	SmplTypes type = v.getType();
+	if (type == SmplTypes.PAIR || type == SmplTypes.LIST)
+	    return ((SmplPair) v).getFirstValue();
+	if (type == SmplTypes.EMPTYLIST)
+	    throw new SmplException("car of the empty list");
+	throw new SmplTypeException(SmplTypes.PAIR, type);
+    }
+
+    protected SmplValue cdr(SmplValue v) throws SmplException {
+	SmplTypes type = v.getType();
+	if (type == SmplTypes.PAIR || type == SmplTypes.LIST)
+	    return ((SmplPair) v).getSecondValue();
+	if (type == SmplTypes.EMPTYLIST)
+	    throw new SmplException("cdr of the empty list");
+	throw new SmplTypeException(SmplTypes.PAIR, type);
+    }
+
+    /**
+     * Run a chunk in the given frame until it returns.
+     */
+    protected SmplValue execute(Chunk chunk, Environment frame) throws SmplException {
+	int[] code = chunk.code;
+	SmplValue[] values = chunk.values;
+	Object[] k = chunk.constants;
+	SmplValue[] r = new SmplValue[chunk.numRegs];
+	int pc = 0;
+	SmplValue v;
+
+	while (true) {
+	    switch (code[pc]) {
+	    case Op.LOADK:
+		r[code[pc + 1]] = values[code[pc + 2]];
+		pc += 3;
+		break;
+	    case Op.LOADL:
+		v = frame.getLocal(code[pc + 2]);
+		r[code[pc + 1]] = v != null ? SmplThunk.demand(v) : unbound(k[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.GETVAR:
+		v = frame.get(code[pc + 2], code[pc + 3]);
+		r[code[pc + 1]] = v != null ? SmplThunk.demand(v) : unbound(k[code[pc + 4]]);
+		pc += 5;
+		break;
+	    case Op.GETNAME:
+		r[code[pc + 1]] = SmplThunk.demand(frame.get((String) k[code[pc + 2]]));
+		pc += 3;
+		break;
+	    case Op.DEFINE:
+		frame.putLocal(code[pc + 1], r[code[pc + 2]]);
+		pc += 3;
+		break;
+	    case Op.SETVAR:
+		frame.set(code[pc + 1], code[pc + 2], r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.SETNAME:
+		frame.put((String) k[code[pc + 1]], r[code[pc + 2]]);
+		pc += 3;
+		break;
+	    case Op.MOVE:
+		r[code[pc + 1]] = r[code[pc + 2]];
+		pc += 3;
+		break;
+
+	    case Op.ADD:
+		r[code[pc + 1]] = r[code[pc + 2]].add(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.SUB:
+		r[code[pc + 1]] = r[code[pc + 2]].sub(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.MUL:
+		r[code[pc + 1]] = r[code[pc + 2]].mul(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.DIV:
+		r[code[pc + 1]] = r[code[pc + 2]].div(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.MOD:
+		r[code[pc + 1]] = r[code[pc + 2]].mod(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.POW:
+		r[code[pc + 1]] = r[code[pc + 2]].pow(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.EQ:
+		r[code[pc + 1]] = r[code[pc + 2]].eq(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.NE:
+		r[code[pc + 1]] = r[code[pc + 2]].neq(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.LT:
+		r[code[pc + 1]] = r[code[pc + 2]].lt(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.LE:
+		r[code[pc + 1]] = r[code[pc + 2]].le(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.GT:
+		r[code[pc + 1]] = r[code[pc + 2]].gt(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.GE:
+		r[code[pc + 1]] = r[code[pc + 2]].ge(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.AND:
+		r[code[pc + 1]] = r[code[pc + 2]].and(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.OR:
+		r[code[pc + 1]] = r[code[pc + 2]].or(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.BITAND:
+		r[code[pc + 1]] = r[code[pc + 2]].bitand(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.BITOR:
+		r[code[pc + 1]] = r[code[pc + 2]].bitor(r[code[pc + 3]]);
+		pc += 4;
+		break;
+	    case Op.NOT:
+		r[code[pc + 1]] = r[code[pc + 2]].not();
+		pc += 3;
+		break;
+	    case Op.BITNOT:
+		r[code[pc + 1]] = r[code[pc + 2]].bitnot();
+		pc += 3;
+		break;
+
+	    case Op.JMP:
+		pc = code[pc + 1];
+		break;
+	    case Op.JMPF:
+		pc = r[code[pc + 1]].boolValue() ? pc + 3 : code[pc + 2];
+		break;
+
+	    case Op.CLOSURE: {
+		Chunk c = (Chunk) k[code[pc + 2]];
+		r[code[pc + 1]] = new VMProcedure(c.proc, c, frame);
+		pc += 3;
+		break;
+	    }
+	    case Op.CALL:
+		r[code[pc + 1]] = call(r[code[pc + 2]], r, code[pc + 3], code[pc + 4]);
+		pc += 5;
+		break;
+	    case Op.TAILCALL: {
+		v = r[code[pc + 1]];
+		int base = code[pc + 2], n = code[pc + 3];
+		if (!(v instanceof VMProcedure))
+		    return evaluator.apply(checkProc(v), Arrays.copyOfRange(r, base, base + n));
+		// replace this activation with the callee's
+		VMProcedure proc = (VMProcedure) v;
+		frame = bind(proc, r, base, n);
+		chunk = proc.chunk;
+		code = chunk.code;
+		values = chunk.values;
+		k = chunk.constants;
+		if (r.length < chunk.numRegs)
+		    r = new SmplValue[chunk.numRegs];
+		pc = 0;
+		break;
+	    }
+	    case Op.RET:
+		return r[code[pc + 1]];
+
+	    case Op.ENTER:
+		frame = Frame.make(code[pc + 1], frame);
+		pc += 2;
+		break;
+	    case Op.LEAVE:
+		frame = frame.getParent();
+		pc += 1;
+		break;
+
+	    case Op.PAIR: {
+		SmplValue v1 = r[code[pc + 2]], v2 = r[code[pc + 3]];
+		if (v2.getType() == SmplTypes.LIST || v2.getType() == SmplTypes.EMPTYLIST)
+		    r[code[pc + 1]] = SmplValue.makeList(v1, (SmplList) v2);
+		else
+		    r[code[pc + 1]] = SmplValue.makePair(v1, v2);
+		pc += 4;
+		break;
+	    }
+	    case Op.CAR:
+		r[code[pc + 1]] = car(r[code[pc + 2]]);
+		pc += 3;
+		break;
+	    case Op.CDR:
+		r[code[pc + 1]] = cdr(r[code[pc + 2]]);
+		pc += 3;
+		break;
+	    case Op.PAIRQ: {
+		SmplTypes type = r[code[pc + 2]].getType();
+		r[code[pc + 1]] = SmplValue.make(type == SmplTypes.PAIR || type == SmplTypes.LIST
+						 || type == SmplTypes.EMPTYLIST);
+		pc += 3;
+		break;
+	    }
+
+	    case Op.PRINT:
+		evaluator.print(r[code[pc + 1]], false);
+		pc += 2;
+		break;
+	    case Op.PRINTLN:
+		evaluator.print(r[code[pc + 1]], true);
+		pc += 2;
+		break;
+	    case Op.EVAL:
+		r[code[pc + 1]] = evaluator.eval((ASTNode) k[code[pc + 2]], frame);
+		pc += 3;
+		break;
+	    case Op.FORCE:
+		r[code[pc + 1]] = SmplThunk.demand(r[code[pc + 1]]);
+		pc += 2;
+		break;
+
+	    default:
+		throw new SmplException("Bad opcode " + code[pc] + " at " + pc + " in " + chunk.name);
+	    }
+	}
+    }
+}
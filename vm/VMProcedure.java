@@ -0,0 +1,25 @@
+package smpl.vm;
+
+import smpl.semantics.Environment;
+import smpl.syntax.ExpProc;
+import smpl.values.SmplProcedure;
+
+/**
+ * A procedure created by the register machine.  It is an ordinary
+ * <code>SmplProcedure</code>, so the tree walking evaluator can still
+ * apply it, but it also carries the compiled body that the machine runs
+ * when it calls the procedure itself.
+ */
+public class VMProcedure extends SmplProcedure {
+
+    Chunk chunk;
+
+    public VMProcedure(ExpProc procExp, Chunk chunk, Environment closingEnv) {
+	super(procExp, closingEnv);
+	this.chunk = chunk;
+    }
+
+    public Chunk getChunk() {
+	return chunk;
+    }
+}